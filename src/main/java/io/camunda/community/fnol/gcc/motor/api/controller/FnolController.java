@@ -16,7 +16,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -25,7 +27,11 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/fnol")
@@ -35,9 +41,11 @@ public class FnolController {
     private static final Logger log = LoggerFactory.getLogger(FnolController.class);
 
     private final SubmitFnolUseCase submitFnolUseCase;
+    private final Validator validator;
 
-    public FnolController(SubmitFnolUseCase submitFnolUseCase) {
+    public FnolController(SubmitFnolUseCase submitFnolUseCase, Validator validator) {
         this.submitFnolUseCase = submitFnolUseCase;
+        this.validator = validator;
     }
 
     @PostMapping
@@ -49,12 +57,14 @@ public class FnolController {
                     content = @Content(schema = @Schema(implementation = FnolSubmitResponse.class))),
             @ApiResponse(responseCode = "400", description = "Validation error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Submission with the same idempotency key still in progress; retry after Retry-After seconds",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<FnolSubmitResponse> submitFnol(
             @Valid @RequestBody FnolSubmitRequest request,
-            @Parameter(description = "Idempotency key for duplicate prevention")
+            @Parameter(description = "Idempotency key for duplicate prevention; when absent, one is derived from mobile number, national ID, plate and incident date")
             @RequestHeader(value = "X-Idempotency-Key", required = false) String idempotencyKey,
             @Parameter(description = "Correlation ID for tracing")
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId
@@ -94,6 +104,72 @@ public class FnolController {
         return ResponseEntity.status(status).body(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Submit a batch of FNOLs",
+            description = "Submit several First Notices of Loss at once (fleet and broker uploads). " +
+                    "Each item carries its own idempotency key and gets its own result.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "All claims accepted (created or duplicate)",
+                    content = @Content(schema = @Schema(implementation = FnolBatchSubmitResponse.class))),
+            @ApiResponse(responseCode = "207", description = "Some claims rejected or still in progress; see per-item results",
+                    content = @Content(schema = @Schema(implementation = FnolBatchSubmitResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<FnolBatchSubmitResponse> submitFnolBatch(
+            @Valid @RequestBody FnolBatchSubmitRequest request,
+            @Parameter(description = "Correlation ID for tracing")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId
+    ) {
+        List<FnolBatchSubmitRequest.BatchItem> items = request.items();
+        log.info("Received FNOL batch submission with {} claims, correlationId: {}", items.size(), correlationId);
+
+        FnolBatchSubmitResponse.ItemResult[] results = new FnolBatchSubmitResponse.ItemResult[items.size()];
+        List<FnolSubmissionCommand> commands = new ArrayList<>();
+        List<Integer> commandIndexes = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            FnolBatchSubmitRequest.BatchItem item = items.get(i);
+            if (item == null) {
+                results[i] = FnolBatchSubmitResponse.ItemResult.rejected(i, null,
+                        List.of(new ErrorResponse.FieldError("claim", "NotNull", "Claim is required")));
+                continue;
+            }
+
+            Set<ConstraintViolation<FnolBatchSubmitRequest.BatchItem>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                results[i] = FnolBatchSubmitResponse.ItemResult.rejected(i, item.idempotencyKey(), toFieldErrors(violations));
+                continue;
+            }
+
+            try {
+                commands.add(buildCommand(item.claim(), item.idempotencyKey(), correlationId));
+                commandIndexes.add(i);
+            } catch (DateTimeParseException e) {
+                String field = e.getParsedString().equals(item.claim().incidentDate()) ? "claim.incidentDate" : "claim.incidentTime";
+                results[i] = FnolBatchSubmitResponse.ItemResult.rejected(i, item.idempotencyKey(),
+                        List.of(new ErrorResponse.FieldError(field, "INVALID_FORMAT", "Invalid date or time: " + e.getParsedString())));
+            }
+        }
+
+        FnolBatchResult batchResult = submitFnolUseCase.submitBatch(commands);
+        for (FnolBatchItemResult itemResult : batchResult.items()) {
+            int index = commandIndexes.get(itemResult.index());
+            results[index] = toItemResult(index, items.get(index).idempotencyKey(), itemResult);
+        }
+
+        FnolBatchSubmitResponse response = FnolBatchSubmitResponse.of(Arrays.asList(results));
+        HttpStatus status = response.rejected() == 0 && response.inProgress() == 0
+                ? HttpStatus.CREATED
+                : HttpStatus.MULTI_STATUS;
+
+        log.info("FNOL batch processed. Created: {}, duplicates: {}, rejected: {}, in progress: {}",
+                response.created(), response.duplicates(), response.rejected(), response.inProgress());
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping("/{fnolId}")
     @Operation(summary = "Get FNOL details", description = "Retrieve full details of an existing FNOL")
     @ApiResponses({
@@ -177,6 +253,45 @@ public class FnolController {
                 .build();
     }
 
+    /**
+     * Convert a batch item result to its response entry.
+     */
+    private FnolBatchSubmitResponse.ItemResult toItemResult(int index, String idempotencyKey,
+                                                            FnolBatchItemResult itemResult) {
+        if (itemResult.outcome() == BatchItemOutcome.REJECTED || itemResult.outcome() == BatchItemOutcome.IN_PROGRESS) {
+            List<ErrorResponse.FieldError> errors = itemResult.errors().stream()
+                    .map(error -> new ErrorResponse.FieldError(error.field(), error.code(), error.message()))
+                    .toList();
+            return itemResult.outcome() == BatchItemOutcome.REJECTED
+                    ? FnolBatchSubmitResponse.ItemResult.rejected(index, idempotencyKey, errors)
+                    : FnolBatchSubmitResponse.ItemResult.inProgress(index, idempotencyKey, errors);
+        }
+
+        FnolSubmissionResult result = itemResult.result();
+        return new FnolBatchSubmitResponse.ItemResult(
+                index,
+                idempotencyKey,
+                itemResult.outcome().name(),
+                result.fnolId(),
+                result.status(),
+                result.severityLevel(),
+                result.route(),
+                result.createdAt(),
+                null
+        );
+    }
+
+    private List<ErrorResponse.FieldError> toFieldErrors(
+            Set<ConstraintViolation<FnolBatchSubmitRequest.BatchItem>> violations) {
+        return violations.stream()
+                .map(violation -> new ErrorResponse.FieldError(
+                        violation.getPropertyPath().toString(),
+                        violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+                        violation.getMessage()
+                ))
+                .toList();
+    }
+
     /**
      * Convert status result to response DTO.
      */
@@ -186,6 +301,7 @@ public class FnolController {
                 result.status(),
                 result.severityLevel(),
                 result.route(),
+                result.processInstanceKey(),
                 result.createdAt(),
                 result.updatedAt()
         );
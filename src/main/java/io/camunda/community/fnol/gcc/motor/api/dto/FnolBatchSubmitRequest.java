@@ -0,0 +1,35 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Several claims submitted in one request. Items are validated one by one so that an
+ * invalid claim is rejected on its own instead of failing the whole batch.
+ */
+public record FnolBatchSubmitRequest(
+        @NotEmpty(message = "At least one claim is required")
+        List<BatchItem> items
+) {
+    /**
+     * One claim within the batch, with its own idempotency key.
+     */
+    public record BatchItem(
+            @Size(max = 255, message = "Idempotency key must not exceed 255 characters")
+            String idempotencyKey,
+
+            @NotNull(message = "Claim is required")
+            @Valid
+            FnolSubmitRequest claim
+    ) {}
+}
@@ -0,0 +1,70 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record FnolBatchSubmitResponse(
+        int total,
+        int created,
+        int duplicates,
+        int rejected,
+        int inProgress,
+        List<ItemResult> results
+) {
+    /**
+     * Result for one claim of the batch; {@code index} is its position in the request.
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public record ItemResult(
+            int index,
+            String idempotencyKey,
+            String outcome,
+            String fnolId,
+            String status,
+            String severityLevel,
+            String route,
+            LocalDateTime createdAt,
+            List<ErrorResponse.FieldError> errors
+    ) {
+        /**
+         * Create a result for a rejected claim.
+         */
+        public static ItemResult rejected(int index, String idempotencyKey, List<ErrorResponse.FieldError> errors) {
+            return new ItemResult(index, idempotencyKey, "REJECTED", null, null, null, null, null, errors);
+        }
+
+        /**
+         * Create a result for a claim whose idempotency key another submission still holds.
+         */
+        public static ItemResult inProgress(int index, String idempotencyKey, List<ErrorResponse.FieldError> errors) {
+            return new ItemResult(index, idempotencyKey, "IN_PROGRESS", null, null, null, null, null, errors);
+        }
+    }
+
+    /**
+     * Create a response from per-item results.
+     */
+    public static FnolBatchSubmitResponse of(List<ItemResult> results) {
+        int created = 0;
+        int duplicates = 0;
+        int rejected = 0;
+        int inProgress = 0;
+        for (ItemResult result : results) {
+            switch (result.outcome()) {
+                case "CREATED" -> created++;
+                case "DUPLICATE" -> duplicates++;
+                case "IN_PROGRESS" -> inProgress++;
+                default -> rejected++;
+            }
+        }
+        return new FnolBatchSubmitResponse(results.size(), created, duplicates, rejected, inProgress, results);
+    }
+}
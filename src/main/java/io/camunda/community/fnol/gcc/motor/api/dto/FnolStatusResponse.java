@@ -6,13 +6,17 @@
  */
 package io.camunda.community.fnol.gcc.motor.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDateTime;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record FnolStatusResponse(
         String fnolId,
         String status,
         String severityLevel,
         String route,
+        String processInstanceKey,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {}
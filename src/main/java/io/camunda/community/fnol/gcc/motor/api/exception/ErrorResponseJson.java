@@ -0,0 +1,113 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.exception;
+
+import io.camunda.community.fnol.gcc.motor.api.dto.ErrorResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes an {@link ErrorResponse} as JSON by hand, for error paths hot enough that
+ * Jackson's serializer lookup and generator setup show up. The output matches the
+ * application's {@code ObjectMapper}: fields in record order, nulls left out and the
+ * timestamp in ISO-8601 without offset.
+ */
+final class ErrorResponseJson {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private ErrorResponseJson() {
+    }
+
+    static byte[] encode(ErrorResponse response) {
+        StringBuilder json = BUFFER.get();
+        json.setLength(0);
+
+        json.append('{');
+        if (response.timestamp() != null) {
+            json.append("\"timestamp\":\"");
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(response.timestamp(), json);
+            json.append("\",");
+        }
+        json.append("\"status\":").append(response.status());
+        field(json, false, "error", response.error());
+        field(json, false, "message", response.message());
+        field(json, false, "path", response.path());
+        field(json, false, "correlationId", response.correlationId());
+        fieldErrors(json, response.fieldErrors());
+        json.append('}');
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        if (json.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return bytes;
+    }
+
+    private static void fieldErrors(StringBuilder json, List<ErrorResponse.FieldError> fieldErrors) {
+        if (fieldErrors == null) {
+            return;
+        }
+        json.append(",\"fieldErrors\":[");
+        for (int i = 0; i < fieldErrors.size(); i++) {
+            ErrorResponse.FieldError error = fieldErrors.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('{');
+            boolean first = field(json, true, "field", error.field());
+            first = field(json, first, "code", error.code());
+            field(json, first, "message", error.message());
+            json.append('}');
+        }
+        json.append(']');
+    }
+
+    /**
+     * Append a string member unless the value is null.
+     *
+     * @return whether the next member is still the first of its object
+     */
+    private static boolean field(StringBuilder json, boolean first, String name, String value) {
+        if (value == null) {
+            return first;
+        }
+        if (!first) {
+            json.append(',');
+        }
+        json.append('"').append(name).append("\":\"");
+        escape(json, value);
+        json.append('"');
+        return false;
+    }
+
+    private static void escape(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                case '\b' -> json.append("\\b");
+                case '\f' -> json.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -10,11 +10,14 @@ import io.camunda.community.fnol.gcc.motor.api.dto.ErrorResponse;
 import io.camunda.community.fnol.gcc.motor.application.exception.DuplicateSubmissionException;
 import io.camunda.community.fnol.gcc.motor.application.exception.FnolValidationException;
 import io.camunda.community.fnol.gcc.motor.application.exception.ProcessStartException;
+import io.camunda.community.fnol.gcc.motor.application.exception.SubmissionInProgressException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RestControllerAdvice
@@ -61,22 +65,21 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handle FNOL validation exceptions.
+     * Handle FNOL validation exceptions. Rejected submissions are common enough that
+     * the body is written by {@link ErrorResponseJson} rather than Jackson.
      */
     @ExceptionHandler(FnolValidationException.class)
-    public ResponseEntity<ErrorResponse> handleFnolValidationException(
+    public ResponseEntity<byte[]> handleFnolValidationException(
             FnolValidationException ex,
             HttpServletRequest request) {
 
         log.warn("FNOL validation failed: {}", ex.getMessage());
 
-        List<ErrorResponse.FieldError> fieldErrors = ex.getErrors().stream()
-                .map(error -> new ErrorResponse.FieldError(
-                        error.field(),
-                        error.code(),
-                        error.message()
-                ))
-                .toList();
+        List<FnolValidationException.ValidationError> errors = ex.getErrors();
+        List<ErrorResponse.FieldError> fieldErrors = new ArrayList<>(errors.size());
+        for (FnolValidationException.ValidationError error : errors) {
+            fieldErrors.add(new ErrorResponse.FieldError(error.field(), error.code(), error.message()));
+        }
 
         ErrorResponse response = ErrorResponse.validation(
                 ex.getMessage(),
@@ -85,7 +88,9 @@ public class GlobalExceptionHandler {
                 fieldErrors
         );
 
-        return ResponseEntity.badRequest().body(response);
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponseJson.encode(response));
     }
 
     /**
@@ -110,6 +115,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * Handle a retry that arrived while the original submission is still running.
+     */
+    @ExceptionHandler(SubmissionInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleSubmissionInProgressException(
+            SubmissionInProgressException ex,
+            HttpServletRequest request) {
+
+        log.info("Submission in progress: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.CONFLICT.value(),
+                "Submission In Progress",
+                "A submission with this idempotency key is still being processed. Please retry shortly.",
+                request.getRequestURI(),
+                getCorrelationId()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     /**
      * Handle process start exceptions.
      */
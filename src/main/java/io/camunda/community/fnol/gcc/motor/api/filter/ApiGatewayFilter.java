@@ -0,0 +1,133 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.cors.DefaultCorsProcessor;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The one servlet filter in front of the application.
+ * <p>
+ * Every request gets a correlation ID and the security headers. API requests
+ * ({@code /api/}) then go through CORS and the {@link ApiGatewayStage}s (API key
+ * validation, then rate limiting), all sharing one {@link ApiRequestContext} so the
+ * path, route group, client address and headers are parsed once.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApiGatewayFilter implements Filter {
+
+    private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+    private static final String CORRELATION_ID_MDC_KEY = "correlationId";
+    private static final String TENANT_MDC_KEY = "tenant";
+
+    private final ClientAddressResolver clientAddressResolver;
+    private final CorsConfigurationSource corsConfigurationSource;
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+    private final List<ApiGatewayStage> stages;
+    private final String apiKeyHeader;
+
+    public ApiGatewayFilter(FnolProperties fnolProperties,
+                            ClientAddressResolver clientAddressResolver,
+                            CorsConfigurationSource corsConfigurationSource,
+                            List<ApiGatewayStage> stages) {
+        this.clientAddressResolver = clientAddressResolver;
+        this.corsConfigurationSource = corsConfigurationSource;
+        this.stages = List.copyOf(stages);
+        this.apiKeyHeader = fnolProperties.security().apiKey().headerName();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        String correlationId = httpRequest.getHeader(CORRELATION_ID_HEADER);
+        if (correlationId == null || correlationId.isBlank()) {
+            correlationId = UUID.randomUUID().toString();
+        }
+        MDC.put(CORRELATION_ID_MDC_KEY, correlationId);
+        httpResponse.setHeader(CORRELATION_ID_HEADER, correlationId);
+        setSecurityHeaders(httpResponse);
+
+        try {
+            if (!httpRequest.getRequestURI().startsWith("/api/")) {
+                chain.doFilter(request, response);
+                return;
+            }
+
+            // Preflights are answered here, before any key is asked for
+            if (!corsProcessor.processRequest(corsConfigurationSource.getCorsConfiguration(httpRequest),
+                    httpRequest, httpResponse) || CorsUtils.isPreFlightRequest(httpRequest)) {
+                return;
+            }
+
+            ApiRequestContext context = new ApiRequestContext(httpRequest, clientAddressResolver,
+                    correlationId, httpRequest.getHeader(apiKeyHeader));
+            httpRequest.setAttribute(ApiRequestContext.ATTRIBUTE, context);
+            for (ApiGatewayStage stage : stages) {
+                if (!stage.apply(context, httpResponse)) {
+                    return;
+                }
+            }
+
+            if (context.tenant() != null) {
+                MDC.put(TENANT_MDC_KEY, context.tenant());
+            }
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(CORRELATION_ID_MDC_KEY);
+            MDC.remove(TENANT_MDC_KEY);
+        }
+    }
+
+    private static void setSecurityHeaders(HttpServletResponse response) {
+        // Prevent clickjacking
+        response.setHeader("X-Frame-Options", "DENY");
+
+        // Prevent MIME type sniffing
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        // Enable XSS protection
+        response.setHeader("X-XSS-Protection", "1; mode=block");
+
+        // Referrer policy
+        response.setHeader("Referrer-Policy", "strict-origin-when-cross-origin");
+
+        // Content Security Policy for API responses
+        response.setHeader("Content-Security-Policy",
+                "default-src 'none'; frame-ancestors 'none'");
+
+        // Cache control for sensitive data
+        response.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, max-age=0");
+        response.setHeader("Pragma", "no-cache");
+
+        // Permissions policy
+        response.setHeader("Permissions-Policy",
+                "geolocation=(), camera=(), microphone=()");
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * A step {@link ApiGatewayFilter} runs for every API request, in {@code @Order}.
+ */
+public interface ApiGatewayStage {
+
+    /**
+     * Check or annotate the request.
+     *
+     * @return true to go on to the next stage; false when this stage has written the
+     *         response
+     */
+    boolean apply(ApiRequestContext context, HttpServletResponse response) throws IOException;
+}
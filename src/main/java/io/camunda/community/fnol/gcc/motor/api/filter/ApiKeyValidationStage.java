@@ -0,0 +1,102 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.apikey.ApiKey;
+import io.camunda.community.fnol.gcc.motor.infrastructure.apikey.ApiKeyRegistry;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Checks the API key against {@link ApiKeyRegistry} and sets the tenant on the
+ * {@link ApiRequestContext}.
+ */
+@Component
+@Order(1)
+public class ApiKeyValidationStage implements ApiGatewayStage {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyValidationStage.class);
+
+    private static final JsonErrorBody REGISTRY_UNAVAILABLE = JsonErrorBody.of(
+            HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service Unavailable", "API key registry not available");
+    private static final JsonErrorBody MISSING_KEY = unauthorized("Missing API key");
+    private static final JsonErrorBody INVALID_KEY = unauthorized("Invalid API key");
+    private static final JsonErrorBody EXPIRED_KEY = unauthorized("API key expired");
+    private static final JsonErrorBody FORBIDDEN = JsonErrorBody.of(
+            HttpServletResponse.SC_FORBIDDEN, "Forbidden", "API key not allowed for this operation");
+
+    private final FnolProperties fnolProperties;
+    private final ApiKeyRegistry apiKeyRegistry;
+
+    public ApiKeyValidationStage(FnolProperties fnolProperties, ApiKeyRegistry apiKeyRegistry) {
+        this.fnolProperties = fnolProperties;
+        this.apiKeyRegistry = apiKeyRegistry;
+    }
+
+    @Override
+    public boolean apply(ApiRequestContext context, HttpServletResponse response) throws IOException {
+        String path = context.path();
+
+        // Skip validation for health and info endpoints
+        if (path.startsWith("/api/v1/info") || path.startsWith("/api/v1/countries")) {
+            return true;
+        }
+
+        // Check if API key validation is enabled
+        if (!fnolProperties.security().apiKey().enabled()) {
+            return true;
+        }
+
+        if (!apiKeyRegistry.isLoaded()) {
+            log.warn("API key registry not loaded yet, rejecting request");
+            REGISTRY_UNAVAILABLE.writeTo(response);
+            return false;
+        }
+
+        String providedKey = context.apiKey();
+        if (providedKey == null || providedKey.isBlank()) {
+            log.warn("API request without API key from IP: {}", context.clientAddress());
+            MISSING_KEY.writeTo(response);
+            return false;
+        }
+
+        // Keys are looked up by hash, so no comparison runs against a stored key
+        ApiKey apiKey = apiKeyRegistry.lookup(providedKey);
+        if (apiKey == null) {
+            log.warn("Invalid API key attempt from IP: {}", context.clientAddress());
+            INVALID_KEY.writeTo(response);
+            return false;
+        }
+
+        if (apiKey.isExpired(LocalDateTime.now())) {
+            log.warn("Expired API key of client {} from IP: {}", apiKey.clientId(), context.clientAddress());
+            EXPIRED_KEY.writeTo(response);
+            return false;
+        }
+
+        if (!apiKey.allows(context.routeGroup())) {
+            log.warn("API key of client {} not allowed for {} {}", apiKey.clientId(), context.method(), path);
+            FORBIDDEN.writeTo(response);
+            return false;
+        }
+
+        // The client id, not the key itself, is kept with the request
+        context.setTenant(apiKey.clientId());
+        return true;
+    }
+
+    private static JsonErrorBody unauthorized(String message) {
+        return JsonErrorBody.of(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized", message);
+    }
+}
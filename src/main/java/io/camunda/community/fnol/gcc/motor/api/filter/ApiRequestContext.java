@@ -0,0 +1,136 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.domain.enums.GccCountry;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RouteGroup;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * What {@link ApiGatewayFilter} parses from an API request, once, for all of its
+ * stages. Stored as a request attribute; the client address and country are worked
+ * out on first use, and {@link #tenant()} is set once the API key is validated.
+ */
+public final class ApiRequestContext {
+
+    /**
+     * Request attribute holding the context of an API request.
+     */
+    public static final String ATTRIBUTE = ApiRequestContext.class.getName();
+
+    private static final String FNOL_PATH_PREFIX = "/api/v1/fnol/";
+    private static final GccCountry[] COUNTRIES = GccCountry.values();
+
+    private final HttpServletRequest request;
+    private final ClientAddressResolver clientAddressResolver;
+    private final String method;
+    private final String path;
+    private final RouteGroup routeGroup;
+    private final String correlationId;
+    private final String apiKey;
+
+    private String clientAddress;
+    private GccCountry country;
+    private boolean countryParsed;
+    private String tenant;
+
+    ApiRequestContext(HttpServletRequest request, ClientAddressResolver clientAddressResolver,
+                      String correlationId, String apiKey) {
+        this.request = request;
+        this.clientAddressResolver = clientAddressResolver;
+        this.method = request.getMethod();
+        this.path = request.getRequestURI();
+        this.routeGroup = RouteGroup.of(method, path);
+        this.correlationId = correlationId;
+        this.apiKey = apiKey;
+    }
+
+    /**
+     * Context of an API request, or null outside {@code /api/} or before the gateway ran.
+     */
+    public static ApiRequestContext of(ServletRequest request) {
+        return (ApiRequestContext) request.getAttribute(ATTRIBUTE);
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public RouteGroup routeGroup() {
+        return routeGroup;
+    }
+
+    public String correlationId() {
+        return correlationId;
+    }
+
+    /**
+     * API key header as presented, or null.
+     */
+    public String apiKey() {
+        return apiKey;
+    }
+
+    /**
+     * Client address, with {@code X-Forwarded-For} believed only from trusted proxies.
+     */
+    public String clientAddress() {
+        if (clientAddress == null) {
+            clientAddress = clientAddressResolver.resolve(request);
+        }
+        return clientAddress;
+    }
+
+    /**
+     * Country of the FNOL addressed by the path, from the country segment of its id
+     * ({@code FNOL-AE-2026-000001}); null when the path doesn't carry one.
+     */
+    public GccCountry country() {
+        if (!countryParsed) {
+            country = parseCountry(path);
+            countryParsed = true;
+        }
+        return country;
+    }
+
+    /**
+     * Client id of the validated API key; null when no key was checked.
+     */
+    public String tenant() {
+        return tenant;
+    }
+
+    void setTenant(String tenant) {
+        this.tenant = tenant;
+    }
+
+    private static GccCountry parseCountry(String path) {
+        if (!path.startsWith(FNOL_PATH_PREFIX)) {
+            return null;
+        }
+        int start = FNOL_PATH_PREFIX.length();
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int dash = path.indexOf('-', start);
+        if (dash < 0 || dash + 3 >= end || path.charAt(dash + 3) != '-') {
+            return null;
+        }
+        for (GccCountry country : COUNTRIES) {
+            if (path.regionMatches(dash + 1, country.name(), 0, 2)) {
+                return country;
+            }
+        }
+        return null;
+    }
+}
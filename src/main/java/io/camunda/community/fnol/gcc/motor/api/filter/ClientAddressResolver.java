@@ -0,0 +1,157 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the client address of a request.
+ * <p>
+ * {@code X-Forwarded-For} is read right to left, starting from the connecting
+ * address, and only while the hop is one of {@code fnol.security.trusted-proxies}.
+ * The first untrusted hop is the client; anything a client writes further left is
+ * ignored, so it cannot choose its own identity.
+ */
+@Component
+public class ClientAddressResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final int MAX_ADDRESS_LENGTH = 45;
+
+    private final List<Cidr> trustedProxies;
+
+    public ClientAddressResolver(FnolProperties fnolProperties) {
+        this.trustedProxies = new ArrayList<>();
+        for (String proxy : fnolProperties.security().trustedProxies()) {
+            trustedProxies.add(Cidr.parse(proxy.trim()));
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrusted(address)) {
+            return address;
+        }
+
+        int end = forwardedFor.length();
+        while (end > 0 && isTrusted(address)) {
+            int start = forwardedFor.lastIndexOf(',', end - 1);
+            String hop = forwardedFor.substring(start + 1, end).trim();
+            end = Math.max(start, 0);
+            if (!hop.isEmpty()) {
+                address = hop.length() > MAX_ADDRESS_LENGTH ? hop.substring(0, MAX_ADDRESS_LENGTH) : hop;
+            }
+        }
+        return address;
+    }
+
+    private boolean isTrusted(String address) {
+        byte[] bytes = Cidr.toBytes(address);
+        if (bytes == null) {
+            return false;
+        }
+        for (Cidr proxy : trustedProxies) {
+            if (proxy.contains(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An IPv4 or IPv6 network; a plain address is a /32 or /128.
+     */
+    record Cidr(byte[] network, int prefixLength) {
+
+        static Cidr parse(String value) {
+            int slash = value.indexOf('/');
+            byte[] network = toBytes(slash < 0 ? value : value.substring(0, slash));
+            if (network == null) {
+                throw new IllegalArgumentException("Invalid trusted proxy: " + value);
+            }
+            int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("Invalid prefix length in trusted proxy: " + value);
+            }
+            return new Cidr(network, prefixLength);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+
+        /**
+         * Parse an IP literal without ever doing a DNS lookup; null if it isn't one.
+         */
+        static byte[] toBytes(String address) {
+            if (address == null || address.isEmpty() || address.length() > MAX_ADDRESS_LENGTH) {
+                return null;
+            }
+            if (address.indexOf(':') < 0) {
+                return ipv4ToBytes(address);
+            }
+            for (int i = 0; i < address.length(); i++) {
+                char c = address.charAt(i);
+                if (Character.digit(c, 16) < 0 && c != '.' && c != ':') {
+                    return null;
+                }
+            }
+            try {
+                // Contains ':', so it is only ever parsed as an IPv6 literal
+                return InetAddress.getByName(address).getAddress();
+            } catch (UnknownHostException e) {
+                return null;
+            }
+        }
+
+        private static byte[] ipv4ToBytes(String address) {
+            byte[] bytes = new byte[4];
+            int part = 0;
+            int value = -1;
+            for (int i = 0; i <= address.length(); i++) {
+                char c = i < address.length() ? address.charAt(i) : '.';
+                if (c == '.') {
+                    if (value < 0 || part == 4) {
+                        return null;
+                    }
+                    bytes[part++] = (byte) value;
+                    value = -1;
+                } else if (c >= '0' && c <= '9') {
+                    value = (value < 0 ? 0 : value * 10) + (c - '0');
+                    if (value > 255) {
+                        return null;
+                    }
+                } else {
+                    return null;
+                }
+            }
+            return part == 4 ? bytes : null;
+        }
+    }
+}
@@ -1,49 +0,0 @@
-/*
- * GCC Motor FNOL Starter Kit
- * Copyright 2025 G. Ganesh Kumar | Solution Architect
- * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
- * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
- */
-package io.camunda.community.fnol.gcc.motor.api.filter;
-
-import jakarta.servlet.*;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.MDC;
-import org.springframework.core.Ordered;
-import org.springframework.core.annotation.Order;
-import org.springframework.stereotype.Component;
-
-import java.io.IOException;
-import java.util.UUID;
-
-@Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
-public class CorrelationIdFilter implements Filter {
-
-    private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
-    private static final String MDC_KEY = "correlationId";
-
-    @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
-
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
-
-        String correlationId = httpRequest.getHeader(CORRELATION_ID_HEADER);
-
-        if (correlationId == null || correlationId.isBlank()) {
-            correlationId = UUID.randomUUID().toString();
-        }
-
-        MDC.put(MDC_KEY, correlationId);
-        httpResponse.setHeader(CORRELATION_ID_HEADER, correlationId);
-
-        try {
-            chain.doFilter(request, response);
-        } finally {
-            MDC.remove(MDC_KEY);
-        }
-    }
-}
@@ -0,0 +1,66 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON error response encoded once and written as bytes, so rejecting a request
+ * formats nothing and allocates nothing beyond what the container needs.
+ */
+final class JsonErrorBody {
+
+    private static final String CONTENT_TYPE = "application/json";
+
+    // Decimal strings for header values, which are almost always small
+    private static final String[] DECIMALS = new String[1025];
+
+    static {
+        for (int i = 0; i < DECIMALS.length; i++) {
+            DECIMALS[i] = Integer.toString(i);
+        }
+    }
+
+    private final int status;
+    private final byte[] body;
+
+    private JsonErrorBody(int status, byte[] body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    /**
+     * Encode {@code {"status":..,"error":..,"message":..}}.
+     */
+    static JsonErrorBody of(int status, String error, String message) {
+        String json = "{\"status\":" + status
+                + ",\"error\":\"" + escape(error)
+                + "\",\"message\":\"" + escape(message) + "\"}";
+        return new JsonErrorBody(status, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Decimal string of a header value, cached for values up to 1024.
+     */
+    static String decimal(long value) {
+        return value >= 0 && value < DECIMALS.length ? DECIMALS[(int) value] : Long.toString(value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RateLimitBucketStore;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RateLimitPolicies;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RateLimitPolicy;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RouteGroup;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits API requests per client and route group, with the limit chosen by
+ * {@link RateLimitPolicies}. Responses carry {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining}, {@code RateLimit-Reset} and {@code RateLimit-Policy}.
+ * <p>
+ * Under a flood of rejections the 429 path is the busiest code in the service, so
+ * its bodies are pre-encoded and rejections are counted in
+ * {@code fnol.rate_limit.rejections} rather than logged one by one.
+ */
+@Component
+@Order(2)
+public class RateLimitingStage implements ApiGatewayStage {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitingStage.class);
+
+    // 429 bodies by Retry-After seconds; per-minute limits never wait longer
+    private static final JsonErrorBody[] TOO_MANY_REQUESTS = new JsonErrorBody[121];
+
+    static {
+        for (int seconds = 0; seconds < TOO_MANY_REQUESTS.length; seconds++) {
+            TOO_MANY_REQUESTS[seconds] = tooManyRequests(seconds);
+        }
+    }
+
+    private final FnolProperties fnolProperties;
+    private final RateLimitBucketStore bucketStore;
+    private final RateLimitPolicies policies;
+    private final Counter[] rejections;
+
+    public RateLimitingStage(FnolProperties fnolProperties,
+                             RateLimitBucketStore bucketStore,
+                             RateLimitPolicies policies,
+                             MeterRegistry meterRegistry) {
+        this.fnolProperties = fnolProperties;
+        this.bucketStore = bucketStore;
+        this.policies = policies;
+        this.rejections = new Counter[RouteGroup.values().length];
+        for (RouteGroup group : RouteGroup.values()) {
+            rejections[group.ordinal()] = Counter.builder("fnol.rate_limit.rejections")
+                    .description("Requests rejected with 429 by route group")
+                    .tag("routes", group.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public boolean apply(ApiRequestContext context, HttpServletResponse response) throws IOException {
+        // Check if rate limiting is enabled
+        if (!fnolProperties.security().rateLimit().enabled()) {
+            return true;
+        }
+
+        // Use the API key once validated (an unchecked header would let clients mint
+        // identities), otherwise the client IP
+        String client = context.tenant();
+        RouteGroup group = context.routeGroup();
+        RateLimitPolicy policy = policies.resolve(client, group, group == RouteGroup.READ ? context.country() : null);
+
+        // One bucket per client, route group and policy: a changed limit starts new buckets
+        String clientId = (client != null ? "key:" + client : "ip:" + context.clientAddress())
+                + "|" + group + "|" + policy.id();
+        ConsumptionProbe probe;
+        try {
+            probe = bucketStore.bucket(clientId, policy.configuration()).tryConsumeAndReturnRemaining(1);
+        } catch (RuntimeException e) {
+            // Shared store unreachable: let the request through rather than fail every call
+            log.warn("Rate limit check failed for client {}: {}", clientId, e.getMessage());
+            return true;
+        }
+
+        String remaining = JsonErrorBody.decimal(probe.getRemainingTokens());
+        response.setHeader("RateLimit-Limit", JsonErrorBody.decimal(policy.burst()));
+        response.setHeader("RateLimit-Remaining", remaining);
+        response.setHeader("RateLimit-Reset", JsonErrorBody.decimal(toSeconds(probe.getNanosToWaitForReset())));
+        response.setHeader("RateLimit-Policy", policy.header());
+        // Kept for clients that read the pre-standard header
+        response.setHeader("X-RateLimit-Remaining", remaining);
+
+        if (!probe.isConsumed()) {
+            rejections[group.ordinal()].increment();
+            log.debug("Rate limit exceeded for client: {}", clientId);
+            long retryAfter = Math.max(1, toSeconds(probe.getNanosToWaitForRefill()));
+            response.setHeader("Retry-After", JsonErrorBody.decimal(retryAfter));
+            JsonErrorBody body = retryAfter < TOO_MANY_REQUESTS.length
+                    ? TOO_MANY_REQUESTS[(int) retryAfter]
+                    : tooManyRequests(retryAfter);
+            body.writeTo(response);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static long toSeconds(long nanos) {
+        return TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1);
+    }
+
+    private static JsonErrorBody tooManyRequests(long retryAfterSeconds) {
+        return JsonErrorBody.of(429, "Too Many Requests",
+                "Rate limit exceeded. Please retry after " + retryAfterSeconds + " seconds.");
+    }
+}
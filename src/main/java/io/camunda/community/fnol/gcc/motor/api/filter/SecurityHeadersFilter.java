@@ -1,56 +0,0 @@
-/*
- * GCC Motor FNOL Starter Kit
- * Copyright 2025 G. Ganesh Kumar | Solution Architect
- * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
- * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
- */
-package io.camunda.community.fnol.gcc.motor.api.filter;
-
-import jakarta.servlet.Filter;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
-import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.core.annotation.Order;
-import org.springframework.stereotype.Component;
-
-import java.io.IOException;
-
-@Component
-@Order(0)
-public class SecurityHeadersFilter implements Filter {
-
-    @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
-
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
-
-        // Prevent clickjacking
-        httpResponse.setHeader("X-Frame-Options", "DENY");
-
-        // Prevent MIME type sniffing
-        httpResponse.setHeader("X-Content-Type-Options", "nosniff");
-
-        // Enable XSS protection
-        httpResponse.setHeader("X-XSS-Protection", "1; mode=block");
-
-        // Referrer policy
-        httpResponse.setHeader("Referrer-Policy", "strict-origin-when-cross-origin");
-
-        // Content Security Policy for API responses
-        httpResponse.setHeader("Content-Security-Policy",
-                "default-src 'none'; frame-ancestors 'none'");
-
-        // Cache control for sensitive data
-        httpResponse.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, max-age=0");
-        httpResponse.setHeader("Pragma", "no-cache");
-
-        // Permissions policy
-        httpResponse.setHeader("Permissions-Policy",
-                "geolocation=(), camera=(), microphone=()");
-
-        chain.doFilter(request, response);
-    }
-}
@@ -0,0 +1,18 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.exception;
+
+/**
+ * Thrown when a process start is refused locally because the in-flight window is
+ * full. Nothing was sent to Zeebe, so the start can safely be retried.
+ */
+public class ProcessStartRejectedException extends ProcessStartException {
+
+    public ProcessStartRejectedException(String fnolId, int maxInFlight) {
+        super(fnolId, "Process start window full (" + maxInFlight + " in flight)");
+    }
+}
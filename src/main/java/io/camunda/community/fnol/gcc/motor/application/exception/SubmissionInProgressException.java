@@ -0,0 +1,40 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.exception;
+
+/**
+ * Another submission with the same idempotency key is still being processed.
+ */
+public class SubmissionInProgressException extends RuntimeException {
+
+    private final String idempotencyKey;
+    private final int retryAfterSeconds;
+
+    public SubmissionInProgressException(String idempotencyKey, int retryAfterSeconds) {
+        super("A submission with idempotency key " + idempotencyKey + " is still in progress");
+        this.idempotencyKey = idempotencyKey;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Get the idempotency key being processed.
+     *
+     * @return idempotency key
+     */
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * Get how long the client should wait before retrying.
+     *
+     * @return seconds to wait
+     */
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -6,6 +6,8 @@
  */
 package io.camunda.community.fnol.gcc.motor.application.port.in;
 
+import io.camunda.community.fnol.gcc.motor.application.exception.FnolValidationException.ValidationError;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -15,13 +17,24 @@ import java.util.Optional;
 public interface SubmitFnolUseCase {
 
     /**
-     * Submit a new FNOL case.
+     * Submit a new FNOL case. The process instance is started asynchronously after
+     * the case is committed, so the result normally has no process instance key yet.
      *
      * @param command the submit command containing all FNOL data
      * @return result containing FNOL ID and process status
      */
     FnolSubmissionResult submit(FnolSubmissionCommand command);
 
+    /**
+     * Submit several FNOL cases at once. Every item is checked for idempotency and
+     * validated before anything is written; invalid items are reported individually and
+     * the remaining ones are stored together.
+     *
+     * @param commands the submit commands, one per claim
+     * @return one result per command, in the same order
+     */
+    FnolBatchResult submitBatch(List<FnolSubmissionCommand> commands);
+
     /**
      * Get the status of an existing FNOL case.
      *
@@ -308,6 +321,57 @@ public interface SubmitFnolUseCase {
             boolean isDuplicate
     ) {}
 
+    /**
+     * Outcome of one item in a batch submission.
+     */
+    enum BatchItemOutcome {
+        CREATED,
+        DUPLICATE,
+        REJECTED,
+        /** Another submission holds the item's idempotency key; retry the item later. */
+        IN_PROGRESS
+    }
+
+    /**
+     * Result of one item in a batch submission. {@code result} is set for created and
+     * duplicate items, {@code errors} for rejected and in-progress ones.
+     */
+    record FnolBatchItemResult(
+            int index,
+            BatchItemOutcome outcome,
+            FnolSubmissionResult result,
+            List<ValidationError> errors
+    ) {
+        public static FnolBatchItemResult created(int index, FnolSubmissionResult result) {
+            return new FnolBatchItemResult(index, BatchItemOutcome.CREATED, result, List.of());
+        }
+
+        public static FnolBatchItemResult duplicate(int index, FnolSubmissionResult result) {
+            return new FnolBatchItemResult(index, BatchItemOutcome.DUPLICATE, result, List.of());
+        }
+
+        public static FnolBatchItemResult rejected(int index, List<ValidationError> errors) {
+            return new FnolBatchItemResult(index, BatchItemOutcome.REJECTED, null, errors);
+        }
+
+        public static FnolBatchItemResult inProgress(int index) {
+            return new FnolBatchItemResult(index, BatchItemOutcome.IN_PROGRESS, null, List.of(ValidationError.of(
+                    "idempotencyKey", "SUBMISSION_IN_PROGRESS",
+                    "A submission with this idempotency key is still being processed")));
+        }
+    }
+
+    /**
+     * Result of a batch submission.
+     */
+    record FnolBatchResult(
+            List<FnolBatchItemResult> items
+    ) {
+        public long count(BatchItemOutcome outcome) {
+            return items.stream().filter(item -> item.outcome() == outcome).count();
+        }
+    }
+
     /**
      * Status result for an existing FNOL.
      */
@@ -316,6 +380,7 @@ public interface SubmitFnolUseCase {
             String status,
             String severityLevel,
             String route,
+            String processInstanceKey,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {}
@@ -6,8 +6,11 @@
  */
 package io.camunda.community.fnol.gcc.motor.application.port.out;
 
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolStatusResult;
 import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FnolRepositoryPort {
@@ -20,6 +23,14 @@ public interface FnolRepositoryPort {
      */
     MotorFnolCase save(MotorFnolCase fnolCase);
 
+    /**
+     * Save several FNOL cases in one unit of work.
+     *
+     * @param fnolCases the cases to save
+     * @return saved cases, in the same order
+     */
+    List<MotorFnolCase> saveAll(List<MotorFnolCase> fnolCases);
+
     /**
      * Find an FNOL case by its ID.
      *
@@ -28,6 +39,32 @@ public interface FnolRepositoryPort {
      */
     Optional<MotorFnolCase> findByFnolId(String fnolId);
 
+    /**
+     * Find an FNOL case by its ID, including its attachments.
+     * {@link #findByFnolId(String)} leaves attachments out.
+     *
+     * @param fnolId the FNOL ID
+     * @return Optional containing the case if found
+     */
+    Optional<MotorFnolCase> findDetailByFnolId(String fnolId);
+
+    /**
+     * Find several FNOL cases by ID, including their attachments, in one round trip.
+     * IDs without a case are left out.
+     *
+     * @param fnolIds the FNOL IDs
+     * @return the cases found, in no particular order
+     */
+    List<MotorFnolCase> findDetailsByFnolIds(Collection<String> fnolIds);
+
+    /**
+     * Find only the status fields of an FNOL, without loading the case.
+     *
+     * @param fnolId the FNOL ID
+     * @return Optional containing the status if found
+     */
+    Optional<FnolStatusResult> findStatusByFnolId(String fnolId);
+
     /**
      * Check if an FNOL exists with the given ID.
      *
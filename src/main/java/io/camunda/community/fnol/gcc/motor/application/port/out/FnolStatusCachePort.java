@@ -0,0 +1,32 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.port.out;
+
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolStatusResult;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+public interface FnolStatusCachePort {
+
+    /**
+     * Get the status of an FNOL, loading it on a miss. Unknown FNOLs are not cached.
+     *
+     * @param fnolId the FNOL ID
+     * @param loader reads the status when it is not cached
+     * @return Optional containing the status if the FNOL exists
+     */
+    Optional<FnolStatusResult> get(String fnolId, Function<String, Optional<FnolStatusResult>> loader);
+
+    /**
+     * Drop the cached status of an FNOL. Inside a transaction the entry is dropped
+     * once it commits.
+     *
+     * @param fnolId the FNOL ID
+     */
+    void invalidate(String fnolId);
+}
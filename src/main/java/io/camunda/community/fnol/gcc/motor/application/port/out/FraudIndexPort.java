@@ -0,0 +1,31 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.port.out;
+
+import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
+
+import java.util.List;
+
+public interface FraudIndexPort {
+
+    /**
+     * Add a saved case to the fraud indexes. Inside a transaction the case is added
+     * once it commits.
+     *
+     * @param fnolCase the saved FNOL case
+     */
+    void recordSubmitted(MotorFnolCase fnolCase);
+
+    /**
+     * Add several saved cases at once.
+     *
+     * @param fnolCases the saved FNOL cases
+     */
+    default void recordSubmittedAll(List<MotorFnolCase> fnolCases) {
+        fnolCases.forEach(this::recordSubmitted);
+    }
+}
@@ -22,4 +22,49 @@ public interface IdSequencePort {
      * @return next available sequence number
      */
     long nextValue(String sequenceName);
+
+    /**
+     * Reserve several values of a named sequence at once, e.g. for a batch submission.
+     * Implementations should need a single round trip regardless of {@code count}.
+     *
+     * @param sequenceName the sequence name
+     * @param count        number of values to reserve
+     * @return the reserved values in ascending order
+     */
+    default long[] nextValues(String sequenceName, int count) {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = nextValue(sequenceName);
+        }
+        return values;
+    }
+
+    /**
+     * Whether values must be drawn inside the transaction that uses them, e.g. because
+     * a row lock held until commit keeps the numbering gap-free. Otherwise callers draw
+     * values before opening their transaction: reserving new values may take a
+     * connection of its own, which a caller already holding one must not wait for.
+     *
+     * @return true to draw values inside the caller's transaction
+     */
+    default boolean drawsInCallerTransaction() {
+        return false;
+    }
+
+    /**
+     * Prepare a named sequence ahead of its first use (e.g. next year's sequences
+     * shortly before the year rolls over), so the first claim does not pay for it.
+     *
+     * @param sequenceName the sequence name
+     */
+    default void prefetch(String sequenceName) {
+    }
+
+    /**
+     * Drop any values held in memory for a sequence that will not be used again.
+     *
+     * @param sequenceName the sequence name
+     */
+    default void release(String sequenceName) {
+    }
 }
@@ -6,6 +6,7 @@
  */
 package io.camunda.community.fnol.gcc.motor.application.port.out;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 
@@ -20,19 +21,67 @@ public interface IdempotencyPort {
     Optional<String> findFnolIdByKey(String hashedKey);
 
     /**
-     * Save an idempotency key with its associated FNOL ID.
+     * Atomically reserve an idempotency key before any work is done for it. Called
+     * outside a transaction, so concurrent submissions see the reservation immediately.
      *
      * @param hashedKey the hashed idempotency key
-     * @param fnolId    the FNOL ID
      * @param expiresAt when the key should expire
+     * @param lease     how long an unfinished reservation holds the key before it may
+     *                  be taken over
+     * @return whether the key was claimed, or the state of the existing record
+     */
+    Claim claim(String hashedKey, Instant expiresAt, Duration lease);
+
+    /**
+     * Mark a claimed key as used by the created FNOL, in the caller's transaction.
+     *
+     * @param hashedKey the hashed idempotency key
+     * @param fnolId    the FNOL ID
+     * @param expiresAt how long the mapping may be cached; the stored expiry is the
+     *                  one set by the claim
      */
-    void save(String hashedKey, String fnolId, Instant expiresAt);
+    void complete(String hashedKey, String fnolId, Instant expiresAt);
 
     /**
-     * Delete expired idempotency records.
+     * Drop a claim whose submission did not commit.
+     *
+     * @param hashedKey the hashed idempotency key
+     */
+    void release(String hashedKey);
+
+    /**
+     * Delete expired idempotency records. On a partitioned table, whole partitions
+     * are dropped once all their keys have expired, and future ones are created.
      *
      * @param before delete records that expired before this instant
-     * @return number of records deleted
+     * @return number of records deleted (estimated for dropped partitions)
      */
     int deleteExpired(Instant before);
+
+    enum ClaimStatus {
+        /** The caller now owns the key. */
+        CLAIMED,
+        /** Another submission already created an FNOL for the key. */
+        COMPLETED,
+        /** Another submission holds the key and has not committed yet. */
+        IN_PROGRESS
+    }
+
+    /**
+     * Result of {@link #claim(String, Instant, Duration)}; {@code fnolId} is set for COMPLETED only.
+     */
+    record Claim(ClaimStatus status, String fnolId) {
+
+        public static Claim claimed() {
+            return new Claim(ClaimStatus.CLAIMED, null);
+        }
+
+        public static Claim completed(String fnolId) {
+            return new Claim(ClaimStatus.COMPLETED, fnolId);
+        }
+
+        public static Claim inProgress() {
+            return new Claim(ClaimStatus.IN_PROGRESS, null);
+        }
+    }
 }
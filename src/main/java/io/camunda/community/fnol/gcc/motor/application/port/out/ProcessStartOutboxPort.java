@@ -0,0 +1,31 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.port.out;
+
+import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
+
+import java.util.List;
+
+public interface ProcessStartOutboxPort {
+
+    /**
+     * Record that a process instance must be started for the case. The entry is
+     * written in the caller's transaction and dispatched after it commits.
+     *
+     * @param fnolCase the saved FNOL case
+     */
+    void enqueue(MotorFnolCase fnolCase);
+
+    /**
+     * Record process starts for several cases at once; dispatched together after commit.
+     *
+     * @param fnolCases the saved FNOL cases
+     */
+    default void enqueueAll(List<MotorFnolCase> fnolCases) {
+        fnolCases.forEach(this::enqueue);
+    }
+}
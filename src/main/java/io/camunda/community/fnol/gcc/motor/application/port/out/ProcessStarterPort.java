@@ -8,6 +8,8 @@ package io.camunda.community.fnol.gcc.motor.application.port.out;
 
 import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ProcessStarterPort {
 
     /**
@@ -17,4 +19,21 @@ public interface ProcessStarterPort {
      * @return process instance key
      */
     String startFnolProcess(MotorFnolCase fnolCase);
+
+    /**
+     * Start a new FNOL process instance without blocking the caller.
+     * Implementations keep a bounded number of commands in flight and complete the
+     * future exceptionally with a {@code ProcessStartRejectedException} when the
+     * window stays full.
+     *
+     * @param fnolCase the FNOL case data to pass as process variable
+     * @return future completed with the process instance key
+     */
+    default CompletableFuture<String> startFnolProcessAsync(MotorFnolCase fnolCase) {
+        try {
+            return CompletableFuture.completedFuture(startFnolProcess(fnolCase));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
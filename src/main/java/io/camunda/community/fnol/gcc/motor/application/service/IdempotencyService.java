@@ -6,18 +6,17 @@
  */
 package io.camunda.community.fnol.gcc.motor.application.service;
 
-import io.camunda.community.fnol.gcc.motor.application.exception.DuplicateSubmissionException;
+import io.camunda.community.fnol.gcc.motor.application.exception.SubmissionInProgressException;
 import io.camunda.community.fnol.gcc.motor.application.port.out.IdempotencyPort;
+import io.camunda.community.fnol.gcc.motor.application.port.out.IdempotencyPort.Claim;
+import io.camunda.community.fnol.gcc.motor.application.port.out.IdempotencyPort.ClaimStatus;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HexFormat;
 import java.util.Optional;
 
 @Service
@@ -25,75 +24,98 @@ public class IdempotencyService {
 
     private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
     private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    private static final long CLAIM_POLL_MS = 50;
+    private static final int IN_PROGRESS_RETRY_AFTER_SECONDS = 1;
 
     private final IdempotencyPort idempotencyPort;
+    private final long claimWaitMs;
+    private final Duration claimLease;
 
-    public IdempotencyService(IdempotencyPort idempotencyPort) {
+    public IdempotencyService(IdempotencyPort idempotencyPort, FnolProperties fnolProperties) {
         this.idempotencyPort = idempotencyPort;
+        this.claimWaitMs = fnolProperties.idempotency().claimWaitMs();
+        this.claimLease = Duration.ofSeconds(fnolProperties.idempotency().claimLeaseSeconds());
     }
 
     /**
-     * Check if an idempotency key exists and register it if not.
-     * If the key already exists, throws DuplicateSubmissionException with the existing FNOL ID.
+     * Reserve an idempotency key before any work is done for the submission. Call
+     * outside a transaction so the claim is visible at once. If a concurrent submission
+     * holds the key, waits up to {@code claim-wait-ms} for it to finish.
      *
      * @param idempotencyKey the idempotency key from the client
-     * @throws DuplicateSubmissionException if the key already exists
+     * @return empty if the key was claimed, otherwise the FNOL ID already created for it
+     * @throws SubmissionInProgressException if the other submission is still running
      */
-    public void checkAndRegister(String idempotencyKey) {
-        if (idempotencyKey == null || idempotencyKey.isBlank()) {
-            log.debug("No idempotency key provided, skipping idempotency check");
-            return;
-        }
-
+    public Optional<String> claim(String idempotencyKey) {
         String hashedKey = hashKey(idempotencyKey);
-        Optional<String> existingFnolId = idempotencyPort.findFnolIdByKey(hashedKey);
+        Optional<String> existing = idempotencyPort.findFnolIdByKey(hashedKey);
+        if (existing.isPresent()) {
+            return existing;
+        }
 
-        if (existingFnolId.isPresent()) {
-            log.info("Duplicate submission detected for idempotency key (hash: {}), existing FNOL: {}",
-                    hashedKey.substring(0, 8) + "...", existingFnolId.get());
-            throw new DuplicateSubmissionException(idempotencyKey, existingFnolId.get());
+        long deadline = System.currentTimeMillis() + claimWaitMs;
+        while (true) {
+            Claim claim = idempotencyPort.claim(hashedKey, Instant.now().plus(DEFAULT_TTL), claimLease);
+            if (claim.status() == ClaimStatus.CLAIMED) {
+                return Optional.empty();
+            }
+            if (claim.status() == ClaimStatus.COMPLETED) {
+                return Optional.of(claim.fnolId());
+            }
+            if (System.currentTimeMillis() >= deadline || !pause()) {
+                log.info("Submission for idempotency key (hash: {}...) still in progress", hashedKey.substring(0, 8));
+                throw new SubmissionInProgressException(idempotencyKey, IN_PROGRESS_RETRY_AFTER_SECONDS);
+            }
         }
+    }
 
-        log.debug("Idempotency key registered (hash: {}...)", hashedKey.substring(0, 8));
+    /**
+     * Reserve an idempotency key like {@link #claim(String)}, but without waiting for a
+     * concurrent submission that holds it. Batches use this to report such an item on
+     * its own instead of holding up every other item.
+     *
+     * @param idempotencyKey the idempotency key from the client
+     * @return CLAIMED, COMPLETED with the FNOL ID already created for the key, or IN_PROGRESS
+     */
+    public Claim tryClaim(String idempotencyKey) {
+        String hashedKey = hashKey(idempotencyKey);
+        Optional<String> existing = idempotencyPort.findFnolIdByKey(hashedKey);
+        if (existing.isPresent()) {
+            return Claim.completed(existing.get());
+        }
+        return idempotencyPort.claim(hashedKey, Instant.now().plus(DEFAULT_TTL), claimLease);
     }
 
     /**
-     * Register an idempotency key with its associated FNOL ID.
-     * Call this after successfully creating an FNOL case.
+     * Record the FNOL created for a key claimed with {@link #claim(String)} or
+     * {@link #tryClaim(String)}.
      *
      * @param idempotencyKey the idempotency key
      * @param fnolId         the generated FNOL ID
      */
-    public void register(String idempotencyKey, String fnolId) {
-        if (idempotencyKey == null || idempotencyKey.isBlank()) {
-            return;
-        }
-
-        String hashedKey = hashKey(idempotencyKey);
-        Instant expiresAt = Instant.now().plus(DEFAULT_TTL);
-
-        idempotencyPort.save(hashedKey, fnolId, expiresAt);
-        log.debug("Idempotency key saved for FNOL {}", fnolId);
+    public void complete(String idempotencyKey, String fnolId) {
+        idempotencyPort.complete(hashKey(idempotencyKey), fnolId, Instant.now().plus(DEFAULT_TTL));
+        log.debug("Idempotency key completed for FNOL {}", fnolId);
     }
 
     /**
-     * Check if an idempotency key exists and return the associated FNOL ID if it does.
+     * Give up a claimed key when the submission failed, so the client can retry with it.
      *
      * @param idempotencyKey the idempotency key
-     * @return Optional containing the FNOL ID if the key exists
      */
-    public Optional<String> findExisting(String idempotencyKey) {
-        if (idempotencyKey == null || idempotencyKey.isBlank()) {
-            return Optional.empty();
+    public void release(String idempotencyKey) {
+        try {
+            idempotencyPort.release(hashKey(idempotencyKey));
+        } catch (RuntimeException e) {
+            // The claim lease still frees the key eventually
+            log.warn("Failed to release idempotency claim: {}", e.getMessage());
         }
-
-        String hashedKey = hashKey(idempotencyKey);
-        return idempotencyPort.findFnolIdByKey(hashedKey);
     }
 
     /**
      * Generate an idempotency key from submission data.
-     * This can be used when the client doesn't provide their own key.
+     * This is used when the client doesn't provide their own key. Values are compared
+     * case-insensitively and ignoring whitespace.
      *
      * @param mobileNumber the mobile number
      * @param nationalId   the national ID
@@ -103,13 +125,7 @@ public class IdempotencyService {
      */
     public String generateKey(String mobileNumber, String nationalId,
                               String plateNumber, String incidentDate) {
-        String data = String.join("|",
-                normalize(mobileNumber),
-                normalize(nationalId),
-                normalize(plateNumber),
-                normalize(incidentDate)
-        );
-        return hashKey(data);
+        return KeyDigests.contentKey(mobileNumber, nationalId, plateNumber, incidentDate);
     }
 
     /**
@@ -136,26 +152,16 @@ public class IdempotencyService {
      * @return hashed key as hex string
      */
     private String hashKey(String key) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            // SHA-256 is always available in Java
-            throw new RuntimeException("SHA-256 not available", e);
-        }
+        return KeyDigests.sha256Hex(key);
     }
 
-    /**
-     * Normalize a value for consistent key generation.
-     *
-     * @param value the value to normalize
-     * @return normalized value
-     */
-    private String normalize(String value) {
-        if (value == null) {
-            return "";
+    private boolean pause() {
+        try {
+            Thread.sleep(CLAIM_POLL_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
-        return value.trim().toLowerCase().replaceAll("\\s+", "");
     }
 }
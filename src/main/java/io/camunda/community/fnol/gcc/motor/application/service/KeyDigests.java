@@ -0,0 +1,123 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 hex digests of idempotency keys, using one {@link MessageDigest} per thread.
+ * <p>
+ * Content keys are normalized while they are hashed: each character is lower-cased,
+ * whitespace is skipped, and the rest is encoded to UTF-8 into a reused buffer that
+ * feeds the digest. No intermediate strings are built.
+ */
+final class KeyDigests {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final byte FIELD_SEPARATOR = '|';
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private KeyDigests() {
+    }
+
+    /**
+     * Hash a client-supplied key as-is.
+     */
+    static String sha256Hex(String key) {
+        MessageDigest digest = STATE.get().digest;
+        return HEX.formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Hash the normalized submission fields, separated by {@code |}. Null fields hash
+     * as empty.
+     */
+    static String contentKey(String mobileNumber, String nationalId, String plateNumber, String incidentDate) {
+        State state = STATE.get();
+        state.append(mobileNumber);
+        state.separator();
+        state.append(nationalId);
+        state.separator();
+        state.append(plateNumber);
+        state.separator();
+        state.append(incidentDate);
+        return HEX.formatHex(state.finish());
+    }
+
+    private static final class State {
+
+        private final MessageDigest digest = newSha256();
+        private final byte[] buffer = new byte[256];
+        private int length;
+
+        void separator() {
+            encode(FIELD_SEPARATOR);
+        }
+
+        void append(String value) {
+            if (value == null) {
+                return;
+            }
+            for (int i = 0; i < value.length(); ) {
+                int codePoint = value.codePointAt(i);
+                i += Character.charCount(codePoint);
+                if (codePoint <= ' ' || Character.isWhitespace(codePoint)) {
+                    continue;
+                }
+                encode(Character.toLowerCase(codePoint));
+            }
+        }
+
+        byte[] finish() {
+            digest.update(buffer, 0, length);
+            length = 0;
+            return digest.digest();
+        }
+
+        private void encode(int codePoint) {
+            if (buffer.length - length < 4) {
+                digest.update(buffer, 0, length);
+                length = 0;
+            }
+            if (codePoint < 0x80) {
+                put(codePoint);
+            } else if (codePoint < 0x800) {
+                put(0xC0 | codePoint >> 6);
+                put(0x80 | codePoint & 0x3F);
+            } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                // Unpaired surrogate: encoded as '?' like String.getBytes
+                put('?');
+            } else if (codePoint < 0x10000) {
+                put(0xE0 | codePoint >> 12);
+                put(0x80 | codePoint >> 6 & 0x3F);
+                put(0x80 | codePoint & 0x3F);
+            } else {
+                put(0xF0 | codePoint >> 18);
+                put(0x80 | codePoint >> 12 & 0x3F);
+                put(0x80 | codePoint >> 6 & 0x3F);
+                put(0x80 | codePoint & 0x3F);
+            }
+        }
+
+        private void put(int b) {
+            buffer[length++] = (byte) b;
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is always available in Java
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
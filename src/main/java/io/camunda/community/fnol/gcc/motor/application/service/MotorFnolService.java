@@ -6,29 +6,43 @@
  */
 package io.camunda.community.fnol.gcc.motor.application.service;
 
+import io.camunda.community.fnol.gcc.motor.application.exception.FnolValidationException;
+import io.camunda.community.fnol.gcc.motor.application.exception.FnolValidationException.ValidationError;
 import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase;
 import io.camunda.community.fnol.gcc.motor.application.port.out.FnolRepositoryPort;
+import io.camunda.community.fnol.gcc.motor.application.port.out.FnolStatusCachePort;
+import io.camunda.community.fnol.gcc.motor.application.port.out.FraudIndexPort;
 import io.camunda.community.fnol.gcc.motor.application.port.out.IdSequencePort;
-import io.camunda.community.fnol.gcc.motor.application.port.out.ProcessStarterPort;
+import io.camunda.community.fnol.gcc.motor.application.port.out.IdempotencyPort.Claim;
+import io.camunda.community.fnol.gcc.motor.application.port.out.IdempotencyPort.ClaimStatus;
+import io.camunda.community.fnol.gcc.motor.application.port.out.ProcessStartOutboxPort;
 import io.camunda.community.fnol.gcc.motor.application.port.out.WebhookNotifierPort;
+import io.camunda.community.fnol.gcc.motor.domain.enums.AttachmentType;
 import io.camunda.community.fnol.gcc.motor.domain.enums.CoverageType;
 import io.camunda.community.fnol.gcc.motor.domain.enums.GccCountry;
 import io.camunda.community.fnol.gcc.motor.domain.enums.LanguageCode;
 import io.camunda.community.fnol.gcc.motor.domain.enums.VehicleType;
+import io.camunda.community.fnol.gcc.motor.domain.model.Attachment;
 import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
 import io.camunda.community.fnol.gcc.motor.domain.model.SeverityFlags;
 import io.camunda.community.fnol.gcc.motor.domain.service.FnolIdGenerator;
 import io.camunda.community.fnol.gcc.motor.domain.service.SeverityCalculator;
 import io.camunda.community.fnol.gcc.motor.domain.valueobject.FnolId;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -38,42 +52,68 @@ public class MotorFnolService implements SubmitFnolUseCase {
 
     private final FnolIdGenerator fnolIdGenerator;
     private final FnolRepositoryPort fnolRepository;
-    private final ProcessStarterPort processStarter;
+    private final FnolStatusCachePort statusCache;
+    private final ProcessStartOutboxPort processStartOutbox;
     private final IdSequencePort idSequence;
     private final WebhookNotifierPort webhookNotifier;
+    private final FraudIndexPort fraudIndex;
     private final GccValidationService validationService;
     private final LanguageNormalizationService languageService;
     private final IdempotencyService idempotencyService;
     private final SeverityCalculator severityCalculator;
+    private final FnolProperties fnolProperties;
+    private final TransactionTemplate transaction;
 
     public MotorFnolService(
             FnolIdGenerator fnolIdGenerator,
             FnolRepositoryPort fnolRepository,
-            ProcessStarterPort processStarter,
+            FnolStatusCachePort statusCache,
+            ProcessStartOutboxPort processStartOutbox,
             IdSequencePort idSequence,
             WebhookNotifierPort webhookNotifier,
+            FraudIndexPort fraudIndex,
             GccValidationService validationService,
             LanguageNormalizationService languageService,
             IdempotencyService idempotencyService,
-            SeverityCalculator severityCalculator) {
+            SeverityCalculator severityCalculator,
+            FnolProperties fnolProperties,
+            PlatformTransactionManager transactionManager) {
         this.fnolIdGenerator = fnolIdGenerator;
         this.fnolRepository = fnolRepository;
-        this.processStarter = processStarter;
+        this.statusCache = statusCache;
+        this.processStartOutbox = processStartOutbox;
         this.idSequence = idSequence;
         this.webhookNotifier = webhookNotifier;
+        this.fraudIndex = fraudIndex;
         this.validationService = validationService;
         this.languageService = languageService;
         this.idempotencyService = idempotencyService;
         this.severityCalculator = severityCalculator;
+        this.fnolProperties = fnolProperties;
+        this.transaction = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Not a single transaction: the idempotency key is claimed in its own short
+     * transaction first, so a concurrent duplicate waits for it without holding a
+     * connection, and the case is then created in a second one. The FNOL ID is drawn
+     * between the two unless the sequence has to be held until commit, so reserving a
+     * new range of IDs never waits for a connection while holding one.
+     */
     @Override
-    @Transactional
     public FnolSubmissionResult submit(FnolSubmissionCommand command) {
         log.info("Processing FNOL submission for country: {}", command.countryCode());
 
-        // Step 1: Check idempotency
-        Optional<String> existingFnolId = idempotencyService.findExisting(command.idempotencyKey());
+        // Step 1: Validate all inputs
+        validate(command);
+
+        String idempotencyKey = idempotencyKeyOf(command);
+        if (idempotencyKey == null) {
+            return createInTransaction(command, null);
+        }
+
+        // Step 2: Claim the idempotency key; a concurrent duplicate waits for the first to finish
+        Optional<String> existingFnolId = idempotencyService.claim(idempotencyKey);
         if (existingFnolId.isPresent()) {
             log.info("Duplicate submission detected, returning existing FNOL: {}", existingFnolId.get());
             MotorFnolCase existingCase = fnolRepository.findByFnolId(existingFnolId.get())
@@ -81,25 +121,249 @@ public class MotorFnolService implements SubmitFnolUseCase {
             return buildResult(existingCase, true);
         }
 
-        // Step 2: Validate all inputs
-        validationService.validateAll(
-                command.countryCode(),
-                command.mobileNumber(),
-                command.nationalId(),
-                command.plateNumber(),
-                command.plateCountry()
-        );
+        try {
+            return createInTransaction(command, idempotencyKey);
+        } catch (RuntimeException e) {
+            idempotencyService.release(idempotencyKey);
+            throw e;
+        }
+    }
 
-        // Step 3: Normalize text fields
-        String normalizedDescription = languageService.normalize(command.description());
-        String normalizedLocation = languageService.normalize(command.incidentLocation());
+    /**
+     * Draw the FNOL ID and create the case in its own transaction.
+     */
+    private FnolSubmissionResult createInTransaction(FnolSubmissionCommand command, String idempotencyKey) {
+        if (idSequence.drawsInCallerTransaction()) {
+            return transaction.execute(status -> create(command, idempotencyKey, nextFnolId(command)));
+        }
+        FnolId fnolId = nextFnolId(command);
+        return transaction.execute(status -> create(command, idempotencyKey, fnolId));
+    }
 
-        // Step 4: Generate FNOL ID
-        long sequence = idSequence.nextValue();
-        FnolId fnolId = fnolIdGenerator.generate(command.countryCode(), sequence);
+    /**
+     * Step 3: Generate FNOL ID (one sequence per country and year).
+     */
+    private FnolId nextFnolId(FnolSubmissionCommand command) {
+        int idYear = fnolIdGenerator.currentYear();
+        long sequence = idSequence.nextValue(fnolIdGenerator.sequenceName(command.countryCode(), idYear));
+        FnolId fnolId = fnolIdGenerator.generate(command.countryCode(), idYear, sequence);
         log.debug("Generated FNOL ID: {}", fnolId.getValue());
+        return fnolId;
+    }
+
+    /**
+     * Create the FNOL case for a validated submission whose key (if any) is claimed.
+     */
+    private FnolSubmissionResult create(FnolSubmissionCommand command, String idempotencyKey, FnolId fnolId) {
+        // Step 4: Create the FNOL case and calculate severity
+        MotorFnolCase fnolCase = buildCase(command, fnolId);
+
+        // Step 5: Save to database
+        fnolRepository.save(fnolCase);
+        log.info("FNOL case saved: {}", fnolId.getValue());
+
+        // Step 6: Complete the idempotency claim
+        if (idempotencyKey != null) {
+            idempotencyService.complete(idempotencyKey, fnolId.getValue());
+        }
+
+        // Step 7: Queue the Camunda process start (dispatched after commit)
+        processStartOutbox.enqueue(fnolCase);
+
+        // Step 8: Send webhook notification (async, non-blocking)
+        webhookNotifier.notifyFnolCreated(fnolCase);
+
+        // Step 9: Count the claim in the fraud indexes (after commit)
+        fraudIndex.recordSubmitted(fnolCase);
+
+        return buildResult(fnolCase, false);
+    }
+
+    /**
+     * Not a single transaction either, like {@link #submit}: each item's idempotency key
+     * is claimed up front in its own short transaction, so a key that another submission
+     * holds only affects that item, and the cases are then created together in a second
+     * one. If anything fails before they commit, every claim taken so far is released
+     * for the client to retry.
+     */
+    @Override
+    public FnolBatchResult submitBatch(List<FnolSubmissionCommand> commands) {
+        int maxItems = fnolProperties.batch().maxItems();
+        if (commands.size() > maxItems) {
+            throw FnolValidationException.forField("items", "TOO_MANY_ITEMS",
+                    "A batch may contain at most " + maxItems + " claims");
+        }
+        log.info("Processing FNOL batch of {} claims", commands.size());
+
+        FnolBatchItemResult[] results = new FnolBatchItemResult[commands.size()];
+        String[] idempotencyKeys = new String[commands.size()];
+        Map<String, Integer> firstIndexByKey = new HashMap<>();
+        Map<Integer, Integer> repeatedKeys = new HashMap<>();
+        Map<String, List<Integer>> acceptedBySequence = new LinkedHashMap<>();
+        List<String> claimedKeys = new ArrayList<>();
+        int idYear = fnolIdGenerator.currentYear();
+
+        List<MotorFnolCase> newCases = new ArrayList<>();
+        List<Integer> newCaseIndexes = new ArrayList<>();
+        try {
+            // Step 1: Validate every item and claim its idempotency key before anything is written
+            for (int i = 0; i < commands.size(); i++) {
+                FnolSubmissionCommand command = commands.get(i);
+
+                idempotencyKeys[i] = idempotencyKeyOf(command);
+                if (idempotencyKeys[i] != null) {
+                    Integer firstIndex = firstIndexByKey.putIfAbsent(idempotencyKeys[i], i);
+                    if (firstIndex != null) {
+                        repeatedKeys.put(i, firstIndex);
+                        continue;
+                    }
+                }
+
+                try {
+                    validate(command);
+                } catch (FnolValidationException e) {
+                    results[i] = FnolBatchItemResult.rejected(i, e.hasErrors()
+                            ? e.getErrors()
+                            : List.of(ValidationError.of(null, "INVALID", e.getMessage())));
+                    continue;
+                }
+
+                if (idempotencyKeys[i] != null) {
+                    Claim claim = idempotencyService.tryClaim(idempotencyKeys[i]);
+                    if (claim.status() == ClaimStatus.COMPLETED) {
+                        MotorFnolCase existingCase = fnolRepository.findByFnolId(claim.fnolId())
+                                .orElseThrow(() -> new IllegalStateException("Idempotency record exists but FNOL not found"));
+                        results[i] = FnolBatchItemResult.duplicate(i, buildResult(existingCase, true));
+                        continue;
+                    }
+                    if (claim.status() == ClaimStatus.IN_PROGRESS) {
+                        results[i] = FnolBatchItemResult.inProgress(i);
+                        continue;
+                    }
+                    claimedKeys.add(idempotencyKeys[i]);
+                }
+
+                acceptedBySequence
+                        .computeIfAbsent(fnolIdGenerator.sequenceName(command.countryCode(), idYear), name -> new ArrayList<>())
+                        .add(i);
+            }
+
+            if (!acceptedBySequence.isEmpty()) {
+                // As in submit, IDs are drawn before the transaction unless the sequence is held until commit
+                if (idSequence.drawsInCallerTransaction()) {
+                    transaction.executeWithoutResult(status -> {
+                        buildCases(commands, acceptedBySequence, idYear, newCases, newCaseIndexes);
+                        createAll(newCases, newCaseIndexes, idempotencyKeys, results);
+                    });
+                } else {
+                    buildCases(commands, acceptedBySequence, idYear, newCases, newCaseIndexes);
+                    transaction.executeWithoutResult(status ->
+                            createAll(newCases, newCaseIndexes, idempotencyKeys, results));
+                }
+            }
+        } catch (RuntimeException e) {
+            claimedKeys.forEach(idempotencyService::release);
+            throw e;
+        }
+
+        // Items repeating an idempotency key earlier in the batch share that item's outcome
+        repeatedKeys.forEach((index, firstIndex) -> results[index] = repeatOf(index, results[firstIndex]));
+
+        FnolBatchResult batchResult = new FnolBatchResult(List.of(results));
+        log.info("FNOL batch processed: {} created, {} rejected, {} in progress", newCases.size(),
+                batchResult.count(BatchItemOutcome.REJECTED), batchResult.count(BatchItemOutcome.IN_PROGRESS));
+        return batchResult;
+    }
+
+    /**
+     * Step 2: Reserve the FNOL IDs of a batch's accepted items, one round trip per
+     * country sequence, and build their cases.
+     */
+    private void buildCases(List<FnolSubmissionCommand> commands, Map<String, List<Integer>> acceptedBySequence,
+                            int idYear, List<MotorFnolCase> newCases, List<Integer> newCaseIndexes) {
+        acceptedBySequence.forEach((sequenceName, indexes) -> {
+            long[] sequences = idSequence.nextValues(sequenceName, indexes.size());
+            for (int j = 0; j < indexes.size(); j++) {
+                FnolSubmissionCommand command = commands.get(indexes.get(j));
+                FnolId fnolId = fnolIdGenerator.generate(command.countryCode(), idYear, sequences[j]);
+                newCases.add(buildCase(command, fnolId));
+                newCaseIndexes.add(indexes.get(j));
+            }
+        });
+    }
+
+    /**
+     * Save the built cases of a batch, whose keys (if any) are claimed, and fill in
+     * their results.
+     */
+    private void createAll(List<MotorFnolCase> newCases, List<Integer> newCaseIndexes,
+                           String[] idempotencyKeys, FnolBatchItemResult[] results) {
+        // Step 3: Save all cases in one unit of work
+        fnolRepository.saveAll(newCases);
+
+        for (int j = 0; j < newCases.size(); j++) {
+            MotorFnolCase fnolCase = newCases.get(j);
+            int index = newCaseIndexes.get(j);
+
+            // Step 4: Complete the idempotency claims
+            if (idempotencyKeys[index] != null) {
+                idempotencyService.complete(idempotencyKeys[index], fnolCase.getFnolId());
+            }
+            results[index] = FnolBatchItemResult.created(index, buildResult(fnolCase, false));
+        }
+
+        // Step 5: Queue the Camunda process starts (dispatched together after commit)
+        processStartOutbox.enqueueAll(newCases);
+
+        // Step 6: Send webhook notifications (async, non-blocking)
+        newCases.forEach(webhookNotifier::notifyFnolCreated);
+
+        // Step 7: Count the claims in the fraud indexes (after commit)
+        fraudIndex.recordSubmittedAll(newCases);
+    }
+
+    /**
+     * Validate the GCC-specific fields and attachment URLs of a submission.
+     */
+    private void validate(FnolSubmissionCommand command) {
+        FnolValidationException.Builder errorBuilder = FnolValidationException.builder();
+        try {
+            validationService.validateAll(
+                    command.countryCode(),
+                    command.mobileNumber(),
+                    command.nationalId(),
+                    command.plateNumber(),
+                    command.plateCountry()
+            );
+        } catch (FnolValidationException e) {
+            e.getErrors().forEach(errorBuilder::addError);
+        }
+
+        List<AttachmentData> attachments = attachmentsOf(command);
+        for (int i = 0; i < attachments.size(); i++) {
+            String url = attachments.get(i).url();
+            if (url == null || url.isBlank()) {
+                errorBuilder.addError("attachments[" + i + "].url", "REQUIRED", "Attachment URL is required");
+                continue;
+            }
+            try {
+                toAttachment(attachments.get(i));
+            } catch (IllegalArgumentException e) {
+                errorBuilder.addError("attachments[" + i + "].url", "INVALID_URL", e.getMessage());
+            }
+        }
+
+        errorBuilder.throwIfErrors();
+    }
+
+    /**
+     * Build the domain case for a validated submission and calculate its severity.
+     */
+    private MotorFnolCase buildCase(FnolSubmissionCommand command, FnolId fnolId) {
+        // Normalize text fields
+        String normalizedDescription = languageService.normalize(command.description());
+        String normalizedLocation = languageService.normalize(command.incidentLocation());
 
-        // Step 5: Build domain objects
         GccCountry country = GccCountry.fromCode(command.countryCode())
                 .orElseThrow(() -> new IllegalArgumentException("Invalid country: " + command.countryCode()));
 
@@ -119,7 +383,7 @@ public class MotorFnolService implements SubmitFnolUseCase {
             }
         }
 
-        // Step 6: Create the FNOL case
+        // Create the FNOL case
         MotorFnolCase fnolCase = MotorFnolCase.builder()
                 .fnolId(fnolId.getValue())
                 .correlationId(command.correlationId())
@@ -144,42 +408,24 @@ public class MotorFnolService implements SubmitFnolUseCase {
                 .languageCode(preferredLanguage)
                 .processStatus("SUBMITTED")
                 .submittedAt(OffsetDateTime.now())
+                .attachments(attachmentsOf(command).stream().map(this::toAttachment).toList())
                 .build();
 
-        // Step 7: Calculate severity
+        // Calculate severity
         SeverityFlags severity = severityCalculator.calculate(fnolCase);
         fnolCase.setSeverityFlags(severity);
 
-        // Step 8: Save to database
-        fnolRepository.save(fnolCase);
-        log.info("FNOL case saved: {}", fnolId.getValue());
-
-        // Step 9: Register idempotency key
-        if (command.idempotencyKey() != null && !command.idempotencyKey().isBlank()) {
-            idempotencyService.register(command.idempotencyKey(), fnolId.getValue());
-        }
-
-        // Step 10: Start Camunda process
-        String processInstanceKey = processStarter.startFnolProcess(fnolCase);
-        fnolCase.setProcessInstanceKey(processInstanceKey);
-        fnolRepository.updateProcessInstanceKey(fnolId.getValue(), processInstanceKey);
-        log.info("Process started for FNOL {}: {}", fnolId.getValue(), processInstanceKey);
-
-        // Step 11: Send webhook notification (async, non-blocking)
-        webhookNotifier.notifyFnolCreated(fnolCase);
-
-        return buildResult(fnolCase, false);
+        return fnolCase;
     }
 
     @Override
     public Optional<FnolStatusResult> getStatus(String fnolId) {
-        return fnolRepository.findByFnolId(fnolId)
-                .map(this::buildStatusResult);
+        return statusCache.get(fnolId, fnolRepository::findStatusByFnolId);
     }
 
     @Override
     public Optional<FnolDetailResult> getDetail(String fnolId) {
-        return fnolRepository.findByFnolId(fnolId)
+        return fnolRepository.findDetailByFnolId(fnolId)
                 .map(this::buildDetailResult);
     }
 
@@ -199,17 +445,39 @@ public class MotorFnolService implements SubmitFnolUseCase {
     }
 
     /**
-     * Build status result from FNOL case.
+     * Result for a batch item that repeats the idempotency key of an earlier item.
      */
-    private FnolStatusResult buildStatusResult(MotorFnolCase fnolCase) {
-        return new FnolStatusResult(
-                fnolCase.getFnolId(),
-                fnolCase.getProcessStatus(),
-                fnolCase.getSeverityLevel(),
-                fnolCase.getRoute(),
-                toLocalDateTime(fnolCase.getSubmittedAt()),
-                toLocalDateTime(fnolCase.getSubmittedAt()) // Using submittedAt as updatedAt for now
-        );
+    private FnolBatchItemResult repeatOf(int index, FnolBatchItemResult first) {
+        if (first.outcome() == BatchItemOutcome.REJECTED) {
+            return FnolBatchItemResult.rejected(index, first.errors());
+        }
+        if (first.outcome() == BatchItemOutcome.IN_PROGRESS) {
+            return FnolBatchItemResult.inProgress(index);
+        }
+        FnolSubmissionResult result = first.result();
+        return FnolBatchItemResult.duplicate(index, new FnolSubmissionResult(
+                result.fnolId(), result.status(), result.severityLevel(), result.route(),
+                result.processInstanceKey(), result.createdAt(), true));
+    }
+
+    /**
+     * The client's idempotency key or, when {@code fnol.idempotency.content-keys} is on,
+     * one derived from mobile number, national ID, plate and incident date; null if
+     * neither applies.
+     */
+    private String idempotencyKeyOf(FnolSubmissionCommand command) {
+        if (hasIdempotencyKey(command)) {
+            return command.idempotencyKey();
+        }
+        if (!fnolProperties.idempotency().contentKeys()) {
+            return null;
+        }
+        return idempotencyService.generateKey(command.mobileNumber(), command.nationalId(), command.plateNumber(),
+                command.incidentDate() == null ? null : command.incidentDate().toString());
+    }
+
+    private boolean hasIdempotencyKey(FnolSubmissionCommand command) {
+        return command.idempotencyKey() != null && !command.idempotencyKey().isBlank();
     }
 
     /**
@@ -243,7 +511,9 @@ public class MotorFnolService implements SubmitFnolUseCase {
                 false, // thirdPartyInvolved - not in domain model
                 fnolCase.getPoliceReportNumber(),
                 fnolCase.getLanguageCode() != null ? fnolCase.getLanguageCode().name() : null,
-                List.of(), // attachments - simplified
+                fnolCase.getAttachments().stream()
+                        .map(a -> new AttachmentData(a.url(), a.type().name(), a.description()))
+                        .toList(),
                 fnolCase.getProcessStatus(),
                 fnolCase.getSeverityLevel(),
                 fnolCase.getRoute(),
@@ -253,6 +523,25 @@ public class MotorFnolService implements SubmitFnolUseCase {
         );
     }
 
+    private List<AttachmentData> attachmentsOf(FnolSubmissionCommand command) {
+        return command.attachments() != null ? command.attachments() : List.of();
+    }
+
+    /**
+     * Convert submitted attachment data to the domain model. The type falls back to the
+     * file extension in the URL, then to {@code DOCUMENT}.
+     */
+    private Attachment toAttachment(AttachmentData data) {
+        AttachmentType type = AttachmentType.fromValue(data.type())
+                .or(() -> AttachmentType.fromFileName(data.url()))
+                .orElse(AttachmentType.DOCUMENT);
+        return Attachment.builder()
+                .type(type)
+                .url(data.url())
+                .description(data.description())
+                .build();
+    }
+
     private CoverageType parseCoverageType(String code) {
         if (code == null || code.isBlank()) {
             return CoverageType.COMPREHENSIVE;
@@ -19,5 +19,35 @@ public interface FnolIdGenerator {
      * @param sequence    the sequence number
      * @return generated FNOL ID
      */
-    FnolId generate(String countryCode, long sequence);
+    default FnolId generate(String countryCode, long sequence) {
+        return generate(countryCode, currentYear(), sequence);
+    }
+
+    /**
+     * Generate a FNOL ID for an explicit year. Use together with {@link #sequenceName(String, int)}
+     * so that the sequence and the ID are always taken from the same year.
+     *
+     * @param countryCode the country code
+     * @param year        the ID year
+     * @param sequence    the sequence number
+     * @return generated FNOL ID
+     */
+    FnolId generate(String countryCode, int year, long sequence);
+
+    /**
+     * Name of the sequence that numbers IDs for a country and year.
+     * Example: FNOL:AE:2026
+     *
+     * @param countryCode the country code
+     * @param year        the ID year
+     * @return sequence name
+     */
+    String sequenceName(String countryCode, int year);
+
+    /**
+     * Current ID year in the configured ID time zone.
+     *
+     * @return year
+     */
+    int currentYear();
 }
@@ -0,0 +1,60 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.apikey;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RouteGroup;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An issued API key, without the key itself.
+ *
+ * @param clientId  partner (tenant) the key belongs to
+ * @param scopes    route groups the key may call
+ * @param expiresAt when the key stops working, or null
+ */
+public record ApiKey(
+        String clientId,
+        Set<RouteGroup> scopes,
+        LocalDateTime expiresAt
+) {
+
+    public ApiKey {
+        scopes = Set.copyOf(scopes);
+    }
+
+    public boolean allows(RouteGroup group) {
+        return group == RouteGroup.METADATA || scopes.contains(group);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    /**
+     * Parse a comma list of route groups; {@code *} allows every group.
+     */
+    static Set<RouteGroup> parseScopes(String scopes) {
+        Set<RouteGroup> groups = EnumSet.noneOf(RouteGroup.class);
+        if (scopes == null) {
+            return groups;
+        }
+        for (String scope : scopes.split(",")) {
+            String name = scope.trim();
+            if (name.equals("*")) {
+                return EnumSet.allOf(RouteGroup.class);
+            }
+            if (!name.isEmpty()) {
+                groups.add(RouteGroup.valueOf(name.toUpperCase(Locale.ROOT)));
+            }
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.apikey;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RouteGroup;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Partner API keys from the {@code api_keys} table, held in memory by key hash.
+ * <p>
+ * Requests look keys up in an immutable map, so validation is one SHA-256 and one
+ * hash lookup and never waits on the database. Rows changed since the last sync
+ * (new keys, revocations, scope or expiry changes) are merged into a copy of the map
+ * that is then swapped in; the window overlaps the previous one to catch transactions
+ * that committed late. A periodic rebuild drops rows deleted outright. Until the first
+ * load finishes {@link #isLoaded()} is false and no key resolves.
+ */
+@Component
+public class ApiKeyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyRegistry.class);
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(ApiKeyRegistry::newSha256);
+
+    private static final String SELECT = "SELECT key_hash, client_id, scopes, expires_at, revoked_at, updated_at FROM api_keys";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration syncOverlap;
+    private final String configuredKeyHash;
+    private final ApiKey configuredKey;
+
+    private volatile Map<String, ApiKey> keys = Map.of();
+    private volatile boolean loaded;
+    private LocalDateTime syncedUpTo;
+
+    public ApiKeyRegistry(DataSource dataSource, FnolProperties fnolProperties, MeterRegistry meterRegistry) {
+        FnolProperties.SecurityProperties.ApiKeyProperties apiKey = fnolProperties.security().apiKey();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.enabled = apiKey.enabled();
+        this.syncOverlap = Duration.ofSeconds(apiKey.syncOverlapSeconds());
+        if (apiKey.key() != null && !apiKey.key().isBlank()) {
+            this.configuredKeyHash = hash(apiKey.key());
+            this.configuredKey = new ApiKey(apiKey.clientId(), EnumSet.allOf(RouteGroup.class), null);
+        } else {
+            this.configuredKeyHash = null;
+            this.configuredKey = null;
+        }
+
+        Gauge.builder("fnol.api_keys.active", this, registry -> registry.keys.size())
+                .description("API keys held in the in-memory registry")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Key matching a presented API key, or null when unknown or revoked. Expiry is
+     * left to the caller.
+     */
+    public ApiKey lookup(String presentedKey) {
+        return keys.get(hash(presentedKey));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Load every unrevoked key and swap the index in, dropping keys deleted since.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${fnol.security.api-key.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<String, ApiKey> fresh = new HashMap<>();
+            LocalDateTime latest = load(SELECT + " WHERE revoked_at IS NULL", fresh, null);
+            swap(fresh, latest);
+            log.info("API key registry loaded with {} keys", keys.size());
+        } catch (Exception e) {
+            log.error("Error loading API key registry", e);
+        }
+    }
+
+    /**
+     * Merge keys changed since the last run, including revocations made on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${fnol.security.api-key.sync-interval-ms:5000}")
+    public synchronized void syncRecent() {
+        if (!enabled) {
+            return;
+        }
+        if (!loaded) {
+            // The startup load failed; keep retrying it rather than wait for the next rebuild
+            rebuild();
+            return;
+        }
+        try {
+            Map<String, ApiKey> next = new HashMap<>(keys);
+            // An empty table leaves nothing to sync from, so read it whole
+            LocalDateTime latest = syncedUpTo == null
+                    ? load(SELECT, next, null)
+                    : load(SELECT + " WHERE updated_at > ?", next, syncedUpTo.minus(syncOverlap));
+            swap(next, latest);
+        } catch (Exception e) {
+            log.warn("Error syncing API key registry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Read rows into {@code target}, removing revoked ones, and return the newest
+     * {@code updated_at} seen. The database clock is used throughout, so node clock
+     * skew cannot open a gap between syncs.
+     */
+    private LocalDateTime load(String sql, Map<String, ApiKey> target, LocalDateTime since) {
+        LocalDateTime[] latest = {syncedUpTo};
+        Object[] args = since == null ? new Object[0] : new Object[]{Timestamp.valueOf(since)};
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            String keyHash = rs.getString("key_hash").trim().toLowerCase(Locale.ROOT);
+            LocalDateTime updatedAt = rs.getTimestamp("updated_at").toLocalDateTime();
+            if (latest[0] == null || updatedAt.isAfter(latest[0])) {
+                latest[0] = updatedAt;
+            }
+            if (rs.getTimestamp("revoked_at") != null) {
+                target.remove(keyHash);
+                return;
+            }
+            ApiKey key = toApiKey(rs);
+            if (key == null) {
+                target.remove(keyHash);
+            } else {
+                target.put(keyHash, key);
+            }
+        }, args);
+        return latest[0];
+    }
+
+    private void swap(Map<String, ApiKey> next, LocalDateTime latest) {
+        if (configuredKeyHash != null) {
+            next.put(configuredKeyHash, configuredKey);
+        }
+        keys = Map.copyOf(next);
+        syncedUpTo = latest;
+        loaded = true;
+    }
+
+    private static ApiKey toApiKey(ResultSet rs) throws SQLException {
+        String clientId = rs.getString("client_id");
+        try {
+            Timestamp expiresAt = rs.getTimestamp("expires_at");
+            return new ApiKey(clientId, ApiKey.parseScopes(rs.getString("scopes")),
+                    expiresAt == null ? null : expiresAt.toLocalDateTime());
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring API key of client {} with unknown scopes: {}", clientId, rs.getString("scopes"));
+            return null;
+        }
+    }
+
+    /**
+     * SHA-256 hex digest of a key, as stored in {@code api_keys.key_hash}.
+     */
+    public static String hash(String key) {
+        MessageDigest digest = SHA_256.get();
+        return HEX.formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolStatusResult;
+import io.camunda.community.fnol.gcc.motor.application.port.out.FnolStatusCachePort;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded status cache (W-TinyLFU eviction, expire after write).
+ * <p>
+ * Hit, miss and eviction counts are exported as {@code cache.*} meters tagged
+ * {@code cache=fnolStatus}.
+ */
+@Component
+public class CaffeineFnolStatusCache implements FnolStatusCachePort {
+
+    static final String CACHE_NAME = "fnolStatus";
+
+    private final Cache<String, FnolStatusResult> cache;
+    private final Optional<StatusInvalidationChannel> channel;
+
+    public CaffeineFnolStatusCache(FnolProperties fnolProperties,
+                                   MeterRegistry meterRegistry,
+                                   Optional<StatusInvalidationChannel> channel) {
+        FnolProperties.StatusCacheProperties properties = fnolProperties.statusCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.ttlSeconds()))
+                .recordStats()
+                .build();
+        this.channel = channel;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        channel.ifPresent(c -> c.subscribe(cache::invalidate, cache::invalidateAll));
+    }
+
+    @Override
+    public Optional<FnolStatusResult> get(String fnolId, Function<String, Optional<FnolStatusResult>> loader) {
+        return Optional.ofNullable(cache.get(fnolId, id -> loader.apply(id).orElse(null)));
+    }
+
+    @Override
+    public void invalidate(String fnolId) {
+        channel.ifPresent(c -> c.publish(fnolId));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(fnolId);
+            return;
+        }
+        // Evicting before commit would let a concurrent read cache the old row again
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(fnolId);
+            }
+        });
+    }
+}
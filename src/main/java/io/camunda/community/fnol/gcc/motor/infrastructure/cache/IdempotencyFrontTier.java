@@ -0,0 +1,221 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.IdempotencyKeyJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Node-local front of {@code idempotency_keys}.
+ * <p>
+ * A Bloom filter of every active hashed key answers "definitely absent" for almost
+ * all lookups without touching the database, and a small LRU keeps recent
+ * key-to-FNOL mappings for retries. The filter is rebuilt from the table on startup
+ * and every {@code rebuild-interval-ms} (dropping expired keys), and rows written by
+ * other nodes are tailed every {@code sync-interval-ms}. Until the first rebuild
+ * finishes every lookup goes to the database.
+ */
+@Component
+@ConditionalOnProperty(name = "fnol.idempotency.front-tier", havingValue = "true", matchIfMissing = true)
+public class IdempotencyFrontTier {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFrontTier.class);
+
+    private final IdempotencyKeyJpaRepository repository;
+    private final TransactionTemplate readTransaction;
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+    private final Duration syncOverlap;
+
+    private final Cache<String, HotKey> hotKeys;
+
+    private volatile HashedKeyBloomFilter filter;
+    private volatile HashedKeyBloomFilter rebuilding;
+    private volatile LocalDateTime syncedUpTo;
+
+    private final Counter filterSkips;
+    private final Counter cacheHits;
+    private final Counter databaseHits;
+    private final Counter falsePositives;
+    private final AtomicLong skipCount = new AtomicLong();
+    private final AtomicLong falsePositiveCount = new AtomicLong();
+
+    public IdempotencyFrontTier(IdempotencyKeyJpaRepository repository,
+                                PlatformTransactionManager transactionManager,
+                                FnolProperties fnolProperties,
+                                MeterRegistry meterRegistry) {
+        FnolProperties.IdempotencyProperties properties = fnolProperties.idempotency();
+        this.repository = repository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.expectedKeys = properties.filterExpectedKeys();
+        this.falsePositiveRate = properties.filterFalsePositiveRate();
+        this.syncOverlap = Duration.ofSeconds(properties.syncOverlapSeconds());
+        this.hotKeys = Caffeine.newBuilder()
+                .maximumSize(properties.hotKeys())
+                .build();
+
+        this.filterSkips = lookupCounter(meterRegistry, "filter_skip");
+        this.cacheHits = lookupCounter(meterRegistry, "cache_hit");
+        this.databaseHits = lookupCounter(meterRegistry, "database_hit");
+        this.falsePositives = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("fnol.idempotency.filter.false_positive_rate", this, IdempotencyFrontTier::observedFalsePositiveRate)
+                .description("Share of absent keys the Bloom filter let through to the database")
+                .register(meterRegistry);
+        Gauge.builder("fnol.idempotency.filter.expected_false_positive_rate", this,
+                        tier -> tier.filter == null ? 1.0 : tier.filter.expectedFalsePositiveRate())
+                .description("False positive rate expected from the current filter fill")
+                .register(meterRegistry);
+    }
+
+    /**
+     * False only when the key was definitely never registered; the database can then be skipped.
+     */
+    public boolean mightExist(String hashedKey) {
+        HashedKeyBloomFilter current = filter;
+        if (current == null || current.mightContain(hashedKey)) {
+            return true;
+        }
+        filterSkips.increment();
+        skipCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * FNOL ID of a recently seen key that has not expired.
+     */
+    public Optional<String> cachedFnolId(String hashedKey) {
+        HotKey hot = hotKeys.getIfPresent(hashedKey);
+        if (hot == null || !hot.expiresAt().isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        cacheHits.increment();
+        return Optional.of(hot.fnolId());
+    }
+
+    /**
+     * Record the outcome of a database lookup that got past the filter.
+     */
+    public void recordLookup(String hashedKey, String fnolId, Instant expiresAt) {
+        if (fnolId == null) {
+            if (filter != null) {
+                falsePositives.increment();
+                falsePositiveCount.incrementAndGet();
+            }
+            return;
+        }
+        databaseHits.increment();
+        remember(hashedKey, fnolId, expiresAt);
+    }
+
+    /**
+     * Add a key being written on this node. Call before its transaction commits, so a
+     * retry arriving right after commit is never answered "absent".
+     */
+    public void add(String hashedKey) {
+        HashedKeyBloomFilter current = filter;
+        if (current != null) {
+            current.add(hashedKey);
+        }
+        HashedKeyBloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(hashedKey);
+        }
+    }
+
+    /**
+     * Cache a committed key-to-FNOL mapping.
+     */
+    public void remember(String hashedKey, String fnolId, Instant expiresAt) {
+        hotKeys.put(hashedKey, new HotKey(fnolId, expiresAt));
+    }
+
+    /**
+     * Build a new filter from all active keys and swap it in.
+     */
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        HashedKeyBloomFilter fresh = new HashedKeyBloomFilter(expectedKeys, falsePositiveRate);
+        rebuilding = fresh;
+        try {
+            long loaded = load(fresh, repository::streamActiveHashedKeys, Instant.now());
+            syncedUpTo = startedAt;
+            filter = fresh;
+            log.info("Idempotency filter rebuilt with {} keys (expected false positive rate {})",
+                    loaded, String.format("%.5f", fresh.expectedFalsePositiveRate()));
+            if (loaded > expectedKeys) {
+                log.warn("Idempotency filter holds {} keys but is sized for {}; raise fnol.idempotency.filter-expected-keys",
+                        loaded, expectedKeys);
+            }
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * Add keys written since the last sync, including those from other nodes. The
+     * window overlaps the previous one to catch transactions that committed late.
+     */
+    public void syncRecent() {
+        HashedKeyBloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        load(current, repository::streamHashedKeysCreatedAfter, syncedUpTo.minus(syncOverlap));
+        syncedUpTo = startedAt;
+    }
+
+    private <T> long load(HashedKeyBloomFilter target,
+                          Function<T, Stream<String>> query, T argument) {
+        Long loaded = readTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<String> keys = query.apply(argument)) {
+                for (String key : (Iterable<String>) keys::iterator) {
+                    target.add(key);
+                    count++;
+                }
+            }
+            return count;
+        });
+        return loaded != null ? loaded : 0;
+    }
+
+    private double observedFalsePositiveRate() {
+        long positives = falsePositiveCount.get();
+        long absent = positives + skipCount.get();
+        return absent == 0 ? 0.0 : (double) positives / absent;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("fnol.idempotency.lookups")
+                .description("Idempotency key lookups by where they were answered")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record HotKey(String fnolId, Instant expiresAt) {}
+}
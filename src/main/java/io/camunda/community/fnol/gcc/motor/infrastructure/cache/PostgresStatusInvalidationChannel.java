@@ -0,0 +1,131 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.cache;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Status invalidations over PostgreSQL LISTEN/NOTIFY.
+ * <p>
+ * {@code pg_notify} runs in the caller's transaction, so other nodes only hear about
+ * committed changes. One pooled connection per node is held for LISTEN; each time it
+ * is (re-)established the local cache is cleared, since notifications sent while it
+ * was down are lost. Enable with {@code fnol.status-cache.invalidation=postgres}.
+ */
+@Component
+@ConditionalOnProperty(name = "fnol.status-cache.invalidation", havingValue = "postgres")
+public class PostgresStatusInvalidationChannel implements StatusInvalidationChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresStatusInvalidationChannel.class);
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final String channel;
+    private final Counter received;
+
+    private volatile boolean running = true;
+    private Thread listener;
+
+    public PostgresStatusInvalidationChannel(JdbcTemplate jdbcTemplate,
+                                             DataSource dataSource,
+                                             FnolProperties fnolProperties,
+                                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.channel = fnolProperties.statusCache().channel();
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid status cache channel name: " + channel);
+        }
+        this.received = Counter.builder("fnol.status.cache.invalidations.received")
+                .description("Status cache invalidations received over LISTEN/NOTIFY")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(String fnolId) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> {}, channel, fnolId);
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<String> onInvalidate, Runnable onReconnect) {
+        if (listener != null) {
+            throw new IllegalStateException("Status invalidation channel already has a subscriber");
+        }
+        listener = new Thread(() -> listen(onInvalidate, onReconnect), "status-cache-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    private void listen(Consumer<String> onInvalidate, Runnable onReconnect) {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                // Anything sent before LISTEN took effect was missed
+                onReconnect.run();
+                log.info("Listening for status cache invalidations on channel {}", channel);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        received.increment();
+                        onInvalidate.accept(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Status cache listener lost its connection, retrying in {} ms: {}",
+                            RECONNECT_DELAY_MS, e.getMessage());
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+}
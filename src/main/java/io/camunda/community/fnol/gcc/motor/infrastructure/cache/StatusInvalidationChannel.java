@@ -0,0 +1,31 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries status cache invalidations between nodes.
+ */
+public interface StatusInvalidationChannel {
+
+    /**
+     * Tell every node, including this one, that the status of an FNOL changed.
+     * Inside a transaction the message is only delivered if it commits.
+     *
+     * @param fnolId the FNOL ID
+     */
+    void publish(String fnolId);
+
+    /**
+     * Register the receiver of invalidations.
+     *
+     * @param onInvalidate called with the FNOL ID of each invalidation received
+     * @param onReconnect  called whenever the channel (re)connects, as messages may have been lost
+     */
+    void subscribe(Consumer<String> onInvalidate, Runnable onReconnect);
+}
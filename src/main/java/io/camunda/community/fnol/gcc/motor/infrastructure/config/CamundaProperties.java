@@ -10,15 +10,25 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Map;
+
 @ConfigurationProperties(prefix = "camunda")
 @Validated
 public record CamundaProperties(
         @Valid @NotNull ClientProperties client,
-        @Valid @NotNull ProcessProperties process
+        @Valid @NotNull ProcessProperties process,
+        @Valid WorkerProperties workers
 ) {
+    public CamundaProperties {
+        if (workers == null) {
+            workers = new WorkerProperties(false, 0, 0, false, 0, 0, 0, null);
+        }
+    }
 
     /**
      * Client configuration for connecting to Camunda 8.
@@ -99,12 +109,104 @@ public record CamundaProperties(
      */
     public record ProcessProperties(
             @NotBlank String id,
-            boolean autoDeploy
+            boolean autoDeploy,
+            @Valid StartProperties start
     ) {
         public ProcessProperties {
             if (id == null || id.isBlank()) {
                 id = "MOTOR_FNOL_PROCESS";
             }
+            if (start == null) {
+                start = new StartProperties(0, 0, 0);
+            }
+        }
+
+        /**
+         * Create-instance pipelining. At most {@code maxInFlight} commands are
+         * outstanding; a caller waits up to {@code acquireTimeoutMs} for a slot
+         * before the start is rejected.
+         */
+        public record StartProperties(
+                @Min(1) @Max(10000) int maxInFlight,
+                @Min(0) @Max(60000) long acquireTimeoutMs,
+                @Min(100) @Max(120000) long requestTimeoutMs
+        ) {
+            public StartProperties {
+                if (maxInFlight <= 0) {
+                    maxInFlight = 256;
+                }
+                if (acquireTimeoutMs <= 0) {
+                    acquireTimeoutMs = 100;
+                }
+                if (requestTimeoutMs <= 0) {
+                    requestTimeoutMs = 10000;
+                }
+            }
         }
     }
+
+    /**
+     * Job worker execution. With {@code virtualThreads} each job handler runs on a
+     * virtual thread, so handlers blocked on partner calls hold no platform thread and
+     * {@code threads} only caps how many run at once.
+     * <p>
+     * The remaining fields are the tuning profile every job type starts from, and
+     * {@code types} overrides them per job type. {@code maxJobsActive} is how many jobs
+     * of one type a worker holds at a time, which makes it that type's concurrency
+     * limit; with {@code streamEnabled} the gateway pushes jobs as they are created
+     * and polling (every {@code pollIntervalMs} when idle) only picks up the rest.
+     */
+    public record WorkerProperties(
+            boolean virtualThreads,
+            @Min(0) @Max(100000) int threads,
+            @Min(0) @Max(10000) int maxJobsActive,
+            boolean streamEnabled,
+            @Min(0) long timeoutMs,
+            @Min(0) long requestTimeoutMs,
+            @Min(0) long pollIntervalMs,
+            Map<String, JobTypeProperties> types
+    ) {
+        public WorkerProperties {
+            if (threads <= 0) {
+                threads = virtualThreads ? 1024 : 8;
+            }
+            if (maxJobsActive <= 0) {
+                maxJobsActive = 32;
+            }
+            if (timeoutMs <= 0) {
+                timeoutMs = 300000;
+            }
+            if (requestTimeoutMs <= 0) {
+                requestTimeoutMs = 20000;
+            }
+            if (pollIntervalMs <= 0) {
+                pollIntervalMs = 100;
+            }
+            types = types == null ? Map.of() : Map.copyOf(types);
+        }
+
+        /**
+         * Tuning for a job type: its overrides on top of the defaults above.
+         */
+        public JobTypeProperties profile(String type) {
+            JobTypeProperties overrides = types.getOrDefault(type, new JobTypeProperties(null, 0, 0, 0, 0));
+            return new JobTypeProperties(
+                    overrides.streamEnabled() != null ? overrides.streamEnabled() : streamEnabled,
+                    overrides.maxJobsActive() > 0 ? overrides.maxJobsActive() : maxJobsActive,
+                    overrides.timeoutMs() > 0 ? overrides.timeoutMs() : timeoutMs,
+                    overrides.requestTimeoutMs() > 0 ? overrides.requestTimeoutMs() : requestTimeoutMs,
+                    overrides.pollIntervalMs() > 0 ? overrides.pollIntervalMs() : pollIntervalMs);
+        }
+
+        /**
+         * Per job type overrides; null or 0 keeps the default.
+         */
+        public record JobTypeProperties(
+                Boolean streamEnabled,
+                @Min(0) @Max(10000) int maxJobsActive,
+                @Min(0) long timeoutMs,
+                @Min(0) long requestTimeoutMs,
+                @Min(0) long pollIntervalMs
+        ) {}
+    }
 }
@@ -10,11 +10,15 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.List;
+
 @ConfigurationProperties(prefix = "fnol")
 @Validated
 public record FnolProperties(
@@ -24,8 +28,18 @@ public record FnolProperties(
         @Valid @NotNull WebhookProperties webhook,
         @Valid @NotNull IdGenerationProperties idGeneration,
         @Valid @NotNull AttachmentsProperties attachments,
-        @Valid @NotNull ValidationProperties validation
+        @Valid @NotNull ValidationProperties validation,
+        @Valid @NotNull ProcessStartProperties processStart,
+        @Valid @NotNull BatchProperties batch,
+        @Valid @NotNull StatusCacheProperties statusCache,
+        @Valid @NotNull IdempotencyProperties idempotency,
+        @Valid FraudProperties fraud
 ) {
+    public FnolProperties {
+        if (fraud == null) {
+            fraud = new FraudProperties(0, 0, 0, 0, 0, null, 0);
+        }
+    }
 
     /**
      * Branding configuration for UI customization.
@@ -56,29 +70,120 @@ public record FnolProperties(
     public record SecurityProperties(
             @Valid @NotNull ApiKeyProperties apiKey,
             @Valid @NotNull RateLimitProperties rateLimit,
-            @Valid @NotNull CorsProperties cors
+            @Valid @NotNull CorsProperties cors,
+            List<String> trustedProxies
     ) {
 
+        /**
+         * {@code trustedProxies} are the proxies (IPs or CIDR ranges) whose
+         * {@code X-Forwarded-For} entries are believed. Defaults to loopback and the
+         * private ranges a load balancer or ingress normally connects from.
+         */
+        public SecurityProperties {
+            if (trustedProxies == null) {
+                trustedProxies = List.of("127.0.0.1/32", "::1/128", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16");
+            }
+        }
+
+        /**
+         * API key validation. Partner keys live hashed in the {@code api_keys} table
+         * and are served from an in-memory index, which picks up rows changed in the
+         * last {@code syncIntervalMs} (looking back {@code syncOverlapSeconds}) and is
+         * rebuilt every {@code rebuildIntervalMs}. {@code key}, when set, is accepted
+         * in addition as a key of {@code clientId} with every scope.
+         */
         public record ApiKeyProperties(
                 boolean enabled,
                 @NotBlank String headerName,
-                String key
+                String key,
+                @NotBlank String clientId,
+                @Min(100) @Max(300000) long syncIntervalMs,
+                @Min(1) @Max(3600) int syncOverlapSeconds,
+                @Min(60000) long rebuildIntervalMs
         ) {
             public ApiKeyProperties {
                 if (headerName == null || headerName.isBlank()) {
                     headerName = "X-API-Key";
                 }
+                if (clientId == null || clientId.isBlank()) {
+                    clientId = "default";
+                }
+                if (syncIntervalMs <= 0) {
+                    syncIntervalMs = 5000;
+                }
+                if (syncOverlapSeconds <= 0) {
+                    syncOverlapSeconds = 30;
+                }
+                if (rebuildIntervalMs <= 0) {
+                    rebuildIntervalMs = 3_600_000;
+                }
             }
         }
 
+        /**
+         * Rate limiting. {@code store} is {@code local} (per node) or {@code postgres}
+         * (shared by all nodes); for {@code postgres}, {@code localBatchTokens} above
+         * zero lets each node consume that many tokens, or for up to
+         * {@code localBatchMaxDelayMs}, before writing back to the table. Each node
+         * keeps at most {@code maxBuckets} buckets and drops those idle for
+         * {@code bucketIdleSeconds}.
+         * <p>
+         * {@code requestsPerMinute} applies where no entry of {@code policies} matches.
+         * Policies in {@code policyFile}, when set, replace {@code policies} and are
+         * reloaded when the file changes.
+         */
         public record RateLimitProperties(
                 boolean enabled,
-                @Min(1) @Max(1000) int requestsPerMinute
+                @Min(1) @Max(1000) int requestsPerMinute,
+                @NotBlank String store,
+                @Min(0) @Max(1000) int localBatchTokens,
+                @Min(1) @Max(60000) long localBatchMaxDelayMs,
+                @Min(1000) int maxBuckets,
+                @Min(60) @Max(86400) int bucketIdleSeconds,
+                @Valid List<PolicyProperties> policies,
+                String policyFile
         ) {
             public RateLimitProperties {
                 if (requestsPerMinute <= 0) {
                     requestsPerMinute = 30;
                 }
+                if (store == null || store.isBlank()) {
+                    store = "local";
+                }
+                if (localBatchMaxDelayMs <= 0) {
+                    localBatchMaxDelayMs = 1000;
+                }
+                if (maxBuckets <= 0) {
+                    maxBuckets = 100_000;
+                }
+                if (bucketIdleSeconds <= 0) {
+                    bucketIdleSeconds = 120;
+                }
+                if (policies == null) {
+                    policies = List.of();
+                }
+            }
+
+            /**
+             * Limit for requests matching {@code client} (API key client id),
+             * {@code routes} ({@code submit}, {@code read} or {@code metadata}) and
+             * {@code country}; a blank or {@code *} field matches anything. The policy
+             * with the most specific match wins, client before route group before
+             * country. {@code burst} is the bucket capacity and defaults to
+             * {@code requestsPerMinute}.
+             */
+            public record PolicyProperties(
+                    String client,
+                    String routes,
+                    String country,
+                    @Min(1) @Max(100000) int requestsPerMinute,
+                    @Min(0) int burst
+            ) {
+                public PolicyProperties {
+                    if (burst <= 0) {
+                        burst = requestsPerMinute;
+                    }
+                }
             }
         }
 
@@ -119,10 +224,20 @@ public record FnolProperties(
 
     /**
      * FNOL ID generation configuration.
+     * <p>
+     * {@code blockSize} is the number of sequence values a node reserves per round trip
+     * to {@code fnol_sequence}. A block size of 1 keeps the original row-lock-per-claim behaviour.
+     * {@code zone} decides when the ID year (and with it the per-country sequence) rolls over.
+     * {@code backend} selects {@code table} (fnol_sequence rows) or {@code native} (PostgreSQL
+     * sequences, each caching {@code sequenceCache} values per database session).
      */
     public record IdGenerationProperties(
             @NotBlank String prefix,
-            @Min(4) @Max(10) int sequencePadding
+            @Min(4) @Max(10) int sequencePadding,
+            @Min(1) @Max(10000) int blockSize,
+            @NotBlank String zone,
+            @NotBlank String backend,
+            @Min(1) @Max(10000) int sequenceCache
     ) {
         public IdGenerationProperties {
             if (prefix == null || prefix.isBlank()) {
@@ -131,6 +246,18 @@ public record FnolProperties(
             if (sequencePadding <= 0) {
                 sequencePadding = 6;
             }
+            if (blockSize <= 0) {
+                blockSize = 1;
+            }
+            if (zone == null || zone.isBlank()) {
+                zone = "Asia/Dubai";
+            }
+            if (backend == null || backend.isBlank()) {
+                backend = "table";
+            }
+            if (sequenceCache <= 0) {
+                sequenceCache = 20;
+            }
         }
     }
 
@@ -161,4 +288,181 @@ public record FnolProperties(
     public record ValidationProperties(
             boolean strictMode
     ) {}
+
+    /**
+     * Process start outbox configuration.
+     * <p>
+     * Submissions only write an outbox row; a dispatcher starts the Zeebe process after
+     * commit. Claimed rows are leased for {@code leaseSeconds} so a node that dies
+     * mid-dispatch does not strand them.
+     */
+    public record ProcessStartProperties(
+            @Min(1) @Max(1000) int batchSize,
+            @Min(100) @Max(60000) long pollIntervalMs,
+            @Min(5) @Max(3600) int leaseSeconds,
+            @Min(1) @Max(100) int maxAttempts
+    ) {
+        public ProcessStartProperties {
+            if (batchSize <= 0) {
+                batchSize = 50;
+            }
+            if (pollIntervalMs <= 0) {
+                pollIntervalMs = 1000;
+            }
+            if (leaseSeconds <= 0) {
+                leaseSeconds = 60;
+            }
+            if (maxAttempts <= 0) {
+                maxAttempts = 10;
+            }
+        }
+    }
+
+    /**
+     * Batch submission configuration ({@code POST /api/v1/fnol/batch}).
+     */
+    public record BatchProperties(
+            @Min(1) @Max(5000) int maxItems
+    ) {
+        public BatchProperties {
+            if (maxItems <= 0) {
+                maxItems = 500;
+            }
+        }
+    }
+
+    /**
+     * Status lookup cache in front of {@code GET /api/v1/fnol/{id}/status}.
+     * <p>
+     * Entries are dropped when the status or process instance key changes; the TTL only
+     * bounds how stale an entry can get if an invalidation is missed. With more than one
+     * node, {@code invalidation=postgres} fans invalidations out over LISTEN/NOTIFY.
+     */
+    public record StatusCacheProperties(
+            @Min(1) @Max(1000000) int maxEntries,
+            @Min(1) @Max(3600) int ttlSeconds,
+            @NotBlank String invalidation,
+            @NotBlank String channel
+    ) {
+        public StatusCacheProperties {
+            if (maxEntries <= 0) {
+                maxEntries = 10000;
+            }
+            if (ttlSeconds <= 0) {
+                ttlSeconds = 30;
+            }
+            if (invalidation == null || invalidation.isBlank()) {
+                invalidation = "postgres";
+            }
+            if (channel == null || channel.isBlank()) {
+                channel = "fnol_status_invalidation";
+            }
+        }
+    }
+
+    /**
+     * Idempotency configuration.
+     * <p>
+     * The node-local front tier is a Bloom filter of active hashed keys plus an LRU of
+     * recent key-to-FNOL mappings; {@code filterExpectedKeys} should cover the keys
+     * registered across all nodes within the key TTL (24h). Submissions claim their key
+     * up front, and a concurrent duplicate waits up to {@code claimWaitMs} for the first
+     * to finish. An unfinished claim can be taken over after {@code claimLeaseSeconds},
+     * which must exceed the slowest submission. On PostgreSQL the keys live in daily
+     * partitions, created {@code partitionPremakeDays} ahead and dropped once expired.
+     * With {@code contentKeys}, submissions without a client key get one derived from
+     * mobile number, national ID, plate and incident date.
+     */
+    public record IdempotencyProperties(
+            boolean frontTier,
+            @Min(1000) long filterExpectedKeys,
+            @DecimalMin("0.00001") @DecimalMax("0.5") double filterFalsePositiveRate,
+            @Min(1) @Max(1000000) int hotKeys,
+            @Min(60000) long rebuildIntervalMs,
+            @Min(100) @Max(60000) long syncIntervalMs,
+            @Min(1) @Max(3600) int syncOverlapSeconds,
+            @Min(1) @Max(30000) long claimWaitMs,
+            @Min(5) @Max(3600) int claimLeaseSeconds,
+            @Min(2) @Max(60) int partitionPremakeDays,
+            boolean contentKeys
+    ) {
+        public IdempotencyProperties {
+            if (filterExpectedKeys <= 0) {
+                filterExpectedKeys = 1_000_000;
+            }
+            if (filterFalsePositiveRate <= 0) {
+                filterFalsePositiveRate = 0.01;
+            }
+            if (hotKeys <= 0) {
+                hotKeys = 10000;
+            }
+            if (rebuildIntervalMs <= 0) {
+                rebuildIntervalMs = 21_600_000;
+            }
+            if (syncIntervalMs <= 0) {
+                syncIntervalMs = 1000;
+            }
+            if (syncOverlapSeconds <= 0) {
+                syncOverlapSeconds = 30;
+            }
+            if (claimWaitMs <= 0) {
+                claimWaitMs = 2000;
+            }
+            if (claimLeaseSeconds <= 0) {
+                claimLeaseSeconds = 30;
+            }
+            if (partitionPremakeDays <= 0) {
+                partitionPremakeDays = 7;
+            }
+        }
+    }
+
+    /**
+     * In-memory fraud indexes over {@code fnol_cases}.
+     * <p>
+     * The indexes are rebuilt from the table at startup and every
+     * {@code rebuildIntervalMs}, which also drops claims that have aged out, and are
+     * updated on each submission. Claims submitted on other nodes are read every
+     * {@code syncIntervalMs}, overlapping the previous read by {@code syncOverlapSeconds}
+     * to catch transactions that committed late.
+     * <p>
+     * The duplicate check compares a claim with those for the same plate whose incident
+     * dates are at most {@code duplicateWindowDays} apart, and reports those whose text
+     * is at least {@code duplicateSimilarityThreshold} similar (overridden by the
+     * {@code similarityThreshold} header of the BPMN task).
+     * <p>
+     * The blacklist check reads {@code blacklistFile}, an export of the regional fraud
+     * database, and looks for a newer export every {@code blacklistReloadIntervalMs}.
+     * Without a file nothing is blacklisted.
+     */
+    public record FraudProperties(
+            @Min(60000) long rebuildIntervalMs,
+            @Min(100) @Max(60000) long syncIntervalMs,
+            @Min(1) @Max(3600) int syncOverlapSeconds,
+            @Min(1) @Max(30) int duplicateWindowDays,
+            @DecimalMin("0.1") @DecimalMax("1.0") double duplicateSimilarityThreshold,
+            String blacklistFile,
+            @Min(1000) long blacklistReloadIntervalMs
+    ) {
+        public FraudProperties {
+            if (rebuildIntervalMs <= 0) {
+                rebuildIntervalMs = 21_600_000;
+            }
+            if (syncIntervalMs <= 0) {
+                syncIntervalMs = 1000;
+            }
+            if (syncOverlapSeconds <= 0) {
+                syncOverlapSeconds = 30;
+            }
+            if (duplicateWindowDays <= 0) {
+                duplicateWindowDays = 3;
+            }
+            if (duplicateSimilarityThreshold <= 0) {
+                duplicateSimilarityThreshold = 0.85;
+            }
+            if (blacklistReloadIntervalMs <= 0) {
+                blacklistReloadIntervalMs = 60000;
+            }
+        }
+    }
 }
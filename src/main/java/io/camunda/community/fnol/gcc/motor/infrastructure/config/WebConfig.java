@@ -6,11 +6,17 @@
  */
 package io.camunda.community.fnol.gcc.motor.infrastructure.config;
 
+import io.camunda.community.fnol.gcc.motor.api.filter.ApiRequestContext;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
 import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-import org.springframework.web.filter.CorsFilter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -27,8 +33,11 @@ public class WebConfig implements WebMvcConfigurer {
         this.fnolProperties = fnolProperties;
     }
 
+    /**
+     * CORS rules for {@code /api/**}, applied by the API gateway filter.
+     */
     @Bean
-    public CorsFilter corsFilter() {
+    public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
 
         String origins = fnolProperties.security().cors().allowedOrigins();
@@ -57,6 +66,10 @@ public class WebConfig implements WebMvcConfigurer {
 
         config.setExposedHeaders(List.of(
                 "X-Correlation-ID",
+                "RateLimit-Limit",
+                "RateLimit-Remaining",
+                "RateLimit-Reset",
+                "RateLimit-Policy",
                 "X-RateLimit-Remaining",
                 "Retry-After"
         ));
@@ -66,7 +79,25 @@ public class WebConfig implements WebMvcConfigurer {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/api/**", config);
 
-        return new CorsFilter(source);
+        return source;
+    }
+
+    /**
+     * Tag HTTP server metrics with the tenant (API key client id) of the request,
+     * {@code none} when no key was validated. Cardinality is bounded by the number of
+     * partners.
+     */
+    @Bean
+    public ServerRequestObservationConvention tenantServerRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                ApiRequestContext request = ApiRequestContext.of(context.getCarrier());
+                String tenant = request != null ? request.tenant() : null;
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of("tenant", tenant != null ? tenant : "none"));
+            }
+        };
     }
 
     /**
@@ -0,0 +1,149 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Matches claims against the national ID, mobile number and plate blacklists from
+ * the regional fraud database export at {@code fnol.fraud.blacklist-file}.
+ * <p>
+ * The file is checked every {@code blacklist-reload-interval-ms} and read again only
+ * when its size or modification time changed. A reload builds a new
+ * {@link BlacklistSnapshot} beside the current one and swaps it in with a single
+ * volatile write, so lookups never wait; a file that cannot be read leaves the
+ * previous snapshot in place. Without a configured file nothing is blacklisted.
+ */
+@Component
+public class BlacklistMatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(BlacklistMatcher.class);
+
+    private final Path file;
+
+    private volatile BlacklistSnapshot snapshot;
+
+    private final Timer loadTimer;
+    private final Timer lookupTimer;
+
+    public BlacklistMatcher(FnolProperties fnolProperties, MeterRegistry meterRegistry) {
+        String configured = fnolProperties.fraud().blacklistFile();
+        this.file = configured == null || configured.isBlank() ? null : Path.of(configured);
+        this.snapshot = file == null ? BlacklistSnapshot.EMPTY : null;
+
+        this.loadTimer = Timer.builder("fnol.fraud.blacklist.load")
+                .description("Time to read, sort and swap in the blacklist file")
+                .register(meterRegistry);
+        this.lookupTimer = Timer.builder("fnol.fraud.blacklist.lookup")
+                .description("Time to match one claim against the blacklists")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+        entriesGauge(meterRegistry, "national_id", BlacklistSnapshot::nationalIdCount);
+        entriesGauge(meterRegistry, "mobile", BlacklistSnapshot::mobileNumberCount);
+        entriesGauge(meterRegistry, "plate", BlacklistSnapshot::plateCount);
+        Gauge.builder("fnol.fraud.blacklist.memory", this, matcher -> value(matcher, BlacklistSnapshot::memoryBytes))
+                .description("Heap held by the loaded blacklists")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Which blacklists the claim's national ID, mobile number and plate are on.
+     *
+     * @throws IllegalStateException when the configured file has not been loaded yet
+     */
+    public BlacklistMatch match(String nationalId, String mobileNumber, String plateNumber, String plateCountry) {
+        BlacklistSnapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Blacklist is still loading");
+        }
+        long start = System.nanoTime();
+        List<String> matchedOn = new ArrayList<>(3);
+        if (current.containsNationalId(nationalId)) {
+            matchedOn.add("NATIONAL_ID");
+        }
+        if (current.containsMobileNumber(mobileNumber)) {
+            matchedOn.add("MOBILE");
+        }
+        if (current.containsPlate(plateNumber, plateCountry)) {
+            matchedOn.add("PLATE");
+        }
+        lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new BlacklistMatch(List.copyOf(matchedOn));
+    }
+
+    public boolean ready() {
+        return snapshot != null;
+    }
+
+    /**
+     * Load the file if it changed since the last load, and swap the new snapshot in.
+     *
+     * @return true when a new snapshot was swapped in
+     */
+    public boolean reloadIfChanged() throws IOException {
+        if (file == null) {
+            return false;
+        }
+        BlacklistSnapshot current = snapshot;
+        if (current != null && !current.isStale(file)) {
+            return false;
+        }
+        if (!Files.isReadable(file)) {
+            throw new IOException("Blacklist file " + file + " is not readable");
+        }
+        long start = System.nanoTime();
+        BlacklistSnapshot loaded = BlacklistSnapshot.load(file);
+        snapshot = loaded;
+        long nanos = System.nanoTime() - start;
+        loadTimer.record(nanos, TimeUnit.NANOSECONDS);
+
+        log.info("Blacklist loaded from {} in {} ms: {} national IDs, {} mobile numbers, {} plates, {} MB",
+                file, TimeUnit.NANOSECONDS.toMillis(nanos), loaded.nationalIdCount(), loaded.mobileNumberCount(),
+                loaded.plateCount(), loaded.memoryBytes() >> 20);
+        if (loaded.rejectedLines() > 0) {
+            log.warn("Blacklist file {} has {} lines that could not be read", file, loaded.rejectedLines());
+        }
+        return true;
+    }
+
+    private void entriesGauge(MeterRegistry meterRegistry, String type, ToDoubleFunction<BlacklistSnapshot> count) {
+        Gauge.builder("fnol.fraud.blacklist.entries", this, matcher -> value(matcher, count))
+                .description("Entries in the loaded blacklist")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static double value(BlacklistMatcher matcher, ToDoubleFunction<BlacklistSnapshot> metric) {
+        BlacklistSnapshot current = matcher.snapshot;
+        return current == null ? 0 : metric.applyAsDouble(current);
+    }
+
+    /**
+     * Blacklists a claim matched, as {@code NATIONAL_ID}, {@code MOBILE} or {@code PLATE}.
+     */
+    public record BlacklistMatch(List<String> matchedOn) {
+
+        public boolean matched() {
+            return !matchedOn.isEmpty();
+        }
+    }
+}
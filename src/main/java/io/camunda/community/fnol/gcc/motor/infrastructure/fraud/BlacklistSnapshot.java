@@ -0,0 +1,194 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+/**
+ * One immutable load of the blacklist file: national IDs, mobile numbers and plates
+ * as sorted {@code long[]}, eight bytes an entry, looked up by binary search.
+ * <p>
+ * The file has one entry per line, {@code TYPE,VALUE[,PLATE_COUNTRY]} with
+ * {@code NATIONAL_ID}, {@code MOBILE} or {@code PLATE} as the type; blank lines and
+ * lines starting with {@code #} are skipped. National IDs and mobile numbers are
+ * keyed by their digits as in {@link ClaimVelocityIndex}; plates by a 64-bit hash of
+ * their {@link DuplicateClaimIndex#plateKey normalised key}, whose chance of a false
+ * match is negligible even at millions of entries.
+ */
+final class BlacklistSnapshot {
+
+    static final BlacklistSnapshot EMPTY = new BlacklistSnapshot(new long[0], new long[0], new long[0], 0, null, -1);
+
+    private final long[] nationalIds;
+    private final long[] mobileNumbers;
+    private final long[] plates;
+    private final long rejectedLines;
+    private final FileTime modifiedAt;
+    private final long fileSize;
+
+    private BlacklistSnapshot(long[] nationalIds, long[] mobileNumbers, long[] plates,
+                              long rejectedLines, FileTime modifiedAt, long fileSize) {
+        this.nationalIds = nationalIds;
+        this.mobileNumbers = mobileNumbers;
+        this.plates = plates;
+        this.rejectedLines = rejectedLines;
+        this.modifiedAt = modifiedAt;
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Read, sort and de-duplicate the entries of a blacklist file.
+     */
+    static BlacklistSnapshot load(Path file) throws IOException {
+        FileTime modifiedAt = Files.getLastModifiedTime(file);
+        long fileSize = Files.size(file);
+        // About 20 bytes a line; the builders grow if the guess is short
+        int expected = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(16, fileSize / 20));
+        LongArrayBuilder nationalIds = new LongArrayBuilder(expected / 2);
+        LongArrayBuilder mobileNumbers = new LongArrayBuilder(expected / 2);
+        LongArrayBuilder plates = new LongArrayBuilder(expected / 4);
+        long rejected = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                if (comma < 0) {
+                    rejected++;
+                    continue;
+                }
+                int next = line.indexOf(',', comma + 1);
+                String type = line.substring(0, comma).strip();
+                String value = line.substring(comma + 1, next < 0 ? line.length() : next);
+                long key = switch (type) {
+                    case "NATIONAL_ID" -> nationalIds.add(ClaimVelocityIndex.nationalIdKey(value));
+                    case "MOBILE" -> mobileNumbers.add(ClaimVelocityIndex.mobileKey(value));
+                    case "PLATE" -> plates.add(plateKey(value, next < 0 ? null : line.substring(next + 1).strip()));
+                    default -> 0;
+                };
+                if (key == 0) {
+                    rejected++;
+                }
+            }
+        }
+        return new BlacklistSnapshot(nationalIds.sorted(), mobileNumbers.sorted(), plates.sorted(),
+                rejected, modifiedAt, fileSize);
+    }
+
+    boolean containsNationalId(String nationalId) {
+        return contains(nationalIds, ClaimVelocityIndex.nationalIdKey(nationalId));
+    }
+
+    boolean containsMobileNumber(String mobileNumber) {
+        return contains(mobileNumbers, ClaimVelocityIndex.mobileKey(mobileNumber));
+    }
+
+    boolean containsPlate(String plateNumber, String plateCountry) {
+        return contains(plates, plateKey(plateNumber, plateCountry));
+    }
+
+    /**
+     * Whether the file differs from the one this snapshot was loaded from.
+     */
+    boolean isStale(Path file) throws IOException {
+        return !Files.getLastModifiedTime(file).equals(modifiedAt) || Files.size(file) != fileSize;
+    }
+
+    long nationalIdCount() {
+        return nationalIds.length;
+    }
+
+    long mobileNumberCount() {
+        return mobileNumbers.length;
+    }
+
+    long plateCount() {
+        return plates.length;
+    }
+
+    long entries() {
+        return nationalIds.length + mobileNumbers.length + plates.length;
+    }
+
+    long rejectedLines() {
+        return rejectedLines;
+    }
+
+    long memoryBytes() {
+        return 3 * 16 + 8 * entries();
+    }
+
+    private static boolean contains(long[] keys, long key) {
+        return key != 0 && Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    private static long plateKey(String plateNumber, String plateCountry) {
+        String key = DuplicateClaimIndex.plateKey(plateNumber, plateCountry);
+        if (key == null) {
+            return 0;
+        }
+        // FNV-1a, finished with the MurmurHash3 mixer
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Growable {@code long[]} that skips 0 (no key).
+     */
+    private static final class LongArrayBuilder {
+
+        private long[] values;
+        private int size;
+
+        LongArrayBuilder(int capacity) {
+            this.values = new long[Math.max(16, capacity)];
+        }
+
+        long add(long value) {
+            if (value == 0) {
+                return 0;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[size++] = value;
+            return value;
+        }
+
+        /**
+         * The values sorted, without duplicates.
+         */
+        long[] sorted() {
+            Arrays.parallelSort(values, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || values[i] != values[distinct - 1]) {
+                    values[distinct++] = values[i];
+                }
+            }
+            return Arrays.copyOf(values, distinct);
+        }
+    }
+}
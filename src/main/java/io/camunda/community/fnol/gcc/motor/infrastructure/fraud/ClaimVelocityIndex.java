@@ -0,0 +1,277 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseJpaRepository;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseSubmissionView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Node-local count of recent claims per national ID and per mobile number, for the
+ * velocity fraud check.
+ * <p>
+ * Identities are reduced to their digits and packed into a {@code long}, and each
+ * one's claim days are held in a {@link DayCounterTable}, so a lookup is a couple of
+ * array probes. The index is rebuilt from {@code fnol_cases} at startup and every
+ * {@code rebuild-interval-ms} (dropping claims older than 90 days), claims saved on
+ * this node are added once they commit, and rows written by other nodes are tailed
+ * every {@code sync-interval-ms}. Claims of the last day are remembered by FNOL ID so
+ * one seen twice is counted once, and so a check can leave out the claim it is run
+ * for. Until the first rebuild finishes the index is not {@link #ready()}; a failed
+ * one is retried on every sync.
+ */
+@Component
+public class ClaimVelocityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClaimVelocityIndex.class);
+
+    private static final Duration WINDOW = Duration.ofDays(DayCounterTable.WINDOW_DAYS);
+    private static final Duration RECENT = Duration.ofDays(1);
+    // Digits that fit in a long next to a 5-bit length
+    private static final int MAX_DIGITS = 17;
+
+    private final FnolCaseJpaRepository repository;
+    private final TransactionTemplate readTransaction;
+    private final Duration syncOverlap;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Generation current;
+    private volatile Generation rebuilding;
+    private volatile LocalDateTime syncedUpTo;
+    private volatile int expectedKeys = 1 << 16;
+
+    public ClaimVelocityIndex(FnolCaseJpaRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              FnolProperties fnolProperties,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.syncOverlap = Duration.ofSeconds(fnolProperties.fraud().syncOverlapSeconds());
+
+        Gauge.builder("fnol.fraud.velocity.keys", this, index -> index.current == null ? 0 : index.current.keys())
+                .description("National IDs and mobile numbers in the claim velocity index")
+                .register(meterRegistry);
+        Gauge.builder("fnol.fraud.velocity.memory", this, index -> index.current == null ? 0 : index.current.memoryBytes())
+                .description("Heap held by the claim velocity index tables")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("fnol.fraud.velocity.bytes_per_key", this, index -> index.current == null ? 0 : index.current.bytesPerKey())
+                .description("Heap held by the claim velocity index per identity")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims by either identity in the last 30 and 90 days, counting submission days
+     * up to and including today, without the claim being checked.
+     *
+     * @param fnolId the claim the check is for, left out of the counts
+     * @throws IllegalStateException when the index has not been built yet
+     */
+    public Velocity velocity(String fnolId, String nationalId, String mobileNumber) {
+        return velocity(fnolId, nationalId, mobileNumber, LocalDate.now());
+    }
+
+    Velocity velocity(String fnolId, String nationalId, String mobileNumber, LocalDate today) {
+        Generation generation = current;
+        if (generation == null) {
+            throw new IllegalStateException("Claim velocity index is still loading");
+        }
+        int day = (int) today.toEpochDay();
+        long byNationalId = generation.nationalIds.counts(nationalIdKey(nationalId), day);
+        long byMobile = generation.mobileNumbers.counts(mobileKey(mobileNumber), day);
+        int last30 = Math.max(DayCounterTable.last30Days(byNationalId), DayCounterTable.last30Days(byMobile));
+        int last90 = Math.max(DayCounterTable.last90Days(byNationalId), DayCounterTable.last90Days(byMobile));
+
+        LocalDateTime checked = fnolId != null ? generation.recent.get(fnolId) : null;
+        if (checked != null) {
+            int age = day - (int) checked.toLocalDate().toEpochDay();
+            if (age < 30) {
+                last30--;
+            }
+            if (age < DayCounterTable.WINDOW_DAYS) {
+                last90--;
+            }
+        }
+        return new Velocity(Math.max(0, last30), Math.max(0, last90));
+    }
+
+    public boolean ready() {
+        return current != null;
+    }
+
+    /**
+     * Add a claim committed on this node.
+     */
+    public void record(String fnolId, String nationalId, String mobileNumber, LocalDateTime createdAt) {
+        Generation generation = current;
+        if (generation != null) {
+            generation.add(fnolId, nationalId, mobileNumber, createdAt);
+        }
+        Generation next = rebuilding;
+        if (next != null) {
+            next.add(fnolId, nationalId, mobileNumber, createdAt);
+        }
+    }
+
+    /**
+     * Build a new index from the claims of the last 90 days and swap it in. Does
+     * nothing while another rebuild is running.
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Generation fresh = new Generation(expectedKeys, startedAt.minus(RECENT));
+        rebuilding = fresh;
+        try {
+            long loaded = load(fresh, startedAt.minus(WINDOW));
+            syncedUpTo = startedAt;
+            current = fresh;
+            expectedKeys = Math.max(expectedKeys, fresh.keys());
+            log.info("Claim velocity index rebuilt from {} claims: {} keys, {} bytes per key",
+                    loaded, fresh.keys(), String.format("%.1f", fresh.bytesPerKey()));
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Add claims written since the last sync, including those from other nodes. The
+     * window overlaps the previous one to catch transactions that committed late.
+     */
+    public void syncRecent() {
+        Generation generation = current;
+        if (generation == null) {
+            // The startup rebuild failed; keep retrying it rather than wait for the next rebuild
+            rebuild();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        load(generation, syncedUpTo.minus(syncOverlap));
+        syncedUpTo = startedAt;
+    }
+
+    private long load(Generation target, LocalDateTime since) {
+        Long loaded = readTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<FnolCaseSubmissionView> rows = repository.streamSubmissionsCreatedAfter(since)) {
+                for (FnolCaseSubmissionView row : (Iterable<FnolCaseSubmissionView>) rows::iterator) {
+                    target.add(row.fnolId(), row.nationalId(), row.mobileNumber(), row.createdAt());
+                    count++;
+                }
+            }
+            return count;
+        });
+        return loaded != null ? loaded : 0;
+    }
+
+    /**
+     * The digits of a national ID, e.g. {@code 784-1990-1234567-1}, as a key.
+     */
+    static long nationalIdKey(String nationalId) {
+        return digitsKey(nationalId, 0);
+    }
+
+    /**
+     * The digits of a mobile number in international form, with or without a leading
+     * {@code +} or {@code 00}, as a key.
+     */
+    static long mobileKey(String mobileNumber) {
+        if (mobileNumber == null) {
+            return 0;
+        }
+        String trimmed = mobileNumber.strip();
+        return digitsKey(trimmed, trimmed.startsWith("00") ? 2 : 0);
+    }
+
+    /**
+     * Digit value shifted left by 5, with the digit count in the low bits so leading
+     * zeros are kept. 0 (not indexed) when there are no digits or too many.
+     */
+    private static long digitsKey(String value, int from) {
+        if (value == null) {
+            return 0;
+        }
+        long digits = 0;
+        int length = 0;
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++length > MAX_DIGITS) {
+                    return 0;
+                }
+                digits = digits * 10 + (c - '0');
+            }
+        }
+        return length == 0 ? 0 : (digits << 5) | length;
+    }
+
+    /**
+     * Claims counted for a velocity check.
+     */
+    public record Velocity(int claimsLast30Days, int claimsLast90Days) {}
+
+    /**
+     * One build of the index. Claims created after {@code recentSince} are kept by
+     * FNOL ID; the rest can no longer arrive twice.
+     */
+    private static final class Generation {
+
+        private final DayCounterTable nationalIds;
+        private final DayCounterTable mobileNumbers;
+        private final ConcurrentMap<String, LocalDateTime> recent = new ConcurrentHashMap<>();
+        private final LocalDateTime recentSince;
+
+        Generation(int expectedKeys, LocalDateTime recentSince) {
+            this.nationalIds = new DayCounterTable(expectedKeys);
+            this.mobileNumbers = new DayCounterTable(expectedKeys);
+            this.recentSince = recentSince;
+        }
+
+        void add(String fnolId, String nationalId, String mobileNumber, LocalDateTime createdAt) {
+            if (createdAt.isAfter(recentSince) && recent.putIfAbsent(fnolId, createdAt) != null) {
+                return;
+            }
+            int day = (int) createdAt.toLocalDate().toEpochDay();
+            int today = (int) LocalDate.now().toEpochDay();
+            nationalIds.add(nationalIdKey(nationalId), day, today);
+            mobileNumbers.add(mobileKey(mobileNumber), day, today);
+        }
+
+        int keys() {
+            return nationalIds.size() + mobileNumbers.size();
+        }
+
+        long memoryBytes() {
+            return nationalIds.memoryBytes() + mobileNumbers.memoryBytes();
+        }
+
+        double bytesPerKey() {
+            int keys = keys();
+            return keys == 0 ? 0 : (double) memoryBytes() / keys;
+        }
+    }
+}
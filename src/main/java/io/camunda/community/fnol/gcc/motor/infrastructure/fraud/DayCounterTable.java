@@ -0,0 +1,228 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Claim days per identity over the last {@value #WINDOW_DAYS} days.
+ * <p>
+ * An open-addressing table of primitive {@code long} keys (0 marks an empty slot),
+ * with the days of each key's claims packed into a parallel {@code long[]}: four
+ * 16-bit epoch days per slot, 0 for an unused lane. A lane whose day has left the
+ * window is reused by the next claim, so a key costs two longs until it has more than
+ * four claims in the window; those extra days go to a small overflow map. Reads are
+ * optimistic and take no lock unless a write ran concurrently.
+ */
+final class DayCounterTable {
+
+    static final int WINDOW_DAYS = 90;
+
+    private static final int LANES = 4;
+    private static final int LANE_BITS = 16;
+    private static final long LANE_MASK = 0xFFFFL;
+    private static final double MAX_LOAD = 0.6;
+    // HashMap node, table reference, boxed key and int[] header
+    private static final long OVERFLOW_ENTRY_BYTES = 96;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] keys;
+    private long[] lanes;
+    private int size;
+    private final Map<Long, int[]> overflow = new HashMap<>();
+
+    DayCounterTable(int expectedKeys) {
+        int capacity = Integer.highestOneBit((int) Math.max(16, Math.min(1 << 29, expectedKeys / MAX_LOAD)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.lanes = new long[capacity];
+    }
+
+    /**
+     * Record a claim of the key on the given epoch day.
+     */
+    void add(long key, int epochDay, int today) {
+        if (key == 0 || epochDay <= today - WINDOW_DAYS) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (size + 1 > keys.length * MAX_LOAD) {
+                resize(keys.length << 1);
+            }
+            int slot = slot(keys, key);
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                size++;
+            }
+            long packed = lanes[slot];
+            for (int lane = 0; lane < LANES; lane++) {
+                int day = day(packed, lane);
+                if (day == 0 || day <= today - WINDOW_DAYS) {
+                    lanes[slot] = withDay(packed, lane, epochDay);
+                    return;
+                }
+            }
+            overflow.merge(key, new int[]{epochDay}, DayCounterTable::append);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Claims of the key in the last 30 days (high 32 bits) and the last
+     * {@value #WINDOW_DAYS} days (low 32 bits), counting today.
+     */
+    long counts(long key, int today) {
+        if (key == 0) {
+            return 0;
+        }
+        long stamp = lock.tryOptimisticRead();
+        try {
+            long counts = countsUnlocked(key, today);
+            if (lock.validate(stamp)) {
+                return counts;
+            }
+        } catch (RuntimeException e) {
+            // Overflow map read while it was being written; retry under the lock
+        }
+        stamp = lock.readLock();
+        try {
+            return countsUnlocked(key, today);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    static int last30Days(long counts) {
+        return (int) (counts >>> 32);
+    }
+
+    static int last90Days(long counts) {
+        return (int) counts;
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Heap used by the table's arrays and overflow entries.
+     */
+    long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            long bytes = 2L * (16 + 8L * keys.length);
+            for (int[] days : overflow.values()) {
+                bytes += OVERFLOW_ENTRY_BYTES + 4L * days.length;
+            }
+            return bytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long countsUnlocked(long key, int today) {
+        // Local copies: a concurrent resize swaps the arrays, which validate() then catches
+        long[] currentKeys = keys;
+        long[] currentLanes = lanes;
+        int slot = slot(currentKeys, key);
+        if (currentKeys[slot] != key) {
+            return 0;
+        }
+        int last30 = 0;
+        int last90 = 0;
+        long packed = currentLanes[slot];
+        for (int lane = 0; lane < LANES; lane++) {
+            int day = day(packed, lane);
+            int age = today - day;
+            if (day != 0 && age < WINDOW_DAYS) {
+                last90++;
+                if (age < 30) {
+                    last30++;
+                }
+            }
+        }
+        if (!overflow.isEmpty()) {
+            int[] days = overflow.get(key);
+            if (days != null) {
+                for (int day : days) {
+                    int age = today - day;
+                    if (age < WINDOW_DAYS) {
+                        last90++;
+                        if (age < 30) {
+                            last30++;
+                        }
+                    }
+                }
+            }
+        }
+        return ((long) last30 << 32) | last90;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldLanes = lanes;
+        long[] newKeys = new long[capacity];
+        long[] newLanes = new long[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(newKeys, oldKeys[i]);
+                newKeys[slot] = oldKeys[i];
+                newLanes[slot] = oldLanes[i];
+            }
+        }
+        keys = newKeys;
+        lanes = newLanes;
+    }
+
+    /**
+     * The slot holding the key, or the empty slot where it would go.
+     */
+    private static int slot(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = (int) mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int day(long packed, int lane) {
+        return (int) ((packed >>> (lane * LANE_BITS)) & LANE_MASK);
+    }
+
+    private static long withDay(long packed, int lane, int epochDay) {
+        int shift = lane * LANE_BITS;
+        return (packed & ~(LANE_MASK << shift)) | ((epochDay & LANE_MASK) << shift);
+    }
+
+    private static int[] append(int[] days, int[] more) {
+        int[] merged = new int[days.length + more.length];
+        System.arraycopy(days, 0, merged, 0, days.length);
+        System.arraycopy(more, 0, merged, days.length, more.length);
+        return merged;
+    }
+
+    /**
+     * MurmurHash3 finalizer, so keys that differ only in low digits spread out.
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import io.camunda.community.fnol.gcc.motor.application.service.LanguageNormalizationService;
+import io.camunda.community.fnol.gcc.motor.domain.enums.GccCountry;
+import io.camunda.community.fnol.gcc.motor.domain.valueobject.PlateNumber;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseIncidentView;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseJpaRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Node-local blocking index of recent claims for the duplicate claim check.
+ * <p>
+ * Claims are grouped by plate (normalised through {@link PlateNumber}) and incident
+ * date bucket, the bucket being {@code duplicate-window-days} wide, so a check reads
+ * three blocks and compares against the handful of claims for the same vehicle on
+ * nearby days. Each claim carries a {@link MinHash} signature of its normalised
+ * location and description; candidates must share an LSH band before their
+ * similarity counts. Built and kept current like {@link ClaimVelocityIndex}: rebuilt
+ * from the claims of the last 90 days, claims saved on this node added once they
+ * commit, rows from other nodes tailed every {@code sync-interval-ms}, and a failed
+ * first rebuild retried on every sync.
+ */
+@Component
+public class DuplicateClaimIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateClaimIndex.class);
+
+    private static final Duration RETENTION = Duration.ofDays(DayCounterTable.WINDOW_DAYS);
+    private static final Duration RECENT = Duration.ofDays(1);
+
+    private final FnolCaseJpaRepository repository;
+    private final TransactionTemplate readTransaction;
+    private final LanguageNormalizationService languageService;
+    private final int windowDays;
+    private final Duration syncOverlap;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Generation current;
+    private volatile Generation rebuilding;
+    private volatile LocalDateTime syncedUpTo;
+
+    private final DistributionSummary candidatesPerCheck;
+
+    public DuplicateClaimIndex(FnolCaseJpaRepository repository,
+                               PlatformTransactionManager transactionManager,
+                               LanguageNormalizationService languageService,
+                               FnolProperties fnolProperties,
+                               MeterRegistry meterRegistry) {
+        FnolProperties.FraudProperties properties = fnolProperties.fraud();
+        this.repository = repository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.languageService = languageService;
+        this.windowDays = properties.duplicateWindowDays();
+        this.syncOverlap = Duration.ofSeconds(properties.syncOverlapSeconds());
+
+        this.candidatesPerCheck = DistributionSummary.builder("fnol.fraud.duplicate.candidates")
+                .description("Claims compared per duplicate check")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("fnol.fraud.duplicate.claims", this, index -> index.current == null ? 0 : index.current.claims.get())
+                .description("Claims in the duplicate claim index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims for the same plate, with incident dates at most {@code duplicate-window-days}
+     * apart, whose location and description are at least {@code threshold} similar.
+     *
+     * @param fnolId the claim being checked, never matched with itself
+     * @throws IllegalStateException when the index has not been built yet
+     */
+    public DuplicateMatch match(String fnolId, String plateNumber, String plateCountry, LocalDate incidentDate,
+                                String location, String description, double threshold) {
+        Generation generation = current;
+        if (generation == null) {
+            throw new IllegalStateException("Duplicate claim index is still loading");
+        }
+        String plate = plateKey(plateNumber, plateCountry);
+        if (plate == null || incidentDate == null) {
+            candidatesPerCheck.record(0);
+            return DuplicateMatch.NONE;
+        }
+        int day = (int) incidentDate.toEpochDay();
+        int[] signature = MinHash.signature(languageService.normalize(location), languageService.normalize(description));
+
+        int candidates = 0;
+        double bestScore = 0;
+        boolean exact = false;
+        List<String> matched = new ArrayList<>();
+        int bucket = Math.floorDiv(day, windowDays);
+        for (int b = bucket - 1; b <= bucket + 1; b++) {
+            Claim[] claims = generation.blocks.get(new Block(plate, b));
+            if (claims == null) {
+                continue;
+            }
+            for (Claim claim : claims) {
+                if (claim.fnolId().equals(fnolId) || Math.abs(claim.incidentDay() - day) > windowDays) {
+                    continue;
+                }
+                candidates++;
+                if (signature == null || claim.signature() == null || !MinHash.shareBand(signature, claim.signature())) {
+                    continue;
+                }
+                double score = MinHash.similarity(signature, claim.signature());
+                bestScore = Math.max(bestScore, score);
+                if (score >= threshold) {
+                    matched.add(claim.fnolId());
+                    exact |= score == 1.0 && claim.incidentDay() == day;
+                }
+            }
+        }
+        candidatesPerCheck.record(candidates);
+        return new DuplicateMatch(bestScore, List.copyOf(matched), candidates, exact);
+    }
+
+    public boolean ready() {
+        return current != null;
+    }
+
+    /**
+     * Add a claim committed on this node; location and description already normalised.
+     */
+    public void record(String fnolId, String plateNumber, String plateCountry, LocalDate incidentDate,
+                       String normalizedLocation, String normalizedDescription, LocalDateTime createdAt) {
+        Generation generation = current;
+        if (generation != null) {
+            generation.add(fnolId, plateNumber, plateCountry, incidentDate, normalizedLocation, normalizedDescription, createdAt);
+        }
+        Generation next = rebuilding;
+        if (next != null) {
+            next.add(fnolId, plateNumber, plateCountry, incidentDate, normalizedLocation, normalizedDescription, createdAt);
+        }
+    }
+
+    /**
+     * Build a new index from the claims of the last 90 days and swap it in. Does
+     * nothing while another rebuild is running.
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Generation fresh = new Generation(windowDays, startedAt.minus(RECENT));
+        rebuilding = fresh;
+        try {
+            long loaded = load(fresh, startedAt.minus(RETENTION));
+            syncedUpTo = startedAt;
+            current = fresh;
+            log.info("Duplicate claim index rebuilt from {} claims in {} blocks", loaded, fresh.blocks.size());
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Add claims written since the last sync, including those from other nodes. The
+     * window overlaps the previous one to catch transactions that committed late.
+     */
+    public void syncRecent() {
+        Generation generation = current;
+        if (generation == null) {
+            // The startup rebuild failed; keep retrying it rather than wait for the next rebuild
+            rebuild();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        load(generation, syncedUpTo.minus(syncOverlap));
+        syncedUpTo = startedAt;
+    }
+
+    private long load(Generation target, LocalDateTime since) {
+        Long loaded = readTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<FnolCaseIncidentView> rows = repository.streamIncidentsCreatedAfter(since)) {
+                for (FnolCaseIncidentView row : (Iterable<FnolCaseIncidentView>) rows::iterator) {
+                    target.add(row.fnolId(), row.plateNumber(), row.plateCountry(), row.incidentDate(),
+                            languageService.normalize(row.incidentLocation()),
+                            languageService.normalize(row.description()),
+                            row.createdAt());
+                    count++;
+                }
+            }
+            return count;
+        });
+        return loaded != null ? loaded : 0;
+    }
+
+    /**
+     * Country and normalised plate without spaces, e.g. {@code AE:A12345}; null when
+     * the plate is not valid for its country.
+     */
+    static String plateKey(String plateNumber, String plateCountry) {
+        if (plateNumber == null) {
+            return null;
+        }
+        return GccCountry.fromCode(plateCountry)
+                .flatMap(country -> PlateNumber.tryParse(plateNumber, country))
+                .map(plate -> plate.country().name() + ":" + plate.normalizedValue().replace(" ", ""))
+                .orElse(null);
+    }
+
+    /**
+     * Outcome of a duplicate check. {@code similarityScore} is the best similarity of
+     * any candidate, matched or not; {@code exact} is set when a matched claim has the
+     * same incident date and the same text.
+     */
+    public record DuplicateMatch(double similarityScore, List<String> matchedFnolIds, int candidates, boolean exact) {
+
+        static final DuplicateMatch NONE = new DuplicateMatch(0, List.of(), 0, false);
+    }
+
+    private record Block(String plate, int bucket) {}
+
+    private record Claim(String fnolId, int incidentDay, int[] signature) {}
+
+    /**
+     * One build of the index. Blocks hold copy-on-write arrays, as they only ever see a
+     * few claims. Claims created after {@code recentSince} are kept by FNOL ID; the
+     * rest can no longer arrive twice.
+     */
+    private static final class Generation {
+
+        private final ConcurrentMap<Block, Claim[]> blocks = new ConcurrentHashMap<>();
+        private final Set<String> recent = ConcurrentHashMap.newKeySet();
+        private final AtomicLong claims = new AtomicLong();
+        private final int windowDays;
+        private final LocalDateTime recentSince;
+
+        Generation(int windowDays, LocalDateTime recentSince) {
+            this.windowDays = windowDays;
+            this.recentSince = recentSince;
+        }
+
+        void add(String fnolId, String plateNumber, String plateCountry, LocalDate incidentDate,
+                 String location, String description, LocalDateTime createdAt) {
+            String plate = plateKey(plateNumber, plateCountry);
+            if (plate == null || incidentDate == null) {
+                return;
+            }
+            if (createdAt.isAfter(recentSince) && !recent.add(fnolId)) {
+                return;
+            }
+            int day = (int) incidentDate.toEpochDay();
+            Claim claim = new Claim(fnolId, day, MinHash.signature(location, description));
+            blocks.merge(new Block(plate, Math.floorDiv(day, windowDays)), new Claim[]{claim}, (existing, added) -> {
+                Claim[] merged = Arrays.copyOf(existing, existing.length + 1);
+                merged[existing.length] = added[0];
+                return merged;
+            });
+            claims.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import io.camunda.community.fnol.gcc.motor.application.port.out.FraudIndexPort;
+import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Feeds submitted cases to the node-local fraud indexes.
+ */
+@Component
+public class FraudIndexAdapter implements FraudIndexPort {
+
+    private final ClaimVelocityIndex velocityIndex;
+    private final DuplicateClaimIndex duplicateIndex;
+
+    public FraudIndexAdapter(ClaimVelocityIndex velocityIndex, DuplicateClaimIndex duplicateIndex) {
+        this.velocityIndex = velocityIndex;
+        this.duplicateIndex = duplicateIndex;
+    }
+
+    @Override
+    public void recordSubmitted(MotorFnolCase fnolCase) {
+        recordSubmittedAll(List.of(fnolCase));
+    }
+
+    @Override
+    public void recordSubmittedAll(List<MotorFnolCase> fnolCases) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(fnolCases);
+            return;
+        }
+        // A rolled back case must not count against the claimant
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(fnolCases);
+            }
+        });
+    }
+
+    private void record(List<MotorFnolCase> fnolCases) {
+        LocalDateTime committedAt = LocalDateTime.now();
+        for (MotorFnolCase fnolCase : fnolCases) {
+            velocityIndex.record(fnolCase.getFnolId(), fnolCase.getNationalId(), fnolCase.getMobileNumber(), committedAt);
+            duplicateIndex.record(fnolCase.getFnolId(),
+                    fnolCase.getPlateNumber(),
+                    fnolCase.getPlateCountry() != null ? fnolCase.getPlateCountry().name() : null,
+                    fnolCase.getLossDateTime() != null ? fnolCase.getLossDateTime().toLocalDate() : null,
+                    fnolCase.getLossLocationTextNormalized(),
+                    fnolCase.getAccidentDescriptionNormalized(),
+                    committedAt);
+        }
+    }
+}
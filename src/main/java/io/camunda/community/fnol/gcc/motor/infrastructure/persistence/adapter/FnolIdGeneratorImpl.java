@@ -13,24 +13,38 @@ import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 @Component
 public class FnolIdGeneratorImpl implements FnolIdGenerator {
 
     private final FnolProperties fnolProperties;
+    private final ZoneId zone;
 
     public FnolIdGeneratorImpl(FnolProperties fnolProperties) {
         this.fnolProperties = fnolProperties;
+        this.zone = ZoneId.of(fnolProperties.idGeneration().zone());
     }
 
     @Override
-    public FnolId generate(String countryCode, long sequence) {
+    public FnolId generate(String countryCode, int year, long sequence) {
         String prefix = fnolProperties.idGeneration().prefix();
-        int year = LocalDate.now().getYear();
+        return new FnolId(prefix, resolveCountry(countryCode), year, sequence);
+    }
 
-        GccCountry country = GccCountry.fromCode(countryCode)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid country code: " + countryCode));
+    @Override
+    public String sequenceName(String countryCode, int year) {
+        String prefix = fnolProperties.idGeneration().prefix();
+        return prefix + ":" + resolveCountry(countryCode).name() + ":" + year;
+    }
 
-        return new FnolId(prefix, country, year, sequence);
+    @Override
+    public int currentYear() {
+        return LocalDate.now(zone).getYear();
+    }
+
+    private GccCountry resolveCountry(String countryCode) {
+        return GccCountry.fromCode(countryCode)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid country code: " + countryCode));
     }
 }
@@ -6,25 +6,34 @@
  */
 package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
 
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolStatusResult;
 import io.camunda.community.fnol.gcc.motor.application.port.out.FnolRepositoryPort;
+import io.camunda.community.fnol.gcc.motor.application.port.out.FnolStatusCachePort;
 import io.camunda.community.fnol.gcc.motor.domain.enums.*;
+import io.camunda.community.fnol.gcc.motor.domain.model.Attachment;
 import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.AttachmentEntity;
 import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.FnolCaseEntity;
 import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseJpaRepository;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
 public class FnolRepositoryAdapter implements FnolRepositoryPort {
 
     private final FnolCaseJpaRepository jpaRepository;
+    private final FnolStatusCachePort statusCache;
 
-    public FnolRepositoryAdapter(FnolCaseJpaRepository jpaRepository) {
+    public FnolRepositoryAdapter(FnolCaseJpaRepository jpaRepository, FnolStatusCachePort statusCache) {
         this.jpaRepository = jpaRepository;
+        this.statusCache = statusCache;
     }
 
     @Override
@@ -35,6 +44,15 @@ public class FnolRepositoryAdapter implements FnolRepositoryPort {
         return toDomain(saved);
     }
 
+    @Override
+    @Transactional
+    public List<MotorFnolCase> saveAll(List<MotorFnolCase> fnolCases) {
+        List<FnolCaseEntity> entities = fnolCases.stream().map(this::toEntity).toList();
+        return jpaRepository.saveAll(entities).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<MotorFnolCase> findByFnolId(String fnolId) {
@@ -42,6 +60,38 @@ public class FnolRepositoryAdapter implements FnolRepositoryPort {
                 .map(this::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MotorFnolCase> findDetailByFnolId(String fnolId) {
+        return jpaRepository.findWithAttachmentsByFnolId(fnolId)
+                .map(this::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MotorFnolCase> findDetailsByFnolIds(Collection<String> fnolIds) {
+        if (fnolIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findWithAttachmentsByFnolIdIn(fnolIds).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<FnolStatusResult> findStatusByFnolId(String fnolId) {
+        return jpaRepository.findStatusByFnolId(fnolId)
+                .map(view -> new FnolStatusResult(
+                        view.fnolId(),
+                        view.status(),
+                        view.severityLevel(),
+                        view.route(),
+                        view.processInstanceKey(),
+                        view.createdAt(),
+                        view.updatedAt()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByFnolId(String fnolId) {
@@ -52,12 +102,14 @@ public class FnolRepositoryAdapter implements FnolRepositoryPort {
     @Transactional
     public void updateProcessInstanceKey(String fnolId, String processInstanceKey) {
         jpaRepository.updateProcessInstanceKey(fnolId, processInstanceKey);
+        statusCache.invalidate(fnolId);
     }
 
     @Override
     @Transactional
     public void updateStatus(String fnolId, String status) {
         jpaRepository.updateStatus(fnolId, status);
+        statusCache.invalidate(fnolId);
     }
 
     /**
@@ -106,6 +158,15 @@ public class FnolRepositoryAdapter implements FnolRepositoryPort {
         entity.setRoute(fnolCase.getRoute());
         entity.setProcessInstanceKey(fnolCase.getProcessInstanceKey());
 
+        // Attachments are cascaded and inserted in the same JDBC batch as the case
+        for (Attachment attachment : fnolCase.getAttachments()) {
+            AttachmentEntity attachmentEntity = new AttachmentEntity();
+            attachmentEntity.setAttachmentType(attachment.type().name());
+            attachmentEntity.setUrl(attachment.url());
+            attachmentEntity.setDescription(attachment.description());
+            entity.addAttachment(attachmentEntity);
+        }
+
         return entity;
     }
 
@@ -155,6 +216,25 @@ public class FnolRepositoryAdapter implements FnolRepositoryPort {
                 .submittedAt(submittedAt)
                 .build();
 
+        // Only map attachments that were fetched with the case; never trigger a lazy load here
+        if (Hibernate.isInitialized(entity.getAttachments())) {
+            fnolCase.setAttachments(entity.getAttachments().stream()
+                    .map(this::toDomain)
+                    .toList());
+        }
+
         return fnolCase;
     }
+
+    /**
+     * Convert attachment entity to domain model.
+     */
+    private Attachment toDomain(AttachmentEntity entity) {
+        return Attachment.builder()
+                .type(AttachmentType.fromValue(entity.getAttachmentType()).orElse(AttachmentType.DOCUMENT))
+                .url(entity.getUrl())
+                .description(entity.getDescription())
+                .uploadedAt(entity.getCreatedAt() != null ? entity.getCreatedAt().toInstant(ZoneOffset.UTC) : null)
+                .build();
+    }
 }
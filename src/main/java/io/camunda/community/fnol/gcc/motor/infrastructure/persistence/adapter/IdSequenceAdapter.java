@@ -7,48 +7,189 @@
 package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
 
 import io.camunda.community.fnol.gcc.motor.application.port.out.IdSequencePort;
-import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.FnolSequenceEntity;
-import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolSequenceJpaRepository;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sequence adapter backed by the {@code fnol_sequence} table.
+ * <p>
+ * With a block size greater than 1 each node reserves a range of values in a short
+ * independent transaction (hi/lo) and hands them out from memory, so submissions no
+ * longer queue on the sequence row lock. As that transaction needs a connection of its
+ * own, values should be drawn before the caller opens its transaction. Unused values
+ * in a range are lost when the node stops, which leaves gaps in the numbering. Ranges
+ * released at year rollover or on shutdown are counted in
+ * {@code fnol.id.sequence.gaps}; values lost to a crash cannot be seen by the node and
+ * show up only as a jump in the numbering.
+ */
 @Component
+@ConditionalOnProperty(name = "fnol.id-generation.backend", havingValue = "table", matchIfMissing = true)
 public class IdSequenceAdapter implements IdSequencePort {
 
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceAdapter.class);
+
     private static final String DEFAULT_SEQUENCE_NAME = "FNOL";
 
-    private final FnolSequenceJpaRepository jpaRepository;
+    private final SequenceRangeAllocator rangeAllocator;
+    private final MeterRegistry meterRegistry;
+    private final int blockSize;
 
-    public IdSequenceAdapter(FnolSequenceJpaRepository jpaRepository) {
-        this.jpaRepository = jpaRepository;
+    private final Map<String, SequenceRange> ranges = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> refillLocks = new ConcurrentHashMap<>();
+
+    public IdSequenceAdapter(SequenceRangeAllocator rangeAllocator,
+                             FnolProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.rangeAllocator = rangeAllocator;
+        this.meterRegistry = meterRegistry;
+        this.blockSize = properties.idGeneration().blockSize();
     }
 
     @Override
-    @Transactional
     public long nextValue() {
         return nextValue(DEFAULT_SEQUENCE_NAME);
     }
 
     @Override
-    @Transactional
     public long nextValue(String sequenceName) {
-        FnolSequenceEntity sequence = jpaRepository.findBySequenceNameForUpdate(sequenceName)
-                .orElseGet(() -> createSequence(sequenceName));
+        if (blockSize <= 1) {
+            return rangeAllocator.allocateInCurrentTransaction(sequenceName, 1);
+        }
+
+        while (true) {
+            SequenceRange range = ranges.get(sequenceName);
+            if (range != null) {
+                long value = range.tryNext();
+                if (value != SequenceRange.EXHAUSTED) {
+                    return value;
+                }
+            }
+            refill(sequenceName, range);
+        }
+    }
+
+    /**
+     * Reserve a contiguous run of values in one round trip. In block mode the run is
+     * taken straight from the table rather than from this node's range, so a large batch
+     * neither drains the range nor needs several refills.
+     */
+    @Override
+    public long[] nextValues(String sequenceName, int count) {
+        long first = blockSize <= 1
+                ? rangeAllocator.allocateInCurrentTransaction(sequenceName, count)
+                : rangeAllocator.allocate(sequenceName, count);
+
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = first + i;
+        }
+        return values;
+    }
+
+    /**
+     * Only the row-locking mode (block size 1) has to run inside the caller's
+     * transaction; a refill must not, as it waits for a second connection while the
+     * caller holds one.
+     */
+    @Override
+    public boolean drawsInCallerTransaction() {
+        return blockSize <= 1;
+    }
 
-        long value = sequence.getNextValue();
-        sequence.setNextValue(value + 1);
-        jpaRepository.save(sequence);
+    @Override
+    public void prefetch(String sequenceName) {
+        if (blockSize <= 1) {
+            rangeAllocator.ensureSequence(sequenceName);
+            return;
+        }
+        if (!ranges.containsKey(sequenceName)) {
+            refill(sequenceName, null);
+        }
+    }
+
+    @Override
+    public void release(String sequenceName) {
+        SequenceRange range = ranges.remove(sequenceName);
+        long unused = range != null ? range.remaining() : 0;
+        if (unused > 0) {
+            gapCounter(sequenceName).increment(unused);
+            log.info("Released {} unused values of sequence {}", unused, sequenceName);
+        }
+    }
+
+    /**
+     * Replace an exhausted (or missing) range. Only one thread per sequence hits the
+     * database; the others wait on the lock and then retry against the new range. A
+     * {@link ReentrantLock} rather than {@code synchronized}, so waiting virtual threads
+     * do not pin their carriers.
+     */
+    private void refill(String sequenceName, SequenceRange exhausted) {
+        ReentrantLock lock = refillLocks.computeIfAbsent(sequenceName, name -> new ReentrantLock());
+        lock.lock();
+        try {
+            if (ranges.get(sequenceName) != exhausted) {
+                return;
+            }
+
+            long first = rangeAllocator.allocate(sequenceName, blockSize);
+            ranges.put(sequenceName, new SequenceRange(first, blockSize));
+
+            if (exhausted == null) {
+                Gauge.builder("fnol.id.sequence.range.remaining", ranges, r -> remaining(sequenceName))
+                        .description("Reserved sequence values not yet handed out on this node")
+                        .tag("sequence", sequenceName)
+                        .register(meterRegistry);
+            }
+            refillCounter(sequenceName).increment();
+
+            log.debug("Reserved sequence range [{}, {}) for {}", first, first + blockSize, sequenceName);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double remaining(String sequenceName) {
+        SequenceRange range = ranges.get(sequenceName);
+        return range != null ? range.remaining() : 0;
+    }
+
+    private Counter refillCounter(String sequenceName) {
+        return Counter.builder("fnol.id.sequence.range.refills")
+                .description("Sequence ranges reserved from fnol_sequence")
+                .tag("sequence", sequenceName)
+                .register(meterRegistry);
+    }
 
-        return value;
+    private Counter gapCounter(String sequenceName) {
+        return Counter.builder("fnol.id.sequence.gaps")
+                .description("Reserved sequence values discarded without being used")
+                .tag("sequence", sequenceName)
+                .register(meterRegistry);
     }
 
     /**
-     * Create a new sequence if it doesn't exist.
+     * Record the values this node reserved but never used.
      */
-    private FnolSequenceEntity createSequence(String sequenceName) {
-        FnolSequenceEntity sequence = new FnolSequenceEntity();
-        sequence.setSequenceName(sequenceName);
-        sequence.setNextValue(1L);
-        return jpaRepository.save(sequence);
+    @PreDestroy
+    void releaseRanges() {
+        ranges.forEach((sequenceName, range) -> {
+            long unused = range.remaining();
+            if (unused > 0) {
+                gapCounter(sequenceName).increment(unused);
+                log.info("Discarding {} unused values of sequence {} on shutdown", unused, sequenceName);
+            }
+        });
+        ranges.clear();
     }
 }
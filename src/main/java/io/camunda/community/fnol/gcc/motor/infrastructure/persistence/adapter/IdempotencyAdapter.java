@@ -7,44 +7,119 @@
 package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
 
 import io.camunda.community.fnol.gcc.motor.application.port.out.IdempotencyPort;
+import io.camunda.community.fnol.gcc.motor.infrastructure.cache.IdempotencyFrontTier;
 import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.IdempotencyKeyEntity;
 import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.IdempotencyKeyJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Component
 public class IdempotencyAdapter implements IdempotencyPort {
 
     private final IdempotencyKeyJpaRepository jpaRepository;
+    private final IdempotencyPartitionManager partitions;
+    private final Optional<IdempotencyFrontTier> frontTier;
 
-    public IdempotencyAdapter(IdempotencyKeyJpaRepository jpaRepository) {
+    public IdempotencyAdapter(IdempotencyKeyJpaRepository jpaRepository,
+                              IdempotencyPartitionManager partitions,
+                              Optional<IdempotencyFrontTier> frontTier) {
         this.jpaRepository = jpaRepository;
+        this.partitions = partitions;
+        this.frontTier = frontTier;
     }
 
+    /**
+     * Not transactional itself: keys the front tier rules out never need a connection.
+     */
     @Override
-    @Transactional(readOnly = true)
     public Optional<String> findFnolIdByKey(String hashedKey) {
+        if (frontTier.isEmpty()) {
+            return findInDatabase(hashedKey).map(IdempotencyKeyEntity::getFnolId);
+        }
+        IdempotencyFrontTier tier = frontTier.get();
+        if (!tier.mightExist(hashedKey)) {
+            return Optional.empty();
+        }
+        Optional<String> cached = tier.cachedFnolId(hashedKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<IdempotencyKeyEntity> found = findInDatabase(hashedKey);
+        tier.recordLookup(hashedKey,
+                found.map(IdempotencyKeyEntity::getFnolId).orElse(null),
+                found.map(IdempotencyKeyEntity::getExpiresAt).orElse(null));
+        return found.map(IdempotencyKeyEntity::getFnolId);
+    }
+
+    @Override
+    @Transactional
+    public Claim claim(String hashedKey, Instant expiresAt, Duration lease) {
+        lockIfPartitioned(hashedKey);
+        LocalDateTime createdAt = LocalDateTime.now();
+        boolean claimed = jpaRepository.insertClaim(hashedKey, createdAt, expiresAt) == 1
+                || jpaRepository.takeOver(hashedKey, createdAt, expiresAt, Instant.now(), createdAt.minus(lease)) == 1;
+        if (claimed) {
+            frontTier.ifPresent(tier -> tier.add(hashedKey));
+            return Claim.claimed();
+        }
+
+        // Another submission holds the key; it may still be running
         return jpaRepository.findByHashedKey(hashedKey)
-                .filter(entity -> entity.getExpiresAt().isAfter(Instant.now()))
-                .map(IdempotencyKeyEntity::getFnolId);
+                .filter(IdempotencyKeyEntity::isCompleted)
+                .map(entity -> Claim.completed(entity.getFnolId()))
+                .orElseGet(Claim::inProgress);
+    }
+
+    @Override
+    @Transactional
+    public void complete(String hashedKey, String fnolId, Instant expiresAt) {
+        jpaRepository.complete(hashedKey, fnolId);
+        frontTier.ifPresent(tier -> rememberAfterCommit(tier, hashedKey, fnolId, expiresAt));
     }
 
     @Override
     @Transactional
-    public void save(String hashedKey, String fnolId, Instant expiresAt) {
-        IdempotencyKeyEntity entity = new IdempotencyKeyEntity();
-        entity.setHashedKey(hashedKey);
-        entity.setFnolId(fnolId);
-        entity.setExpiresAt(expiresAt);
-        jpaRepository.save(entity);
+    public void release(String hashedKey) {
+        jpaRepository.deleteInProgress(hashedKey);
     }
 
     @Override
     @Transactional
     public int deleteExpired(Instant before) {
+        if (partitions.isPartitioned()) {
+            return partitions.maintain(before);
+        }
         return jpaRepository.deleteByExpiresAtBefore(before);
     }
+
+    private Optional<IdempotencyKeyEntity> findInDatabase(String hashedKey) {
+        return jpaRepository.findByHashedKeyAndExpiresAtAfter(hashedKey, Instant.now())
+                .filter(IdempotencyKeyEntity::isCompleted);
+    }
+
+    private void lockIfPartitioned(String hashedKey) {
+        if (partitions.isPartitioned()) {
+            jpaRepository.lockHashedKey(hashedKey);
+        }
+    }
+
+    /**
+     * Only cache a mapping once it is committed.
+     */
+    private void rememberAfterCommit(IdempotencyFrontTier tier, String hashedKey, String fnolId, Instant expiresAt) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tier.remember(hashedKey, fnolId, expiresAt);
+            }
+        });
+    }
 }
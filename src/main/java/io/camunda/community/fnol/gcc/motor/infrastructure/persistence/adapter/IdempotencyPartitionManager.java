@@ -0,0 +1,153 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains the daily range partitions of {@code idempotency_keys}, which V8
+ * partitions on {@code expires_at} (UTC days) on PostgreSQL.
+ * <p>
+ * Partitions for today and the next {@code partition-premake-days} days are created
+ * ahead of need, and a partition is dropped once its whole day lies in the past, so
+ * expiring a day of keys is one catalog change instead of a DELETE that rewrites and
+ * vacuums every row. On H2, or an unpartitioned table, {@link #isPartitioned()} is
+ * false and expired keys are deleted row by row as before.
+ */
+@Component
+public class IdempotencyPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyPartitionManager.class);
+
+    private static final String PARENT_TABLE = "idempotency_keys";
+    private static final String PARTITION_PREFIX = "idempotency_keys_p";
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // Two-key advisory lock space, separate from the per-key claim locks
+    private static final int LOCK_CLASS = 0x464E4F4C; // "FNOL"
+    private static final int LOCK_PARTITION_MAINTENANCE = 1;
+
+    // Dropping a partition locks the parent; give up rather than queue submissions behind it
+    private static final String LOCK_TIMEOUT = "5s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeDays;
+
+    private volatile Boolean partitioned;
+
+    public IdempotencyPartitionManager(JdbcTemplate jdbcTemplate, FnolProperties fnolProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.premakeDays = fnolProperties.idempotency().partitionPremakeDays();
+    }
+
+    /**
+     * Whether {@code idempotency_keys} is a partitioned PostgreSQL table. Checked on
+     * first use, after Flyway has run.
+     */
+    public boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            result = detect();
+            partitioned = result;
+        }
+        return result;
+    }
+
+    /**
+     * Create missing partitions and drop those whose keys have all expired. Only one
+     * node maintains the partitions at a time; the others return at once.
+     *
+     * @param now current time
+     * @return estimated number of keys in the dropped partitions
+     */
+    @Transactional
+    public int maintain(Instant now) {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?, ?)",
+                Boolean.class, LOCK_CLASS, LOCK_PARTITION_MAINTENANCE);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("Idempotency partitions are being maintained by another node");
+            return 0;
+        }
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + LOCK_TIMEOUT + "'");
+
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        Map<LocalDate, Long> partitions = listPartitions();
+
+        for (int i = 0; i <= premakeDays; i++) {
+            LocalDate day = today.plusDays(i);
+            if (!partitions.containsKey(day)) {
+                jdbcTemplate.execute("CREATE TABLE " + partitionName(day) + " PARTITION OF " + PARENT_TABLE
+                        + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+                log.info("Created idempotency partition {}", partitionName(day));
+            }
+        }
+
+        long dropped = 0;
+        for (Map.Entry<LocalDate, Long> partition : partitions.entrySet()) {
+            if (partition.getKey().isBefore(today)) {
+                jdbcTemplate.execute("DROP TABLE " + partitionName(partition.getKey()));
+                dropped += partition.getValue();
+                log.info("Dropped expired idempotency partition {} (~{} keys)",
+                        partitionName(partition.getKey()), partition.getValue());
+            }
+        }
+        return (int) Math.min(dropped, Integer.MAX_VALUE);
+    }
+
+    private boolean detect() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            return false;
+        }
+        Boolean found = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?::text))",
+                Boolean.class, PARENT_TABLE);
+        log.info("idempotency_keys is {}partitioned", Boolean.TRUE.equals(found) ? "" : "not ");
+        return Boolean.TRUE.equals(found);
+    }
+
+    /**
+     * Daily partitions by day, with the planner's row estimate for each.
+     */
+    private Map<LocalDate, Long> listPartitions() {
+        Map<LocalDate, Long> partitions = new TreeMap<>();
+        jdbcTemplate.query("""
+                SELECT c.relname, c.reltuples::bigint AS estimated_rows
+                FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?::text)""", rs -> {
+            String name = rs.getString("relname");
+            if (name.startsWith(PARTITION_PREFIX)) {
+                try {
+                    LocalDate day = LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_DAY);
+                    partitions.put(day, Math.max(0, rs.getLong("estimated_rows")));
+                } catch (DateTimeParseException e) {
+                    log.warn("Ignoring idempotency partition with unexpected name {}", name);
+                }
+            }
+        }, PARENT_TABLE);
+        return partitions;
+    }
+
+    private static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + PARTITION_DAY.format(day);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.application.port.out.IdSequencePort;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sequence adapter backed by native PostgreSQL sequences, one per sequence name
+ * (e.g. {@code FNOL:AE:2026} becomes {@code fnol_seq_fnol_ae_2026}).
+ * <p>
+ * {@code nextval()} is non-transactional and served from a per-session cache of
+ * {@code sequence-cache} values, so claims never wait on a row lock. Sequences are
+ * created on first use, starting after the matching {@code fnol_sequence} row (if any)
+ * so switching from the table backend never reissues a number. Enable with
+ * {@code fnol.id-generation.backend=native}; requires PostgreSQL and a database user
+ * allowed to create sequences.
+ */
+@Component
+@ConditionalOnProperty(name = "fnol.id-generation.backend", havingValue = "native")
+public class PostgresSequenceAdapter implements IdSequencePort {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresSequenceAdapter.class);
+
+    private static final String DEFAULT_SEQUENCE_NAME = "FNOL";
+    private static final String SEQUENCE_PREFIX = "fnol_seq_";
+    private static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate ddlTransaction;
+    private final int cacheSize;
+
+    private final Set<String> createdSequences = ConcurrentHashMap.newKeySet();
+
+    public PostgresSequenceAdapter(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   FnolProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ddlTransaction = new TransactionTemplate(transactionManager);
+        this.ddlTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cacheSize = properties.idGeneration().sequenceCache();
+    }
+
+    @Override
+    public long nextValue() {
+        return nextValue(DEFAULT_SEQUENCE_NAME);
+    }
+
+    @Override
+    public long nextValue(String sequenceName) {
+        String sequence = ensureSequence(sequenceName);
+        Long value = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+        if (value == null) {
+            throw new IllegalStateException("nextval returned no value for " + sequence);
+        }
+        return value;
+    }
+
+    @Override
+    public long[] nextValues(String sequenceName, int count) {
+        String sequence = ensureSequence(sequenceName);
+        List<Long> values = jdbcTemplate.queryForList(
+                "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)", Long.class, count);
+        return values.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    @Override
+    public void prefetch(String sequenceName) {
+        ensureSequence(sequenceName);
+    }
+
+    /**
+     * Create the database sequence on first use. DDL runs in its own transaction so a
+     * rolled-back submission cannot undo it.
+     */
+    private String ensureSequence(String sequenceName) {
+        String sequence = toSequenceIdentifier(sequenceName);
+        if (createdSequences.contains(sequence)) {
+            return sequence;
+        }
+
+        ddlTransaction.executeWithoutResult(status -> {
+            List<Long> tableValue = jdbcTemplate.queryForList(
+                    "SELECT next_value FROM fnol_sequence WHERE sequence_name = ?", Long.class, sequenceName);
+            long start = tableValue.isEmpty() ? 1L : Math.max(1L, tableValue.get(0));
+
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence +
+                    " START WITH " + start + " CACHE " + cacheSize);
+        });
+
+        createdSequences.add(sequence);
+        log.debug("Using database sequence {} for {}", sequence, sequenceName);
+        return sequence;
+    }
+
+    /**
+     * Map a logical sequence name to a safe SQL identifier.
+     */
+    static String toSequenceIdentifier(String sequenceName) {
+        String identifier = SEQUENCE_PREFIX + sequenceName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "_");
+        if (identifier.length() > MAX_IDENTIFIER_LENGTH) {
+            throw new IllegalArgumentException("Sequence name too long: " + sequenceName);
+        }
+        return identifier;
+    }
+}
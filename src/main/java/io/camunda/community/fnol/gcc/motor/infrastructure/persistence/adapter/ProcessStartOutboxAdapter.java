@@ -0,0 +1,68 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.application.port.out.ProcessStartOutboxPort;
+import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.ProcessStartOutboxEntity;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.ProcessStartOutboxJpaRepository;
+import io.camunda.community.fnol.gcc.motor.infrastructure.zeebe.ProcessStartOutboxDispatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Component
+public class ProcessStartOutboxAdapter implements ProcessStartOutboxPort {
+
+    private final ProcessStartOutboxJpaRepository jpaRepository;
+    private final ProcessStartOutboxDispatcher dispatcher;
+
+    public ProcessStartOutboxAdapter(ProcessStartOutboxJpaRepository jpaRepository,
+                                     ProcessStartOutboxDispatcher dispatcher) {
+        this.jpaRepository = jpaRepository;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(MotorFnolCase fnolCase) {
+        jpaRepository.save(toEntry(fnolCase));
+        dispatchAfterCommit();
+    }
+
+    @Override
+    @Transactional
+    public void enqueueAll(List<MotorFnolCase> fnolCases) {
+        if (fnolCases.isEmpty()) {
+            return;
+        }
+        jpaRepository.saveAll(fnolCases.stream().map(this::toEntry).toList());
+        dispatchAfterCommit();
+    }
+
+    private ProcessStartOutboxEntity toEntry(MotorFnolCase fnolCase) {
+        ProcessStartOutboxEntity entry = new ProcessStartOutboxEntity();
+        entry.setFnolId(fnolCase.getFnolId());
+        entry.setCorrelationId(fnolCase.getCorrelationId());
+        return entry;
+    }
+
+    /**
+     * Dispatch as soon as the submission is committed instead of waiting for the next poll.
+     */
+    private void dispatchAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.requestDispatch();
+            }
+        });
+    }
+}
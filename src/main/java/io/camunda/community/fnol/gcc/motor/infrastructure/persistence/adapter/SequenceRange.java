@@ -0,0 +1,42 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A block of sequence values reserved by this node, handed out lock-free.
+ */
+final class SequenceRange {
+
+    static final long EXHAUSTED = -1L;
+
+    private final AtomicLong next;
+    private final long limit;
+
+    SequenceRange(long first, int size) {
+        this.next = new AtomicLong(first);
+        this.limit = first + size;
+    }
+
+    /**
+     * Take the next value from the range.
+     *
+     * @return the value, or {@link #EXHAUSTED} when the range is used up
+     */
+    long tryNext() {
+        long value = next.getAndIncrement();
+        return value < limit ? value : EXHAUSTED;
+    }
+
+    /**
+     * Values reserved but not yet handed out.
+     */
+    long remaining() {
+        return Math.max(0, limit - next.get());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.FnolSequenceEntity;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolSequenceJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reserves ranges of values from the {@code fnol_sequence} table.
+ * <p>
+ * Kept as a separate bean so that {@link #allocate(String, int)} runs through the
+ * transactional proxy and commits independently of the caller's transaction.
+ */
+@Component
+public class SequenceRangeAllocator {
+
+    private final FnolSequenceJpaRepository jpaRepository;
+
+    public SequenceRangeAllocator(FnolSequenceJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    /**
+     * Reserve {@code size} consecutive values in a short, independent transaction.
+     * The row lock is released as soon as the range is recorded.
+     *
+     * @param sequenceName sequence to draw from
+     * @param size         number of values to reserve
+     * @return first value of the reserved range
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long allocate(String sequenceName, int size) {
+        return reserve(sequenceName, size);
+    }
+
+    /**
+     * Reserve {@code size} consecutive values within the caller's transaction.
+     * The row lock is held until the caller commits.
+     *
+     * @param sequenceName sequence to draw from
+     * @param size         number of values to reserve
+     * @return first value of the reserved range
+     */
+    @Transactional
+    public long allocateInCurrentTransaction(String sequenceName, int size) {
+        return reserve(sequenceName, size);
+    }
+
+    /**
+     * Create the sequence row if it does not exist yet.
+     *
+     * @param sequenceName sequence to create
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensureSequence(String sequenceName) {
+        jpaRepository.insertIfAbsent(sequenceName);
+    }
+
+    private long reserve(String sequenceName, int size) {
+        FnolSequenceEntity sequence = jpaRepository.findBySequenceNameForUpdate(sequenceName)
+                .orElseGet(() -> createSequence(sequenceName));
+
+        long first = sequence.getNextValue();
+        sequence.setNextValue(first + size);
+        jpaRepository.save(sequence);
+
+        return first;
+    }
+
+    /**
+     * Create a new sequence if it doesn't exist. Several nodes may race to create the
+     * same row (e.g. at year rollover), so the insert tolerates conflicts and the row
+     * is then locked like any other.
+     */
+    private FnolSequenceEntity createSequence(String sequenceName) {
+        jpaRepository.insertIfAbsent(sequenceName);
+        return jpaRepository.findBySequenceNameForUpdate(sequenceName)
+                .orElseThrow(() -> new IllegalStateException("Sequence could not be created: " + sequenceName));
+    }
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class AttachmentEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fnol_attachments_id_seq")
+    @SequenceGenerator(name = "fnol_attachments_id_seq", sequenceName = "fnol_attachments_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
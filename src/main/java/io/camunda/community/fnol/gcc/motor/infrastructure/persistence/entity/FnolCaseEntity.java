@@ -18,7 +18,8 @@ import java.util.List;
 public class FnolCaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fnol_cases_id_seq")
+    @SequenceGenerator(name = "fnol_cases_id_seq", sequenceName = "fnol_cases_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "fnol_id", nullable = false, unique = true, length = 50)
@@ -130,6 +131,7 @@ public class FnolCaseEntity {
 
     // Relationships
     @OneToMany(mappedBy = "fnolCase", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OrderBy("id")
     private List<AttachmentEntity> attachments = new ArrayList<>();
 
     @PrePersist
@@ -14,6 +14,10 @@ import java.time.LocalDateTime;
 @Table(name = "idempotency_keys")
 public class IdempotencyKeyEntity {
 
+    /** Key reserved by a submission that has not committed yet; fnol_id is null. */
+    public static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -21,9 +25,12 @@ public class IdempotencyKeyEntity {
     @Column(name = "hashed_key", nullable = false, unique = true, length = 64)
     private String hashedKey;
 
-    @Column(name = "fnol_id", nullable = false, length = 50)
+    @Column(name = "fnol_id", length = 50)
     private String fnolId;
 
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = STATUS_COMPLETED;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -60,6 +67,18 @@ public class IdempotencyKeyEntity {
         this.fnolId = fnolId;
     }
 
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public boolean isCompleted() {
+        return STATUS_COMPLETED.equals(status);
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -7,13 +7,21 @@
 package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository;
 
 import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.FnolCaseEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FnolCaseJpaRepository extends JpaRepository<FnolCaseEntity, Long> {
@@ -23,6 +31,52 @@ public interface FnolCaseJpaRepository extends JpaRepository<FnolCaseEntity, Lon
      */
     Optional<FnolCaseEntity> findByFnolId(String fnolId);
 
+    /**
+     * Find a case by its FNOL ID together with its attachments, in a single query.
+     */
+    @EntityGraph(attributePaths = "attachments")
+    Optional<FnolCaseEntity> findWithAttachmentsByFnolId(String fnolId);
+
+    /**
+     * Find several cases by FNOL ID together with their attachments, in a single query.
+     */
+    @EntityGraph(attributePaths = "attachments")
+    List<FnolCaseEntity> findWithAttachmentsByFnolIdIn(Collection<String> fnolIds);
+
+    /**
+     * Read only the status columns of a case, served from the fnol_id covering index.
+     */
+    @Query("""
+            SELECT new io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseStatusView(
+                f.fnolId, f.status, f.severityLevel, f.route, f.processInstanceKey, f.createdAt, f.updatedAt)
+            FROM FnolCaseEntity f
+            WHERE f.fnolId = :fnolId""")
+    Optional<FnolCaseStatusView> findStatusByFnolId(@Param("fnolId") String fnolId);
+
+    /**
+     * Stream the identity columns of cases created after the given time, served from
+     * the created_at index. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseSubmissionView(
+                f.fnolId, f.nationalId, f.mobileNumber, f.createdAt)
+            FROM FnolCaseEntity f
+            WHERE f.createdAt > :since""")
+    Stream<FnolCaseSubmissionView> streamSubmissionsCreatedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * Stream the vehicle, incident and text columns of cases created after the given
+     * time. Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseIncidentView(
+                f.fnolId, f.plateNumber, f.plateCountry, f.incidentDate, f.incidentLocation, f.description, f.createdAt)
+            FROM FnolCaseEntity f
+            WHERE f.createdAt > :since""")
+    Stream<FnolCaseIncidentView> streamIncidentsCreatedAfter(@Param("since") LocalDateTime since);
+
     /**
      * Check if a case exists by FNOL ID.
      */
@@ -0,0 +1,19 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of {@code fnol_cases} the claim velocity index is built from.
+ */
+public record FnolCaseSubmissionView(
+        String fnolId,
+        String nationalId,
+        String mobileNumber,
+        LocalDateTime createdAt
+) {}
@@ -27,6 +27,15 @@ public interface FnolSequenceJpaRepository extends JpaRepository<FnolSequenceEnt
     @Query("SELECT s FROM FnolSequenceEntity s WHERE s.sequenceName = :name")
     Optional<FnolSequenceEntity> findBySequenceNameForUpdate(@Param("name") String sequenceName);
 
+    /**
+     * Create a sequence row starting at 1 unless another node already created it.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO fnol_sequence (sequence_name, next_value, created_at, updated_at) " +
+            "VALUES (:name, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String sequenceName);
+
     /**
      * Increment the sequence value and return the new value.
      */
@@ -7,14 +7,19 @@
 package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository;
 
 import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.IdempotencyKeyEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, Long> {
@@ -24,6 +29,86 @@ public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKe
      */
     Optional<IdempotencyKeyEntity> findByHashedKey(String hashedKey);
 
+    /**
+     * Find an idempotency key that has not expired. The expiry bound also lets
+     * PostgreSQL skip partitions that only hold expired keys.
+     */
+    Optional<IdempotencyKeyEntity> findByHashedKeyAndExpiresAtAfter(String hashedKey, Instant now);
+
+    /**
+     * Serialize writers of one key until the end of the transaction. Needed on the
+     * partitioned table, where hashed_key cannot carry a UNIQUE constraint.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtextextended(:hashedKey, 0))) AS l",
+            nativeQuery = true)
+    Integer lockHashedKey(@Param("hashedKey") String hashedKey);
+
+    /**
+     * Stream the hashed values of all keys that have not expired. Must be consumed
+     * inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT i.hashedKey FROM IdempotencyKeyEntity i WHERE i.expiresAt > :now")
+    Stream<String> streamActiveHashedKeys(@Param("now") Instant now);
+
+    /**
+     * Stream the hashed values of keys created after the given time. Must be consumed
+     * inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT i.hashedKey FROM IdempotencyKeyEntity i WHERE i.createdAt > :since")
+    Stream<String> streamHashedKeysCreatedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * Reserve a key as in progress; returns 0 if the key already exists. ON CONFLICT
+     * covers the unpartitioned table, NOT EXISTS the partitioned one (under
+     * {@link #lockHashedKey}).
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO idempotency_keys (hashed_key, status, created_at, expires_at)
+            SELECT :hashedKey, 'IN_PROGRESS', :createdAt, :expiresAt
+            WHERE NOT EXISTS (SELECT 1 FROM idempotency_keys WHERE hashed_key = :hashedKey)
+            ON CONFLICT DO NOTHING""", nativeQuery = true)
+    int insertClaim(@Param("hashedKey") String hashedKey,
+                    @Param("createdAt") LocalDateTime createdAt,
+                    @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Reserve a key whose previous record has expired but not been cleaned up yet, or
+     * whose reservation was left in progress since before {@code staleBefore}.
+     */
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyKeyEntity i
+            SET i.status = 'IN_PROGRESS', i.fnolId = NULL, i.createdAt = :createdAt, i.expiresAt = :expiresAt
+            WHERE i.hashedKey = :hashedKey
+              AND (i.expiresAt < :now OR (i.status = 'IN_PROGRESS' AND i.createdAt < :staleBefore))""")
+    int takeOver(@Param("hashedKey") String hashedKey,
+                 @Param("createdAt") LocalDateTime createdAt,
+                 @Param("expiresAt") Instant expiresAt,
+                 @Param("now") Instant now,
+                 @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Mark a reserved key as completed by the given FNOL. The expiry set by the claim
+     * is kept, so the row never moves to another partition.
+     */
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyKeyEntity i
+            SET i.status = 'COMPLETED', i.fnolId = :fnolId
+            WHERE i.hashedKey = :hashedKey""")
+    int complete(@Param("hashedKey") String hashedKey,
+                 @Param("fnolId") String fnolId);
+
+    /**
+     * Drop a reservation whose submission did not commit.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity i WHERE i.hashedKey = :hashedKey AND i.status = 'IN_PROGRESS'")
+    int deleteInProgress(@Param("hashedKey") String hashedKey);
+
     /**
      * Delete expired idempotency keys.
      */
@@ -0,0 +1,35 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.ProcessStartOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProcessStartOutboxJpaRepository extends JpaRepository<ProcessStartOutboxEntity, Long> {
+
+    /**
+     * Lock pending entries that are due, skipping rows already locked by another node
+     * (lock timeout -2 = SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ProcessStartOutboxEntity o " +
+            "WHERE o.status = 'PENDING' AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<ProcessStartOutboxEntity> findDueForUpdate(@Param("now") LocalDateTime now, Pageable page);
+}
@@ -0,0 +1,52 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Node-local buckets (or bucket proxies) by client, capped at {@code max-buckets} and
+ * dropped after {@code bucket-idle-seconds} without a request. A bucket idle for a
+ * full refill period is back at capacity, so expiring it loses nothing; evicting an
+ * active one under a flood of new clients only gives that client a fresh bucket.
+ * <p>
+ * Size and eviction counts are exported as {@code cache.*} meters tagged
+ * {@code cache=rateLimitBuckets}.
+ */
+final class BucketCache {
+
+    static final String CACHE_NAME = "rateLimitBuckets";
+
+    private final Cache<String, Bucket> cache;
+
+    BucketCache(FnolProperties fnolProperties, MeterRegistry meterRegistry) {
+        FnolProperties.SecurityProperties.RateLimitProperties rateLimit = fnolProperties.security().rateLimit();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(rateLimit.maxBuckets())
+                .expireAfterAccess(Duration.ofSeconds(rateLimit.bucketIdleSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    Bucket get(String clientId, Function<String, Bucket> factory) {
+        return cache.get(clientId, factory);
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node-local buckets. With N nodes behind a load balancer each client gets up to N
+ * times the configured limit.
+ */
+@Component
+@ConditionalOnProperty(name = "fnol.security.rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitBucketStore implements RateLimitBucketStore {
+
+    private final BucketCache buckets;
+
+    public LocalRateLimitBucketStore(FnolProperties fnolProperties, MeterRegistry meterRegistry) {
+        this.buckets = new BucketCache(fnolProperties, meterRegistry);
+    }
+
+    @Override
+    public Bucket bucket(String clientId, BucketConfiguration configuration) {
+        return buckets.get(clientId, id -> {
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth limit : configuration.getBandwidths()) {
+                builder.addLimit(limit);
+            }
+            return builder.build();
+        });
+    }
+
+    @Override
+    public long size() {
+        return buckets.size();
+    }
+}
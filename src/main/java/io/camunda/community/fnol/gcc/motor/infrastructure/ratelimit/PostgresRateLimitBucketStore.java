@@ -0,0 +1,109 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.postgresql.PostgreSQLSelectForUpdateBasedProxyManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Buckets shared by all nodes through the {@code rate_limit_buckets} table, so the
+ * configured limit holds cluster-wide.
+ * <p>
+ * Each consume is a compare-and-swap of the serialized bucket state under
+ * {@code SELECT ... FOR UPDATE}. With {@code local-batch-tokens} above zero a node
+ * consumes locally and writes back to the table once it has used that many tokens or
+ * {@code local-batch-max-delay-ms} has passed, so most requests don't touch the
+ * database; the cluster can then overshoot the limit by at most
+ * {@code local-batch-tokens} per node.
+ */
+@Component
+@ConditionalOnProperty(name = "fnol.security.rate-limit.store", havingValue = "postgres")
+public class PostgresRateLimitBucketStore implements RateLimitBucketStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresRateLimitBucketStore.class);
+
+    private static final String TABLE = "rate_limit_buckets";
+
+    // A bucket idle this long has refilled completely; dropping its row changes nothing
+    private static final int IDLE_ROW_RETENTION_MINUTES = 10;
+
+    private final ProxyManager<String> proxyManager;
+    private final Optimization optimization;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Proxies hold the local-first state, so one per active client is kept
+    private final BucketCache buckets;
+
+    public PostgresRateLimitBucketStore(DataSource dataSource, FnolProperties fnolProperties,
+                                        MeterRegistry meterRegistry) {
+        SQLProxyConfiguration<String> configuration = SQLProxyConfiguration.builder()
+                .withPrimaryKeyMapper(PrimaryKeyMapper.STRING)
+                .withTableSettings(BucketTableSettings.customSettings(TABLE, "id", "state"))
+                .build(dataSource);
+        this.proxyManager = new PostgreSQLSelectForUpdateBasedProxyManager<>(configuration);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.buckets = new BucketCache(fnolProperties, meterRegistry);
+
+        FnolProperties.SecurityProperties.RateLimitProperties rateLimit = fnolProperties.security().rateLimit();
+        this.optimization = rateLimit.localBatchTokens() > 0
+                ? Optimizations.delaying(new DelayParameters(rateLimit.localBatchTokens(),
+                        Duration.ofMillis(rateLimit.localBatchMaxDelayMs())))
+                : null;
+    }
+
+    @Override
+    public Bucket bucket(String clientId, BucketConfiguration configuration) {
+        return buckets.get(clientId, id -> {
+            RemoteBucketBuilder<String> builder = proxyManager.builder();
+            if (optimization != null) {
+                builder = builder.withOptimization(optimization);
+            }
+            return builder.build(id, () -> configuration);
+        });
+    }
+
+    @Override
+    public long size() {
+        return buckets.size();
+    }
+
+    /**
+     * Remove rows of buckets nobody has used for a while.
+     */
+    @Scheduled(fixedDelayString = "${fnol.security.rate-limit.purge-interval-ms:300000}")
+    public void purgeIdleBuckets() {
+        try {
+            int purged = jdbcTemplate.update("DELETE FROM " + TABLE
+                    + " WHERE updated_at < LOCALTIMESTAMP - make_interval(mins => ?)", IDLE_ROW_RETENTION_MINUTES);
+            if (purged > 0) {
+                log.debug("Purged {} idle rate limit buckets", purged);
+            }
+        } catch (Exception e) {
+            log.warn("Error purging idle rate limit buckets: {}", e.getMessage());
+        }
+    }
+}
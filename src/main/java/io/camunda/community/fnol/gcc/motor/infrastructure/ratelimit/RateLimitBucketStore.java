@@ -0,0 +1,32 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Where rate limit buckets live, selected with {@code fnol.security.rate-limit.store}:
+ * {@code local} keeps them in this node's memory, {@code postgres} shares them across
+ * all nodes.
+ */
+public interface RateLimitBucketStore {
+
+    /**
+     * Get the bucket for a client, creating it with the given configuration if needed.
+     *
+     * @param clientId      client identifier (API key hash or IP)
+     * @param configuration limits for a new bucket
+     * @return the client's bucket
+     */
+    Bucket bucket(String clientId, BucketConfiguration configuration);
+
+    /**
+     * Number of buckets held on this node.
+     */
+    long size();
+}
@@ -0,0 +1,218 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import io.camunda.community.fnol.gcc.motor.domain.enums.GccCountry;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties.RateLimitProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties.RateLimitProperties.PolicyProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rate limit policy tiers by API key client, route group and country.
+ * <p>
+ * The configured policies are compiled into a table holding the winning policy for
+ * every (client, route group, country) combination, so resolving a request is one map
+ * lookup and an array index. A reload compiles a new table and swaps it in; requests
+ * in flight keep the table they started with.
+ * <p>
+ * With {@code fnol.security.rate-limit.policy-file} set, the file (a YAML document
+ * with a top-level {@code policies} list) replaces the configured policies and is
+ * checked for changes every {@code policy-reload-interval-ms}. A file that fails to
+ * load keeps the previous table.
+ */
+@Component
+public class RateLimitPolicies {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitPolicies.class);
+
+    private static final String ANY = "*";
+    private static final RouteGroup[] GROUPS = RouteGroup.values();
+    private static final GccCountry[] COUNTRIES = GccCountry.values();
+
+    // One slot per country plus one for requests without a known country
+    private static final int COUNTRY_SLOTS = COUNTRIES.length + 1;
+
+    private final int defaultRequestsPerMinute;
+    private final Path policyFile;
+
+    private long policyFileModified = Long.MIN_VALUE;
+    private volatile Table table;
+
+    public RateLimitPolicies(FnolProperties fnolProperties) {
+        RateLimitProperties rateLimit = fnolProperties.security().rateLimit();
+        this.defaultRequestsPerMinute = rateLimit.requestsPerMinute();
+        this.policyFile = rateLimit.policyFile() == null || rateLimit.policyFile().isBlank()
+                ? null
+                : Path.of(rateLimit.policyFile());
+
+        if (policyFile == null) {
+            this.table = compile(rateLimit.policies());
+        } else {
+            try {
+                loadPolicyFile();
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalStateException("Cannot load rate limit policies from " + policyFile, e);
+            }
+        }
+    }
+
+    /**
+     * Policy for a request.
+     *
+     * @param client  client id of the validated API key, or null
+     * @param group   route group of the request
+     * @param country country the request is for, or null when unknown
+     * @return the most specific matching policy, or the default limit
+     */
+    public RateLimitPolicy resolve(String client, RouteGroup group, GccCountry country) {
+        Table current = table;
+        RateLimitPolicy[] row = client == null ? null : current.byClient().get(client);
+        if (row == null) {
+            row = current.anyClient();
+        }
+        return row[slot(group, country)];
+    }
+
+    /**
+     * Reload the policy file if it changed since the last load.
+     */
+    @Scheduled(fixedDelayString = "${fnol.security.rate-limit.policy-reload-interval-ms:10000}")
+    public synchronized void reloadPolicyFile() {
+        if (policyFile == null) {
+            return;
+        }
+        try {
+            if (Files.getLastModifiedTime(policyFile).toMillis() != policyFileModified) {
+                loadPolicyFile();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Keeping previous rate limit policies, cannot load {}: {}", policyFile, e.getMessage());
+        }
+    }
+
+    private synchronized void loadPolicyFile() throws IOException {
+        long modified = Files.getLastModifiedTime(policyFile).toMillis();
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                .load(policyFile.toString(), new FileSystemResource(policyFile));
+        List<PolicyProperties> policies = new Binder(ConfigurationPropertySources.from(sources))
+                .bind("policies", Bindable.listOf(PolicyProperties.class))
+                .orElse(List.of());
+
+        this.table = compile(policies);
+        this.policyFileModified = modified;
+        log.info("Loaded {} rate limit policies from {}", policies.size(), policyFile);
+    }
+
+    private Table compile(List<PolicyProperties> policies) {
+        List<Rule> rules = new ArrayList<>(policies.size());
+        Set<String> clients = new LinkedHashSet<>();
+        for (PolicyProperties policy : policies) {
+            Rule rule = Rule.of(policy);
+            rules.add(rule);
+            if (rule.client() != null) {
+                clients.add(rule.client());
+            }
+        }
+
+        RateLimitPolicy fallback = RateLimitPolicy.of(null, defaultRequestsPerMinute, defaultRequestsPerMinute);
+        Map<String, RateLimitPolicy[]> byClient = new HashMap<>();
+        for (String client : clients) {
+            byClient.put(client, row(rules, client, fallback));
+        }
+        return new Table(Map.copyOf(byClient), row(rules, null, fallback));
+    }
+
+    private static RateLimitPolicy[] row(List<Rule> rules, String client, RateLimitPolicy fallback) {
+        RateLimitPolicy[] row = new RateLimitPolicy[GROUPS.length * COUNTRY_SLOTS];
+        for (RouteGroup group : GROUPS) {
+            for (int c = 0; c < COUNTRY_SLOTS; c++) {
+                GccCountry country = c < COUNTRIES.length ? COUNTRIES[c] : null;
+                Rule best = null;
+                for (Rule rule : rules) {
+                    if (rule.matches(client, group, country)
+                            && (best == null || rule.specificity() > best.specificity())) {
+                        best = rule;
+                    }
+                }
+                row[slot(group, country)] = best == null ? fallback : best.policy();
+            }
+        }
+        return row;
+    }
+
+    private static int slot(RouteGroup group, GccCountry country) {
+        return group.ordinal() * COUNTRY_SLOTS + (country == null ? COUNTRIES.length : country.ordinal());
+    }
+
+    private record Table(Map<String, RateLimitPolicy[]> byClient, RateLimitPolicy[] anyClient) {
+    }
+
+    /**
+     * A configured policy with its wildcards resolved to null.
+     */
+    private record Rule(String client, RouteGroup group, GccCountry country, RateLimitPolicy policy) {
+
+        static Rule of(PolicyProperties properties) {
+            String client = wildcard(properties.client());
+            String routes = wildcard(properties.routes());
+            String countryCode = wildcard(properties.country());
+
+            RouteGroup group = null;
+            if (routes != null) {
+                try {
+                    group = RouteGroup.valueOf(routes.toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Unknown rate limit route group: " + routes);
+                }
+            }
+            GccCountry country = countryCode == null ? null : GccCountry.fromCode(countryCode)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown rate limit country: " + countryCode));
+            if (properties.requestsPerMinute() < 1) {
+                throw new IllegalArgumentException("Rate limit policy needs requests-per-minute of at least 1");
+            }
+
+            return new Rule(client, group, country, RateLimitPolicy.of(
+                    country == null ? null : country.name(), properties.requestsPerMinute(), properties.burst()));
+        }
+
+        boolean matches(String client, RouteGroup group, GccCountry country) {
+            return (this.client == null || this.client.equals(client))
+                    && (this.group == null || this.group == group)
+                    && (this.country == null || this.country == country);
+        }
+
+        // Client outranks route group, which outranks country
+        int specificity() {
+            return (client != null ? 4 : 0) + (group != null ? 2 : 0) + (country != null ? 1 : 0);
+        }
+
+        private static String wildcard(String value) {
+            return value == null || value.isBlank() || ANY.equals(value.trim()) ? null : value.trim();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.time.Duration;
+
+/**
+ * A resolved rate limit with its bucket configuration built once.
+ *
+ * @param id                identifies the limit in bucket keys; a changed limit gets a
+ *                          new id and therefore new buckets
+ * @param requestsPerMinute refill rate
+ * @param burst             bucket capacity
+ * @param configuration     bucket configuration for new buckets
+ * @param header            value of the {@code RateLimit-Policy} response header
+ */
+public record RateLimitPolicy(
+        String id,
+        int requestsPerMinute,
+        int burst,
+        BucketConfiguration configuration,
+        String header
+) {
+
+    static RateLimitPolicy of(String country, int requestsPerMinute, int burst) {
+        Bandwidth limit = Bandwidth.builder()
+                .capacity(burst)
+                .refillGreedy(requestsPerMinute, Duration.ofMinutes(1))
+                .build();
+        String id = (country == null ? "*" : country) + ";" + requestsPerMinute + ";" + burst;
+        return new RateLimitPolicy(id, requestsPerMinute, burst,
+                BucketConfiguration.builder().addLimit(limit).build(),
+                requestsPerMinute + ";w=60;burst=" + burst);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+/**
+ * Classes of API routes that get separate rate limit buckets, so heavy status polling
+ * cannot use up a client's submissions.
+ */
+public enum RouteGroup {
+
+    /** FNOL submissions, single and batch. */
+    SUBMIT,
+
+    /** FNOL detail and status reads. */
+    READ,
+
+    /** Reference data such as {@code /info} and {@code /countries}. */
+    METADATA;
+
+    private static final String FNOL_PATH = "/api/v1/fnol";
+    private static final String FNOL_PATH_PREFIX = FNOL_PATH + "/";
+
+    /**
+     * Route group of an API request.
+     */
+    public static RouteGroup of(String method, String path) {
+        if (path.equals(FNOL_PATH) || path.startsWith(FNOL_PATH_PREFIX)) {
+            return "POST".equals(method) ? SUBMIT : READ;
+        }
+        return METADATA;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.scheduler;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.BlacklistMatcher;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.ClaimVelocityIndex;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.DuplicateClaimIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the fraud indexes in step with {@code fnol_cases}.
+ */
+@Component
+public class FraudIndexScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(FraudIndexScheduler.class);
+
+    private final ClaimVelocityIndex velocityIndex;
+    private final DuplicateClaimIndex duplicateIndex;
+    private final BlacklistMatcher blacklistMatcher;
+
+    public FraudIndexScheduler(ClaimVelocityIndex velocityIndex,
+                               DuplicateClaimIndex duplicateIndex,
+                               BlacklistMatcher blacklistMatcher) {
+        this.velocityIndex = velocityIndex;
+        this.duplicateIndex = duplicateIndex;
+        this.blacklistMatcher = blacklistMatcher;
+    }
+
+    /**
+     * Build the indexes at startup, then rebuild them periodically to drop old claims.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${fnol.fraud.rebuild-interval-ms:21600000}")
+    public void rebuildIndexes() {
+        try {
+            velocityIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Error rebuilding claim velocity index", e);
+        }
+        try {
+            duplicateIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Error rebuilding duplicate claim index", e);
+        }
+    }
+
+    /**
+     * Add claims submitted since the last run, including those from other nodes.
+     */
+    @Scheduled(fixedDelayString = "${fnol.fraud.sync-interval-ms:1000}")
+    public void syncIndexes() {
+        try {
+            velocityIndex.syncRecent();
+        } catch (Exception e) {
+            log.warn("Error syncing claim velocity index: {}", e.getMessage());
+        }
+        try {
+            duplicateIndex.syncRecent();
+        } catch (Exception e) {
+            log.warn("Error syncing duplicate claim index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Load the blacklist file at startup, then again whenever a new export replaces it.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${fnol.fraud.blacklist-reload-interval-ms:60000}")
+    public void reloadBlacklist() {
+        try {
+            blacklistMatcher.reloadIfChanged();
+        } catch (Exception e) {
+            log.error("Error loading blacklist file", e);
+        }
+    }
+}
@@ -24,9 +24,11 @@ public class IdempotencyCleanupScheduler {
     }
 
     /**
-     * Clean up expired idempotency keys every hour.
+     * Clean up expired idempotency keys at startup and then every hour. On PostgreSQL
+     * this also creates the coming days' partitions, so it must run before the last
+     * pre-created partition is reached.
      */
-    @Scheduled(fixedRate = 3600000) // 1 hour in milliseconds
+    @Scheduled(initialDelay = 0, fixedRate = 3600000) // 1 hour in milliseconds
     public void cleanupExpiredKeys() {
         log.debug("Starting idempotency key cleanup");
         try {
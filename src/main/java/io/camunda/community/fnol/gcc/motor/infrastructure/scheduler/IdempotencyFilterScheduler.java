@@ -0,0 +1,54 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.scheduler;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.cache.IdempotencyFrontTier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the idempotency Bloom filter in step with {@code idempotency_keys}.
+ */
+@Component
+@ConditionalOnProperty(name = "fnol.idempotency.front-tier", havingValue = "true", matchIfMissing = true)
+public class IdempotencyFilterScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilterScheduler.class);
+
+    private final IdempotencyFrontTier frontTier;
+
+    public IdempotencyFilterScheduler(IdempotencyFrontTier frontTier) {
+        this.frontTier = frontTier;
+    }
+
+    /**
+     * Build the filter at startup, then rebuild it periodically to drop expired keys.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${fnol.idempotency.rebuild-interval-ms:21600000}")
+    public void rebuildFilter() {
+        try {
+            frontTier.rebuild();
+        } catch (Exception e) {
+            log.error("Error rebuilding idempotency filter", e);
+        }
+    }
+
+    /**
+     * Add keys registered since the last run, including those from other nodes.
+     */
+    @Scheduled(fixedDelayString = "${fnol.idempotency.sync-interval-ms:1000}")
+    public void syncFilter() {
+        try {
+            frontTier.syncRecent();
+        } catch (Exception e) {
+            log.warn("Error syncing idempotency filter: {}", e.getMessage());
+        }
+    }
+}
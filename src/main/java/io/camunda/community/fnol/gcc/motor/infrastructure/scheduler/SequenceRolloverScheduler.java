@@ -0,0 +1,84 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.scheduler;
+
+import io.camunda.community.fnol.gcc.motor.application.port.out.IdSequencePort;
+import io.camunda.community.fnol.gcc.motor.domain.enums.GccCountry;
+import io.camunda.community.fnol.gcc.motor.domain.service.FnolIdGenerator;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Prepares the per-country FNOL sequences for the new year before midnight on
+ * 1 January (in the ID time zone), so the first claims of the year are numbered
+ * from ranges that are already in memory instead of all nodes creating and
+ * locking the new rows at the same instant. Ranges left over from the old year
+ * are released shortly after the rollover.
+ */
+@Component
+public class SequenceRolloverScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceRolloverScheduler.class);
+
+    private static final Duration PREPARE_BEFORE = Duration.ofMinutes(15);
+    private static final Duration RELEASE_AFTER = Duration.ofMinutes(5);
+    private static final Duration RELEASE_UNTIL = Duration.ofHours(1);
+
+    private final IdSequencePort idSequence;
+    private final FnolIdGenerator fnolIdGenerator;
+    private final ZoneId zone;
+
+    public SequenceRolloverScheduler(IdSequencePort idSequence,
+                                     FnolIdGenerator fnolIdGenerator,
+                                     FnolProperties fnolProperties) {
+        this.idSequence = idSequence;
+        this.fnolIdGenerator = fnolIdGenerator;
+        this.zone = ZoneId.of(fnolProperties.idGeneration().zone());
+    }
+
+    /**
+     * Check once a minute whether the ID year is about to roll over or just has.
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 30000)
+    public void handleYearRollover() {
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        ZonedDateTime yearStart = now.withDayOfYear(1).toLocalDate().atStartOfDay(zone);
+        ZonedDateTime nextYearStart = yearStart.plusYears(1);
+
+        try {
+            if (Duration.between(now, nextYearStart).compareTo(PREPARE_BEFORE) <= 0) {
+                forEachCountry(nextYearStart.getYear(), true);
+            }
+
+            Duration sinceYearStart = Duration.between(yearStart, now);
+            if (sinceYearStart.compareTo(RELEASE_AFTER) >= 0 && sinceYearStart.compareTo(RELEASE_UNTIL) < 0) {
+                forEachCountry(yearStart.getYear() - 1, false);
+            }
+        } catch (Exception e) {
+            log.error("Error preparing FNOL sequences for year rollover", e);
+        }
+    }
+
+    private void forEachCountry(int year, boolean prepare) {
+        for (GccCountry country : GccCountry.values()) {
+            String sequenceName = fnolIdGenerator.sequenceName(country.name(), year);
+            if (prepare) {
+                idSequence.prefetch(sequenceName);
+            } else {
+                idSequence.release(sequenceName);
+            }
+        }
+        log.debug("{} FNOL sequences for {}", prepare ? "Prepared" : "Released", year);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties.WorkerProperties;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor the Zeebe client polls for jobs and runs job handlers on.
+ * <p>
+ * The client wants a {@link ScheduledExecutorService}, so virtual threads come in
+ * through the thread factory: the pool starts one thread per task up to
+ * {@code threads}, and with virtual threads a handler waiting on a partner's HTTP
+ * response parks without holding a carrier.
+ */
+final class JobWorkerExecutors {
+
+    private static final long VIRTUAL_KEEP_ALIVE_SECONDS = 60;
+
+    private JobWorkerExecutors() {
+    }
+
+    static ScheduledExecutorService create(WorkerProperties workers) {
+        ThreadFactory threadFactory = workers.virtualThreads()
+                ? Thread.ofVirtual().name("zeebe-job-", 0).factory()
+                : Thread.ofPlatform().name("zeebe-job-", 0).factory();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(workers.threads(), threadFactory);
+        if (workers.virtualThreads()) {
+            // A virtual thread costs next to nothing to start again; idle ones are let go
+            executor.setKeepAliveTime(VIRTUAL_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe;
+
+import io.camunda.community.fnol.gcc.motor.application.exception.ProcessStartRejectedException;
+import io.camunda.community.fnol.gcc.motor.application.port.out.FnolRepositoryPort;
+import io.camunda.community.fnol.gcc.motor.application.port.out.ProcessStarterPort;
+import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
+import io.camunda.community.fnol.gcc.motor.domain.service.SeverityCalculator;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.ProcessStartOutboxEntity;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.ProcessStartOutboxJpaRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Starts Zeebe process instances for submissions recorded in {@code process_start_outbox}.
+ * <p>
+ * Entries are claimed in a short transaction ({@code FOR UPDATE SKIP LOCKED}, so several
+ * nodes can dispatch side by side) and leased for {@code fnol.process-start.lease-seconds},
+ * and the cases of a claimed batch are loaded with their attachments in one query.
+ * The Zeebe calls of a batch are pipelined outside any transaction; on success the process
+ * instance key is written back and the entry removed, on failure it is retried with
+ * exponential backoff until {@code max-attempts} is reached and the case is marked
+ * {@code PROCESS_START_FAILED}. Entries refused because the in-flight window is full are
+ * deferred without counting as an attempt.
+ */
+@Component
+public class ProcessStartOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessStartOutboxDispatcher.class);
+
+    private static final String PROCESS_START_FAILED = "PROCESS_START_FAILED";
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final Duration REJECTED_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ProcessStartOutboxJpaRepository outboxRepository;
+    private final FnolRepositoryPort fnolRepository;
+    private final ProcessStarterPort processStarter;
+    private final SeverityCalculator severityCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final FnolProperties.ProcessStartProperties properties;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "process-start-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ProcessStartOutboxDispatcher(ProcessStartOutboxJpaRepository outboxRepository,
+                                        FnolRepositoryPort fnolRepository,
+                                        ProcessStarterPort processStarter,
+                                        SeverityCalculator severityCalculator,
+                                        PlatformTransactionManager transactionManager,
+                                        FnolProperties fnolProperties) {
+        this.outboxRepository = outboxRepository;
+        this.fnolRepository = fnolRepository;
+        this.processStarter = processStarter;
+        this.severityCalculator = severityCalculator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = fnolProperties.processStart();
+    }
+
+    /**
+     * Request a dispatch round. Requests arriving while a round is running are
+     * coalesced into one follow-up round.
+     */
+    public void requestDispatch() {
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            submitDrain();
+        }
+    }
+
+    /**
+     * Safety net for entries whose after-commit trigger was lost (e.g. node restart)
+     * and for retries that have become due.
+     */
+    @Scheduled(fixedDelayString = "${fnol.process-start.poll-interval-ms:1000}")
+    public void poll() {
+        requestDispatch();
+    }
+
+    private void submitDrain() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (requested.getAndSet(false)) {
+                int dispatched;
+                do {
+                    dispatched = dispatchBatch();
+                } while (dispatched == properties.batchSize());
+            }
+        } catch (Exception e) {
+            log.error("Error dispatching process start outbox", e);
+        } finally {
+            running.set(false);
+            if (requested.get() && running.compareAndSet(false, true)) {
+                submitDrain();
+            }
+        }
+    }
+
+    /**
+     * Claim and dispatch one batch of due entries. All create-instance commands of the
+     * batch are sent before the first response is awaited, so a batch costs roughly one
+     * gateway round trip instead of one per entry.
+     *
+     * @return number of entries claimed
+     */
+    int dispatchBatch() {
+        List<ClaimedEntry> claimed = transactionTemplate.execute(status -> claimDueEntries());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, MotorFnolCase> cases;
+        try {
+            cases = fnolRepository.findDetailsByFnolIds(claimed.stream().map(ClaimedEntry::fnolId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(MotorFnolCase::getFnolId, Function.identity()));
+        } catch (Exception e) {
+            claimed.forEach(entry -> handleFailure(entry, e));
+            return claimed.size();
+        }
+
+        Map<ClaimedEntry, CompletableFuture<String>> pending = new LinkedHashMap<>();
+        for (ClaimedEntry entry : claimed) {
+            CompletableFuture<String> started = start(entry, cases.get(entry.fnolId()));
+            if (started != null) {
+                pending.put(entry, started);
+            }
+        }
+        pending.forEach(this::awaitStart);
+        return claimed.size();
+    }
+
+    private List<ClaimedEntry> claimDueEntries() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProcessStartOutboxEntity> due = outboxRepository.findDueForUpdate(
+                now, PageRequest.of(0, properties.batchSize()));
+
+        LocalDateTime leaseUntil = now.plusSeconds(properties.leaseSeconds());
+        for (ProcessStartOutboxEntity entry : due) {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setNextAttemptAt(leaseUntil);
+        }
+
+        return due.stream()
+                .map(entry -> new ClaimedEntry(entry.getId(), entry.getFnolId(), entry.getCorrelationId(), entry.getAttempts()))
+                .toList();
+    }
+
+    private CompletableFuture<String> start(ClaimedEntry entry, MotorFnolCase fnolCase) {
+        try {
+            if (fnolCase == null) {
+                fail(entry, "FNOL case not found");
+                return null;
+            }
+            fnolCase.setCorrelationId(entry.correlationId());
+            fnolCase.setSeverityFlags(severityCalculator.calculate(fnolCase));
+
+            return processStarter.startFnolProcessAsync(fnolCase);
+        } catch (Exception e) {
+            handleFailure(entry, e);
+            return null;
+        }
+    }
+
+    private void awaitStart(ClaimedEntry entry, CompletableFuture<String> started) {
+        String processInstanceKey;
+        try {
+            processInstanceKey = started.join();
+        } catch (CompletionException e) {
+            handleFailure(entry, e.getCause() != null ? e.getCause() : e);
+            return;
+        }
+
+        try {
+            complete(entry, processInstanceKey);
+            log.info("Process started for FNOL {}: {}", entry.fnolId(), processInstanceKey);
+        } catch (Exception e) {
+            // The instance exists; leave the entry leased instead of retrying straight away
+            log.error("Process {} started for FNOL {} but outbox could not be completed",
+                    processInstanceKey, entry.fnolId(), e);
+        }
+    }
+
+    private void handleFailure(ClaimedEntry entry, Throwable error) {
+        if (error instanceof ProcessStartRejectedException) {
+            // Local backpressure, not a failed attempt
+            log.debug("Process start window full, deferring FNOL {}", entry.fnolId());
+            deferAfterRejection(entry);
+            return;
+        }
+        log.warn("Process start attempt {} failed for FNOL {}: {}", entry.attempts(), entry.fnolId(), error.getMessage());
+        if (entry.attempts() >= properties.maxAttempts()) {
+            fail(entry, error.getMessage());
+        } else {
+            retryLater(entry, error.getMessage());
+        }
+    }
+
+    private void deferAfterRejection(ClaimedEntry entry) {
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(REJECTED_RETRY_DELAY);
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.findById(entry.id()).ifPresent(outbox -> {
+                    outbox.setAttempts(Math.max(0, outbox.getAttempts() - 1));
+                    outbox.setNextAttemptAt(nextAttemptAt);
+                }));
+    }
+
+    private void complete(ClaimedEntry entry, String processInstanceKey) {
+        transactionTemplate.executeWithoutResult(status -> {
+            fnolRepository.updateProcessInstanceKey(entry.fnolId(), processInstanceKey);
+            outboxRepository.deleteById(entry.id());
+        });
+    }
+
+    private void retryLater(ClaimedEntry entry, String error) {
+        long factor = 1L << Math.min(entry.attempts() - 1, 20);
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(factor);
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff);
+
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.findById(entry.id()).ifPresent(outbox -> {
+                    outbox.setNextAttemptAt(nextAttemptAt);
+                    outbox.setLastError(truncate(error));
+                }));
+    }
+
+    private void fail(ClaimedEntry entry, String error) {
+        log.error("Giving up starting process for FNOL {} after {} attempts: {}", entry.fnolId(), entry.attempts(), error);
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.findById(entry.id()).ifPresent(outbox -> {
+                outbox.setStatus(ProcessStartOutboxEntity.STATUS_FAILED);
+                outbox.setLastError(truncate(error));
+            });
+            fnolRepository.updateStatus(entry.fnolId(), PROCESS_START_FAILED);
+        });
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private record ClaimedEntry(Long id, String fnolId, String correlationId, int attempts) {}
+}
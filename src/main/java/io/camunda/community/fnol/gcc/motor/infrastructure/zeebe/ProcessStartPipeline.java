@@ -0,0 +1,126 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe;
+
+import io.camunda.community.fnol.gcc.motor.application.exception.ProcessStartException;
+import io.camunda.community.fnol.gcc.motor.application.exception.ProcessStartRejectedException;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties;
+import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded window of outstanding create-instance commands.
+ * <p>
+ * Callers fire commands without waiting for the gRPC response; a semaphore caps how
+ * many are outstanding. When the window is full the caller blocks for at most
+ * {@code camunda.process.start.acquire-timeout-ms} (backpressure) and is then rejected.
+ */
+@Component
+public class ProcessStartPipeline {
+
+    private final Semaphore window;
+    private final int maxInFlight;
+    private final long acquireTimeoutMs;
+    private final Duration requestTimeout;
+
+    private final Timer successLatency;
+    private final Timer failureLatency;
+    private final Counter rejections;
+
+    public ProcessStartPipeline(CamundaProperties camundaProperties, MeterRegistry meterRegistry) {
+        CamundaProperties.ProcessProperties.StartProperties start = camundaProperties.process().start();
+        this.maxInFlight = start.maxInFlight();
+        this.acquireTimeoutMs = start.acquireTimeoutMs();
+        this.requestTimeout = Duration.ofMillis(start.requestTimeoutMs());
+        this.window = new Semaphore(maxInFlight);
+
+        Gauge.builder("fnol.process.start.in_flight", window, w -> maxInFlight - w.availablePermits())
+                .description("Create-instance commands awaiting a response")
+                .register(meterRegistry);
+        this.successLatency = latencyTimer(meterRegistry, "success");
+        this.failureLatency = latencyTimer(meterRegistry, "failure");
+        this.rejections = Counter.builder("fnol.process.start.rejected")
+                .description("Process starts refused because the in-flight window was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gateway request timeout to apply to each create-instance command.
+     */
+    public Duration requestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Send a create-instance command inside the window.
+     *
+     * @param fnolId  FNOL the process is started for
+     * @param command sends the command and returns its pending response
+     * @return future completed with the process instance key
+     */
+    public CompletableFuture<String> submit(String fnolId,
+                                            Supplier<? extends CompletionStage<ProcessInstanceEvent>> command) {
+        if (!acquire()) {
+            rejections.increment();
+            return CompletableFuture.failedFuture(new ProcessStartRejectedException(fnolId, maxInFlight));
+        }
+
+        long startNanos = System.nanoTime();
+        CompletionStage<ProcessInstanceEvent> response;
+        try {
+            response = command.get();
+        } catch (RuntimeException e) {
+            window.release();
+            failureLatency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return CompletableFuture.failedFuture(
+                    new ProcessStartException(fnolId, "Failed to start Zeebe process: " + e.getMessage(), e));
+        }
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        response.whenComplete((event, error) -> {
+            window.release();
+            long elapsed = System.nanoTime() - startNanos;
+            if (error != null) {
+                failureLatency.record(elapsed, TimeUnit.NANOSECONDS);
+                result.completeExceptionally(
+                        new ProcessStartException(fnolId, "Failed to start Zeebe process: " + error.getMessage(), error));
+            } else {
+                successLatency.record(elapsed, TimeUnit.NANOSECONDS);
+                result.complete(String.valueOf(event.getProcessInstanceKey()));
+            }
+        });
+        return result;
+    }
+
+    private boolean acquire() {
+        try {
+            return window.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("fnol.process.start.latency")
+                .description("Create-instance round trip to the Zeebe gateway")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -7,14 +7,20 @@
 package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe;
 
 import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.zeebe.worker.JobWorkerMonitor;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.ZeebeClientBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
 @Configuration
 public class ZeebeClientConfig {
 
@@ -25,17 +31,20 @@ public class ZeebeClientConfig {
      */
     @Bean
     @ConditionalOnProperty(name = "camunda.client.mode", havingValue = "cloud")
-    public ZeebeClient cloudZeebeClient(CamundaProperties properties) {
+    public ZeebeClient cloudZeebeClient(CamundaProperties properties,
+                                        JobWorkerMonitor jobWorkerMonitor,
+                                        MeterRegistry meterRegistry) {
         log.info("Configuring Zeebe client for Camunda Cloud");
 
         var cloud = properties.client().cloud();
 
-        return ZeebeClient.newCloudClientBuilder()
+        ZeebeClientBuilder builder = ZeebeClient.newCloudClientBuilder()
                 .withClusterId(cloud.clusterId())
                 .withClientId(cloud.clientId())
                 .withClientSecret(cloud.clientSecret())
-                .withRegion(cloud.region())
-                .build();
+                .withRegion(cloud.region());
+
+        return withJobWorkers(builder, properties, jobWorkerMonitor, meterRegistry).build();
     }
 
     /**
@@ -43,7 +52,9 @@ public class ZeebeClientConfig {
      */
     @Bean
     @ConditionalOnProperty(name = "camunda.client.mode", havingValue = "self-managed")
-    public ZeebeClient selfManagedZeebeClient(CamundaProperties properties) {
+    public ZeebeClient selfManagedZeebeClient(CamundaProperties properties,
+                                              JobWorkerMonitor jobWorkerMonitor,
+                                              MeterRegistry meterRegistry) {
         log.info("Configuring Zeebe client for Self-Managed deployment");
 
         var zeebe = properties.client().zeebe();
@@ -55,7 +66,33 @@ public class ZeebeClientConfig {
             builder.usePlaintext();
         }
 
-        return builder.build();
+        return withJobWorkers(builder, properties, jobWorkerMonitor, meterRegistry).build();
+    }
+
+    /**
+     * Job handlers run on the client's job worker executor; see {@link JobWorkerExecutors}.
+     * The client shuts the executor down when it is closed. The defaults here apply to
+     * workers opened outside {@code @JobWorker}; annotated ones get their job type's
+     * profile from {@code JobWorkerTuning}.
+     */
+    private static ZeebeClientBuilder withJobWorkers(ZeebeClientBuilder builder,
+                                                     CamundaProperties properties,
+                                                     JobWorkerMonitor jobWorkerMonitor,
+                                                     MeterRegistry meterRegistry) {
+        var workers = properties.workers();
+        log.info("Job handlers run on {} (at most {} at once), {} active jobs per worker by default",
+                workers.virtualThreads() ? "virtual threads" : "platform threads",
+                workers.threads(), workers.maxJobsActive());
+
+        ScheduledExecutorService executor = ExecutorServiceMetrics.monitor(
+                meterRegistry, JobWorkerExecutors.create(workers), "zeebe.job.worker");
+        return builder
+                .jobWorkerExecutor(executor)
+                .defaultJobWorkerMaxJobsActive(workers.maxJobsActive())
+                .defaultJobWorkerStreamEnabled(workers.streamEnabled())
+                .defaultJobTimeout(Duration.ofMillis(workers.timeoutMs()))
+                .defaultJobPollInterval(Duration.ofMillis(workers.pollIntervalMs()))
+                .withInterceptors(jobWorkerMonitor.interceptor());
     }
 
     /**
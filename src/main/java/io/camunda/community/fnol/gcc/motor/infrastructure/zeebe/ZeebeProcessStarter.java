@@ -10,7 +10,6 @@ import io.camunda.community.fnol.gcc.motor.application.exception.ProcessStartExc
 import io.camunda.community.fnol.gcc.motor.application.port.out.ProcessStarterPort;
 import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
 import io.camunda.zeebe.client.ZeebeClient;
-import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -18,6 +17,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Component
 @ConditionalOnProperty(name = "camunda.client.mode", havingValue = "cloud", matchIfMissing = false)
@@ -27,38 +28,49 @@ public class ZeebeProcessStarter implements ProcessStarterPort {
     private static final String PROCESS_ID = "gcc-motor-fnol-process";
 
     private final ZeebeClient zeebeClient;
+    private final ProcessStartPipeline pipeline;
 
-    public ZeebeProcessStarter(ZeebeClient zeebeClient) {
+    public ZeebeProcessStarter(ZeebeClient zeebeClient, ProcessStartPipeline pipeline) {
         this.zeebeClient = zeebeClient;
+        this.pipeline = pipeline;
     }
 
     @Override
     public String startFnolProcess(MotorFnolCase fnolCase) {
-        log.info("Starting FNOL process for case: {}", fnolCase.getFnolId());
-
         try {
-            Map<String, Object> variables = buildProcessVariables(fnolCase);
-
-            ProcessInstanceEvent event = zeebeClient.newCreateInstanceCommand()
-                    .bpmnProcessId(PROCESS_ID)
-                    .latestVersion()
-                    .variables(variables)
-                    .send()
-                    .join();
-
-            String processInstanceKey = String.valueOf(event.getProcessInstanceKey());
-            log.info("Process started successfully. FNOL: {}, ProcessInstanceKey: {}",
-                    fnolCase.getFnolId(), processInstanceKey);
-
-            return processInstanceKey;
-
-        } catch (Exception e) {
-            log.error("Failed to start FNOL process for case: {}", fnolCase.getFnolId(), e);
+            return startFnolProcessAsync(fnolCase).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ProcessStartException processStartException) {
+                throw processStartException;
+            }
             throw new ProcessStartException(fnolCase.getFnolId(),
-                    "Failed to start Zeebe process: " + e.getMessage(), e);
+                    "Failed to start Zeebe process: " + e.getCause().getMessage(), e.getCause());
         }
     }
 
+    @Override
+    public CompletableFuture<String> startFnolProcessAsync(MotorFnolCase fnolCase) {
+        log.info("Starting FNOL process for case: {}", fnolCase.getFnolId());
+
+        Map<String, Object> variables = buildProcessVariables(fnolCase);
+
+        return pipeline.submit(fnolCase.getFnolId(), () -> zeebeClient.newCreateInstanceCommand()
+                        .bpmnProcessId(PROCESS_ID)
+                        .latestVersion()
+                        .variables(variables)
+                        .requestTimeout(pipeline.requestTimeout())
+                        .send())
+                .whenComplete((processInstanceKey, error) -> {
+                    if (error == null) {
+                        log.info("Process started successfully. FNOL: {}, ProcessInstanceKey: {}",
+                                fnolCase.getFnolId(), processInstanceKey);
+                    } else {
+                        log.error("Failed to start FNOL process for case: {}: {}",
+                                fnolCase.getFnolId(), error.getMessage());
+                    }
+                });
+    }
+
     /**
      * Build process variables from FNOL case.
      */
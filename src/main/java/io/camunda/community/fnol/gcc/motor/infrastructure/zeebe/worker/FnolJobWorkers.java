@@ -6,6 +6,12 @@
  */
 package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe.worker;
 
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.BlacklistMatcher;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.BlacklistMatcher.BlacklistMatch;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.ClaimVelocityIndex;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.DuplicateClaimIndex;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.DuplicateClaimIndex.DuplicateMatch;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.spring.client.annotation.JobWorker;
@@ -15,7 +21,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
@@ -28,13 +37,34 @@ import java.util.UUID;
  * - Variable mapping with @Variable annotation
  * - Auto-completion with return values
  * - Error throwing for boundary events
- * - Logging and metrics
+ * - Logging and metrics (each handler reports its start to {@link JobWorkerMonitor})
  */
 @Component
 public class FnolJobWorkers {
 
     private static final Logger log = LoggerFactory.getLogger(FnolJobWorkers.class);
+    // A fraud index that is still loading is retried every sync; don't poll it faster than this
+    private static final Duration INDEX_LOADING_BACKOFF = Duration.ofSeconds(10);
     private final Random random = new Random();
+    private final JobWorkerMonitor jobWorkerMonitor;
+    private final ClaimVelocityIndex claimVelocityIndex;
+    private final DuplicateClaimIndex duplicateClaimIndex;
+    private final BlacklistMatcher blacklistMatcher;
+    private final double duplicateSimilarityThreshold;
+    private final Duration blacklistRetryBackoff;
+
+    public FnolJobWorkers(JobWorkerMonitor jobWorkerMonitor,
+                          ClaimVelocityIndex claimVelocityIndex,
+                          DuplicateClaimIndex duplicateClaimIndex,
+                          BlacklistMatcher blacklistMatcher,
+                          FnolProperties fnolProperties) {
+        this.jobWorkerMonitor = jobWorkerMonitor;
+        this.claimVelocityIndex = claimVelocityIndex;
+        this.duplicateClaimIndex = duplicateClaimIndex;
+        this.blacklistMatcher = blacklistMatcher;
+        this.duplicateSimilarityThreshold = fnolProperties.fraud().duplicateSimilarityThreshold();
+        this.blacklistRetryBackoff = Duration.ofMillis(fnolProperties.fraud().blacklistReloadIntervalMs());
+    }
 
     // ═══════════════════════════════════════════════════════════════════════════
     // VALIDATION WORKERS
@@ -51,6 +81,7 @@ public class FnolJobWorkers {
             @Variable String countryCode,
             @Variable String mobileNumber,
             @Variable String nationalId) {
+        jobWorkerMonitor.started(job);
 
         log.info("Validating claim data for FNOL: {}", fnolId);
 
@@ -86,6 +117,7 @@ public class FnolJobWorkers {
             @Variable String description,
             @Variable Boolean drivable,
             @Variable Boolean injuries) {
+        jobWorkerMonitor.started(job);
 
         log.info("AI validation for FNOL: {}", fnolId);
 
@@ -129,6 +161,7 @@ public class FnolJobWorkers {
             final ActivatedJob job,
             @Variable String fnolId,
             @Variable Double validationConfidence) {
+        jobWorkerMonitor.started(job);
 
         log.info("Auto-approving claim for FNOL: {} with confidence: {}", fnolId, validationConfidence);
 
@@ -157,6 +190,7 @@ public class FnolJobWorkers {
             @Variable String incidentLocation,
             @Variable Double latitude,
             @Variable Double longitude) {
+        jobWorkerMonitor.started(job);
 
         log.info("Arranging towing for FNOL: {} at location: {}", fnolId, incidentLocation);
 
@@ -187,6 +221,7 @@ public class FnolJobWorkers {
             @Variable String fnolId,
             @Variable String mobileNumber,
             @Variable String incidentLocation) {
+        jobWorkerMonitor.started(job);
 
         log.info("Notifying medical team for FNOL: {}", fnolId);
 
@@ -215,6 +250,7 @@ public class FnolJobWorkers {
             @Variable String mobileNumber,
             @Variable String reporterEmail,
             @Variable String preferredLanguage) {
+        jobWorkerMonitor.started(job);
 
         log.info("Sending customer notification for FNOL: {}", fnolId);
 
@@ -243,6 +279,7 @@ public class FnolJobWorkers {
             @Variable String fnolId,
             @Variable String mobileNumber,
             @Variable String reminderType) {
+        jobWorkerMonitor.started(job);
 
         log.info("Sending {} reminder for FNOL: {}", reminderType, fnolId);
 
@@ -272,6 +309,7 @@ public class FnolJobWorkers {
             @Variable String fnolId,
             @Variable String escalationType,
             @Variable String severity) {
+        jobWorkerMonitor.started(job);
 
         log.warn("SLA ESCALATION for FNOL: {} - Type: {}, Severity: {}", fnolId, escalationType, severity);
 
@@ -320,6 +358,7 @@ public class FnolJobWorkers {
             @Variable Double approvedAmount,
             @Variable String paymentMethod,
             @Variable String countryCode) {
+        jobWorkerMonitor.started(job);
 
         // Get country-specific currency
         String currency = getCurrencyForCountry(countryCode);
@@ -374,6 +413,7 @@ public class FnolJobWorkers {
             @Variable String fnolId,
             @Variable String incidentLocation,
             @Variable String incidentDate) {
+        jobWorkerMonitor.started(job);
 
         log.info("Requesting police report for FNOL: {}", fnolId);
 
@@ -402,6 +442,7 @@ public class FnolJobWorkers {
     public Map<String, Object> initializeFraudCheck(
             final ActivatedJob job,
             @Variable String claimId) {
+        jobWorkerMonitor.started(job);
 
         log.info("Initializing fraud check for claim: {}", claimId);
 
@@ -414,21 +455,32 @@ public class FnolJobWorkers {
     }
 
     /**
-     * Performs velocity check (claim frequency analysis).
+     * Performs velocity check (claim frequency analysis): other claims by the same
+     * national ID or mobile number, from the in-memory {@link ClaimVelocityIndex}.
+     * While the index is still loading the job is handed back after a backoff,
+     * without using up a retry.
      */
-    @JobWorker(type = "fraud-velocity-check", autoComplete = true)
-    public Map<String, Object> fraudVelocityCheck(
+    @JobWorker(type = "fraud-velocity-check", autoComplete = false)
+    public void fraudVelocityCheck(
+            final JobClient client,
             final ActivatedJob job,
+            @Variable String claimId,
             @Variable String mobileNumber,
             @Variable String nationalId) {
+        jobWorkerMonitor.started(job);
+
+        if (!claimVelocityIndex.ready()) {
+            retryLater(client, job, job.getRetries(), INDEX_LOADING_BACKOFF, "Claim velocity index is still loading");
+            return;
+        }
 
         log.info("Running velocity check for: {}", nationalId);
 
         Map<String, Object> result = new HashMap<>();
 
-        // Simulate velocity check
-        int claimsLast30Days = random.nextInt(3);
-        int claimsLast90Days = random.nextInt(5);
+        ClaimVelocityIndex.Velocity velocity = claimVelocityIndex.velocity(claimId, nationalId, mobileNumber);
+        int claimsLast30Days = velocity.claimsLast30Days();
+        int claimsLast90Days = velocity.claimsLast90Days();
 
         String riskLevel = "NONE";
         if (claimsLast30Days >= 3) riskLevel = "CRITICAL";
@@ -440,52 +492,90 @@ public class FnolJobWorkers {
         result.put("claimsLast30Days", claimsLast30Days);
         result.put("claimsLast90Days", claimsLast90Days);
 
-        return result;
+        client.newCompleteCommand(job).variables(result).send().join();
     }
 
     /**
-     * Performs duplicate claim check.
+     * Performs duplicate claim check: claims for the same plate with nearby incident
+     * dates and similar location/description, from the in-memory
+     * {@link DuplicateClaimIndex}. The task's {@code similarityThreshold} header
+     * overrides the configured threshold. While the index is still loading the job is
+     * handed back after a backoff, without using up a retry.
      */
-    @JobWorker(type = "fraud-duplicate-check", autoComplete = true)
-    public Map<String, Object> fraudDuplicateCheck(
+    @JobWorker(type = "fraud-duplicate-check", autoComplete = false)
+    public void fraudDuplicateCheck(
+            final JobClient client,
             final ActivatedJob job,
             @Variable String claimId,
-            @Variable String location) {
+            @Variable String plateNumber,
+            @Variable String plateCountry,
+            @Variable String lossDateTime,
+            @Variable String location,
+            @Variable String description) {
+        jobWorkerMonitor.started(job);
+
+        if (!duplicateClaimIndex.ready()) {
+            retryLater(client, job, job.getRetries(), INDEX_LOADING_BACKOFF, "Duplicate claim index is still loading");
+            return;
+        }
 
         log.info("Running duplicate check for claim: {}", claimId);
 
         Map<String, Object> result = new HashMap<>();
 
-        // Simulate duplicate check
-        boolean hasDuplicate = random.nextDouble() < 0.1; // 10% chance of duplicate
+        String thresholdHeader = job.getCustomHeaders().get("similarityThreshold");
+        double threshold = thresholdHeader != null ? Double.parseDouble(thresholdHeader) : duplicateSimilarityThreshold;
+        LocalDate incidentDate = lossDateTime != null ? OffsetDateTime.parse(lossDateTime).toLocalDate() : null;
+        DuplicateMatch match = duplicateClaimIndex.match(claimId, plateNumber, plateCountry, incidentDate,
+                location, description, threshold);
+
+        String riskLevel = "NONE";
+        if (match.exact()) riskLevel = "CRITICAL";
+        else if (!match.matchedFnolIds().isEmpty()) riskLevel = "HIGH";
+        else if (match.similarityScore() >= 0.5) riskLevel = "MEDIUM";
+        else if (match.candidates() > 0) riskLevel = "LOW";
 
-        result.put("duplicateRiskLevel", hasDuplicate ? "HIGH" : "NONE");
-        result.put("potentialDuplicates", hasDuplicate ? 1 : 0);
-        result.put("similarityScore", hasDuplicate ? 0.92 : 0.0);
+        result.put("duplicateRiskLevel", riskLevel);
+        result.put("potentialDuplicates", match.matchedFnolIds().size());
+        result.put("duplicateFnolIds", match.matchedFnolIds());
+        result.put("similarityScore", match.similarityScore());
 
-        return result;
+        client.newCompleteCommand(job).variables(result).send().join();
     }
 
     /**
-     * Performs blacklist check.
+     * Performs blacklist check of the national ID, mobile number and plate against the
+     * regional fraud database export held by {@link BlacklistMatcher}. While the
+     * export is not loaded the job is retried once the next reload has had a chance.
      */
-    @JobWorker(type = "fraud-blacklist-check", autoComplete = true)
-    public Map<String, Object> fraudBlacklistCheck(
+    @JobWorker(type = "fraud-blacklist-check", autoComplete = false)
+    public void fraudBlacklistCheck(
+            final JobClient client,
             final ActivatedJob job,
             @Variable String nationalId,
-            @Variable String mobileNumber) {
+            @Variable String mobileNumber,
+            @Variable String plateNumber,
+            @Variable String plateCountry) {
+        jobWorkerMonitor.started(job);
+
+        if (!blacklistMatcher.ready()) {
+            // A missing or unreadable export needs fixing, so this does use up retries
+            retryLater(client, job, job.getRetries() - 1, blacklistRetryBackoff, "Blacklist is not loaded");
+            return;
+        }
 
         log.info("Running blacklist check for: {}", nationalId);
 
         Map<String, Object> result = new HashMap<>();
 
-        // Simulate blacklist check
-        boolean isBlacklisted = random.nextDouble() < 0.02; // 2% chance
+        BlacklistMatch match = blacklistMatcher.match(nationalId, mobileNumber, plateNumber, plateCountry);
+        boolean isBlacklisted = match.matched();
 
         result.put("blacklistMatch", isBlacklisted);
         result.put("blacklistSource", isBlacklisted ? "REGIONAL_FRAUD_DATABASE" : null);
+        result.put("blacklistMatchedOn", match.matchedOn());
 
-        return result;
+        client.newCompleteCommand(job).variables(result).send().join();
     }
 
     /**
@@ -496,6 +586,7 @@ public class FnolJobWorkers {
             final ActivatedJob job,
             @Variable String claimId,
             @Variable String description) {
+        jobWorkerMonitor.started(job);
 
         log.info("Running pattern analysis for claim: {}", claimId);
 
@@ -521,6 +612,7 @@ public class FnolJobWorkers {
             @Variable String duplicateRiskLevel,
             @Variable Boolean blacklistMatch,
             @Variable Integer patternScore) {
+        jobWorkerMonitor.started(job);
 
         log.info("Collecting fraud indicators");
 
@@ -546,6 +638,7 @@ public class FnolJobWorkers {
             final ActivatedJob job,
             @Variable Integer fraudScoreComponent,
             @Variable Boolean requiresManualReview) {
+        jobWorkerMonitor.started(job);
 
         log.info("Finalizing fraud output - Score: {}", fraudScoreComponent);
 
@@ -569,4 +662,18 @@ public class FnolJobWorkers {
         if (score >= 20) return "LOW";
         return "MINIMAL";
     }
+
+    /**
+     * Fail a job whose input is not available yet, for Zeebe to hand out again after
+     * {@code backoff} instead of straight away.
+     */
+    private void retryLater(JobClient client, ActivatedJob job, int retries, Duration backoff, String reason) {
+        log.warn("{} for job {}, retrying in {}s", reason, job.getKey(), backoff.toSeconds());
+        client.newFailCommand(job)
+                .retries(retries)
+                .retryBackoff(backoff)
+                .errorMessage(reason)
+                .send()
+                .join();
+    }
 }
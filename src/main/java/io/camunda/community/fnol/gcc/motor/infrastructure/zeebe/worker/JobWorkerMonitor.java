@@ -0,0 +1,132 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe.worker;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per job type view of the workers, to see which one is the bottleneck in a surge.
+ * <ul>
+ *   <li>{@code fnol.jobs.queued}: jobs handed to this node (polled or pushed) whose
+ *       handler has not started yet. A type that sits at its {@code maxJobsActive}
+ *       is waiting for executor threads, not for the broker.</li>
+ *   <li>{@code fnol.jobs.activation.latency}: from activation by the broker to the
+ *       handler starting, taken from the job deadline less the type's timeout (so it
+ *       includes any clock skew to the broker).</li>
+ * </ul>
+ * Activations are counted off the gateway responses by {@link #interceptor()}, and
+ * handlers report their start through {@link #started(ActivatedJob)}.
+ */
+@Component
+public class JobWorkerMonitor {
+
+    private final CamundaProperties.WorkerProperties workers;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, JobTypeMeters> meters = new ConcurrentHashMap<>();
+
+    public JobWorkerMonitor(CamundaProperties camundaProperties, MeterRegistry meterRegistry) {
+        this.workers = camundaProperties.workers();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Counts the jobs in ActivateJobs responses and on job streams.
+     */
+    public ClientInterceptor interceptor() {
+        return new ActivationInterceptor();
+    }
+
+    /**
+     * Record a handler starting on a job.
+     */
+    public void started(ActivatedJob job) {
+        JobTypeMeters typeMeters = meters(job.getType());
+        typeMeters.queued.decrementAndGet();
+        long activatedAt = job.getDeadline() - typeMeters.timeoutMs;
+        typeMeters.activationLatency.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - activatedAt)));
+    }
+
+    void activated(String type, int count) {
+        meters(type).queued.addAndGet(count);
+    }
+
+    private JobTypeMeters meters(String type) {
+        return meters.computeIfAbsent(type, this::register);
+    }
+
+    private JobTypeMeters register(String type) {
+        AtomicLong queued = new AtomicLong();
+        Gauge.builder("fnol.jobs.queued", queued, AtomicLong::get)
+                .description("Jobs activated on this node whose handler has not started")
+                .tag("type", type)
+                .register(meterRegistry);
+        Timer activationLatency = Timer.builder("fnol.jobs.activation.latency")
+                .description("Time from job activation to its handler starting")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        return new JobTypeMeters(queued, activationLatency, workers.profile(type).timeoutMs());
+    }
+
+    private record JobTypeMeters(AtomicLong queued, Timer activationLatency, long timeoutMs) {
+    }
+
+    private final class ActivationInterceptor implements ClientInterceptor {
+
+        private final String activateJobs = GatewayGrpc.getActivateJobsMethod().getFullMethodName();
+        private final String streamActivatedJobs = GatewayGrpc.getStreamActivatedJobsMethod().getFullMethodName();
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                   CallOptions callOptions,
+                                                                   Channel next) {
+            ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+            String name = method.getFullMethodName();
+            if (!activateJobs.equals(name) && !streamActivatedJobs.equals(name)) {
+                return call;
+            }
+            return new ForwardingClientCall.SimpleForwardingClientCall<>(call) {
+                @Override
+                public void start(Listener<RespT> responseListener, Metadata headers) {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onMessage(RespT message) {
+                            if (message instanceof GatewayOuterClass.ActivateJobsResponse response) {
+                                for (GatewayOuterClass.ActivatedJob job : response.getJobsList()) {
+                                    activated(job.getType(), 1);
+                                }
+                            } else if (message instanceof GatewayOuterClass.ActivatedJob job) {
+                                activated(job.getType(), 1);
+                            }
+                            super.onMessage(message);
+                        }
+                    }, headers);
+                }
+            };
+        }
+    }
+}
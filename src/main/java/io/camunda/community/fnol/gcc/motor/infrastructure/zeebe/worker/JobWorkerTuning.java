@@ -0,0 +1,49 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe.worker;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties.WorkerProperties.JobTypeProperties;
+import io.camunda.zeebe.spring.client.annotation.customizer.ZeebeWorkerValueCustomizer;
+import io.camunda.zeebe.spring.client.annotation.value.ZeebeWorkerValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the {@code camunda.workers} profile of each job type to its
+ * {@code @JobWorker} before it is opened, so a slow partner integration can be held
+ * to its own share of active jobs, and a trivial check streamed with a short timeout,
+ * without touching the annotations in {@link FnolJobWorkers}.
+ */
+@Component
+public class JobWorkerTuning implements ZeebeWorkerValueCustomizer {
+
+    private static final Logger log = LoggerFactory.getLogger(JobWorkerTuning.class);
+
+    private final CamundaProperties.WorkerProperties workers;
+
+    public JobWorkerTuning(CamundaProperties camundaProperties) {
+        this.workers = camundaProperties.workers();
+    }
+
+    @Override
+    public void customize(ZeebeWorkerValue worker) {
+        JobTypeProperties profile = workers.profile(worker.getType());
+        worker.setMaxJobsActive(profile.maxJobsActive());
+        worker.setStreamEnabled(profile.streamEnabled());
+        worker.setTimeout(profile.timeoutMs());
+        // spring-zeebe takes the request timeout in seconds
+        worker.setRequestTimeout(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(profile.requestTimeoutMs())));
+        worker.setPollInterval(profile.pollIntervalMs());
+        log.info("Job worker {}: stream={}, maxJobsActive={}, timeout={}ms, requestTimeout={}ms, pollInterval={}ms",
+                worker.getType(), profile.streamEnabled(), profile.maxJobsActive(), profile.timeoutMs(),
+                profile.requestTimeoutMs(), profile.pollIntervalMs());
+    }
+}
@@ -0,0 +1,35 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - PARTNER API KEYS
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- One row per issued API key. Only the SHA-256 hex digest of the key is stored.
+-- client_id names the partner (tenant) the key belongs to; scopes is a comma list
+-- of route groups (submit, read) or *. Keys are revoked by setting revoked_at,
+-- not by deleting the row, so nodes pick the revocation up on their next sync.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+CREATE TABLE api_keys (
+    id BIGSERIAL PRIMARY KEY,
+    key_hash CHAR(64) NOT NULL,
+    client_id VARCHAR(64) NOT NULL,
+    scopes VARCHAR(100) NOT NULL DEFAULT '*',
+    description VARCHAR(200),
+    expires_at TIMESTAMP,
+    revoked_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_api_keys_key_hash UNIQUE (key_hash)
+);
+
+CREATE FUNCTION touch_api_key() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_api_keys_touch
+    BEFORE UPDATE ON api_keys
+    FOR EACH ROW EXECUTE FUNCTION touch_api_key();
+
+-- Incremental sync reads keys changed since the last run
+CREATE INDEX idx_api_keys_updated_at ON api_keys(updated_at);
@@ -0,0 +1,23 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - PER-COUNTRY, PER-YEAR SEQUENCES
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- FNOL IDs are now numbered from one fnol_sequence row per country and year
+-- (e.g. FNOL:AE:2026) instead of the single global FNOL row. Rows for later
+-- years are created on demand by the application.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+-- ─────────────────────────────────────────────────────────────────────────────────
+-- SEED CURRENT YEAR
+-- ─────────────────────────────────────────────────────────────────────────────────
+-- The current year's rows continue from the global counter, so IDs already issued
+-- this year (FNOL-AE-2026-000123 from the global row) cannot be issued again.
+-- The year is taken in the zone the application rolls sequences over in.
+INSERT INTO fnol_sequence (sequence_name, next_value, created_at, updated_at)
+SELECT '${fnol_id_prefix}:' || c.code || ':' || CAST(EXTRACT(YEAR FROM (CURRENT_TIMESTAMP AT TIME ZONE '${fnol_id_zone}')) AS INTEGER),
+       s.next_value,
+       CURRENT_TIMESTAMP,
+       CURRENT_TIMESTAMP
+FROM fnol_sequence s
+CROSS JOIN (VALUES ('AE'), ('SA'), ('QA'), ('BH'), ('KW'), ('OM')) AS c(code)
+WHERE s.sequence_name = 'FNOL'
+ON CONFLICT (sequence_name) DO NOTHING;
@@ -0,0 +1,25 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - PROCESS START OUTBOX
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Submissions commit the case together with an outbox row; the process instance
+-- is started afterwards by the dispatcher, outside the submit transaction.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+-- ─────────────────────────────────────────────────────────────────────────────────
+-- PROCESS START OUTBOX TABLE
+-- ─────────────────────────────────────────────────────────────────────────────────
+CREATE TABLE process_start_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    fnol_id VARCHAR(50) NOT NULL UNIQUE REFERENCES fnol_cases(fnol_id) ON DELETE CASCADE,
+    correlation_id VARCHAR(100),
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Dispatcher scan: due pending entries in insertion order
+CREATE INDEX idx_process_start_outbox_due ON process_start_outbox(next_attempt_at, id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,12 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - POOLED ID SEQUENCES
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Cases, attachments and outbox entries get their ids from the BIGSERIAL sequences
+-- through Hibernate's pooled optimizer (allocationSize = 50): one nextval reserves
+-- 50 ids, and inserts no longer need the generated key back, so they can be sent
+-- as JDBC batches. The sequence increment must match the allocation size.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+ALTER SEQUENCE fnol_cases_id_seq INCREMENT BY 50;
+ALTER SEQUENCE fnol_attachments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE process_start_outbox_id_seq INCREMENT BY 50;
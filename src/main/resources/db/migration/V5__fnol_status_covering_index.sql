@@ -0,0 +1,28 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - COVERING INDEX FOR STATUS READS
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Status polling (GET /api/v1/fnol/{id}/status) only reads the columns below, so
+-- carrying them in the fnol_id unique index lets PostgreSQL answer it with an
+-- index-only scan. It replaces the plain unique constraint and the duplicate
+-- non-unique index on fnol_id from V1.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+ALTER TABLE fnol_cases
+    ADD CONSTRAINT uk_fnol_cases_fnol_id UNIQUE (fnol_id)
+    INCLUDE (status, severity_level, route, process_instance_key, created_at, updated_at);
+
+-- The outbox foreign key depends on the old constraint; re-point it at the new one
+ALTER TABLE process_start_outbox DROP CONSTRAINT process_start_outbox_fnol_id_fkey;
+ALTER TABLE fnol_cases DROP CONSTRAINT fnol_cases_fnol_id_key;
+ALTER TABLE process_start_outbox
+    ADD CONSTRAINT process_start_outbox_fnol_id_fkey
+    FOREIGN KEY (fnol_id) REFERENCES fnol_cases(fnol_id) ON DELETE CASCADE;
+
+DROP INDEX IF EXISTS idx_fnol_cases_fnol_id;
+
+-- ───────────────────────────────────────────────────────────────────────────────
+-- Index-only scans skip the heap only for pages marked all-visible, and the cases
+-- polled most are the newest ones. Vacuum after fewer inserts so the visibility
+-- map keeps up with new claims.
+-- ───────────────────────────────────────────────────────────────────────────────
+ALTER TABLE fnol_cases SET (autovacuum_vacuum_insert_scale_factor = 0.02);
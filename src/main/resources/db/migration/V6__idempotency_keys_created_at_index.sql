@@ -0,0 +1,8 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - IDEMPOTENCY KEY TAIL INDEX
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Each node tails idempotency_keys by created_at every second to keep its Bloom
+-- filter current with keys registered on other nodes.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+CREATE INDEX idx_idempotency_created_at ON idempotency_keys(created_at);
@@ -0,0 +1,14 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - IDEMPOTENCY CLAIMS
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- A submission reserves its idempotency key up front with
+-- INSERT ... ON CONFLICT DO NOTHING (status IN_PROGRESS, no FNOL yet) and marks it
+-- COMPLETED in the same transaction that saves the case. A concurrent duplicate
+-- finds the reservation instead of running the whole submission a second time.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+ALTER TABLE idempotency_keys ALTER COLUMN fnol_id DROP NOT NULL;
+ALTER TABLE idempotency_keys ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED';
+
+-- hashed_key is already covered by its UNIQUE constraint
+DROP INDEX IF EXISTS idx_idempotency_hashed_key;
@@ -0,0 +1,58 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - DAILY IDEMPOTENCY KEY PARTITIONS
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- idempotency_keys becomes range-partitioned by expires_at, one partition per UTC
+-- day (idempotency_keys_pYYYYMMDD). The application creates partitions ahead of
+-- need and drops a partition once every key in it has expired, replacing the
+-- hourly DELETE and the dead tuples it left behind.
+--
+-- A UNIQUE constraint on a partitioned table must include the partition key, so
+-- hashed_key is no longer unique at the database level. Writers of a key take a
+-- transaction-level advisory lock on it and check for an existing row instead.
+-- A claim sets the final expiry up front, so completing it never moves the row
+-- to another partition.
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+ALTER TABLE idempotency_keys RENAME TO idempotency_keys_unpartitioned;
+ALTER SEQUENCE idempotency_keys_id_seq OWNED BY NONE;
+
+CREATE TABLE idempotency_keys (
+    id BIGINT NOT NULL DEFAULT nextval('idempotency_keys_id_seq'),
+    hashed_key VARCHAR(64) NOT NULL,
+    fnol_id VARCHAR(50),
+    status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (id, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+ALTER SEQUENCE idempotency_keys_id_seq OWNED BY idempotency_keys.id;
+
+-- ─────────────────────────────────────────────────────────────────────────────────
+-- PARTITIONS FOR TODAY AND THE NEXT 7 DAYS (UTC, like the stored timestamps)
+-- ─────────────────────────────────────────────────────────────────────────────────
+DO $$
+DECLARE
+    today DATE := (now() AT TIME ZONE 'UTC')::date;
+    day DATE;
+BEGIN
+    FOR i IN 0..7 LOOP
+        day := today + i;
+        EXECUTE format('CREATE TABLE %I PARTITION OF idempotency_keys FOR VALUES FROM (%L) TO (%L)',
+                       'idempotency_keys_p' || to_char(day, 'YYYYMMDD'), day, day + 1);
+    END LOOP;
+END $$;
+
+-- ─────────────────────────────────────────────────────────────────────────────────
+-- CARRY OVER KEYS THAT HAVE NOT EXPIRED
+-- ─────────────────────────────────────────────────────────────────────────────────
+INSERT INTO idempotency_keys (id, hashed_key, fnol_id, status, created_at, expires_at)
+SELECT id, hashed_key, fnol_id, status, created_at, expires_at
+FROM idempotency_keys_unpartitioned
+WHERE expires_at >= (now() AT TIME ZONE 'UTC')::date;
+
+DROP TABLE idempotency_keys_unpartitioned;
+
+-- Created on every partition
+CREATE INDEX idx_idempotency_hashed_key ON idempotency_keys(hashed_key);
+CREATE INDEX idx_idempotency_created_at ON idempotency_keys(created_at);
@@ -0,0 +1,27 @@
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- GCC MOTOR FNOL STARTER KIT - SHARED RATE LIMIT BUCKETS
+-- ═══════════════════════════════════════════════════════════════════════════════
+-- Bucket4j state per client for fnol.security.rate-limit.store=postgres, so every
+-- node draws from the same bucket. state is Bucket4j's serialized bucket; rows
+-- idle for a while are purged by the application (a refilled bucket is the same
+-- as a new one).
+-- ═══════════════════════════════════════════════════════════════════════════════
+
+CREATE TABLE rate_limit_buckets (
+    id VARCHAR(128) PRIMARY KEY,
+    state BYTEA,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE FUNCTION touch_rate_limit_bucket() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_rate_limit_buckets_touch
+    BEFORE UPDATE ON rate_limit_buckets
+    FOR EACH ROW EXECUTE FUNCTION touch_rate_limit_bucket();
+
+CREATE INDEX idx_rate_limit_buckets_updated_at ON rate_limit_buckets(updated_at);
@@ -0,0 +1,113 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.camunda.community.fnol.gcc.motor.api.dto.ErrorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH comparison of encoding a validation {@link ErrorResponse} with the application's
+ * Jackson configuration against {@link ErrorResponseJson}, with the GC profiler for
+ * bytes allocated per response. The tests check both produce the same JSON.
+ * <p>
+ * Run with: {@code mvn test -Dtest=ErrorResponseJsonBenchmarkTest -Dfnol.benchmark=true}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseJsonBenchmarkTest {
+
+    // Configured as spring.jackson in application.yml
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private final ErrorResponse response = ErrorResponse.validation(
+            "FNOL validation failed",
+            "/api/v1/fnol",
+            "3f1c2a9e-5b7d-4e21-9c0a-1d2e3f4a5b6c",
+            List.of(
+                    new ErrorResponse.FieldError("mobileNumber", "INVALID_FORMAT", "Mobile number is not a valid UAE number"),
+                    new ErrorResponse.FieldError("incidentDate", "FUTURE_DATE", "Incident date cannot be in the future")));
+
+    @Benchmark
+    public byte[] jackson() throws Exception {
+        return OBJECT_MAPPER.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] handWritten() {
+        return ErrorResponseJson.encode(response);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+    @DisplayName("Compare Jackson and hand-written error response encoding")
+    void compareEncoding() throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(ErrorResponseJsonBenchmarkTest.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should encode the same JSON as Jackson")
+    void shouldMatchJackson() throws Exception {
+        assertThat(new String(handWritten())).isEqualTo(new String(jackson()));
+    }
+
+    @Test
+    @DisplayName("Should leave out nulls and escape like Jackson")
+    void shouldMatchJacksonForNullsAndEscapes() throws Exception {
+        ErrorResponse tricky = new ErrorResponse(
+                LocalDateTime.of(2026, 10, 16, 9, 30),
+                400,
+                "Validation Error",
+                "Line one\nquote \" backslash \\ tab\t bell\u0007 عربي",
+                "/api/v1/fnol",
+                null,
+                List.of(new ErrorResponse.FieldError(null, "REQUIRED", null),
+                        new ErrorResponse.FieldError(null, null, null)));
+
+        assertThat(new String(ErrorResponseJson.encode(tricky), "UTF-8"))
+                .isEqualTo(OBJECT_MAPPER.writeValueAsString(tricky));
+    }
+}
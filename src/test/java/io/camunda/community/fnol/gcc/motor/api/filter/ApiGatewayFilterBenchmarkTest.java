@@ -0,0 +1,233 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.LocalRateLimitBucketStore;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RateLimitPolicies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH comparison of per-request filter overhead: the former chain of separate filters
+ * (correlation ID, security headers, CORS, API key, rate limit), each casting the
+ * request and parsing path, route group and client address for itself, against
+ * {@link ApiGatewayFilter} with its stages sharing one {@link ApiRequestContext}. Rate
+ * limits are set high enough never to reject. API key validation is stood in for by a
+ * stage that reads the header and sets the tenant, as the registry needs a database.
+ * <p>
+ * Run with: {@code mvn test -Dtest=ApiGatewayFilterBenchmarkTest -Dfnol.benchmark=true}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiGatewayFilterBenchmarkTest {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    private FnolProperties properties;
+    private ClientAddressResolver clientAddressResolver;
+    private UrlBasedCorsConfigurationSource corsConfigurationSource;
+    private RateLimitingStage rateLimitingStage;
+    private ApiGatewayStage apiKeyStage;
+
+    private ApiGatewayFilter gateway;
+    private List<Filter> separateFilters;
+
+    @Setup
+    public void setUp() {
+        SecurityProperties security = new SecurityProperties(
+                new SecurityProperties.ApiKeyProperties(true, API_KEY_HEADER, null, null, 0, 0, 0),
+                new SecurityProperties.RateLimitProperties(true, 100_000_000, "local", 0, 0, 0, 0, null, null),
+                null, null);
+        properties = new FnolProperties(false, null, security, null, null, null, null, null, null, null, null, null);
+        clientAddressResolver = new ClientAddressResolver(properties);
+        corsConfigurationSource = new UrlBasedCorsConfigurationSource();
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOriginPattern("*");
+        cors.addAllowedMethod("*");
+        corsConfigurationSource.registerCorsConfiguration("/api/**", cors);
+        rateLimitingStage = new RateLimitingStage(properties,
+                new LocalRateLimitBucketStore(properties, new SimpleMeterRegistry()),
+                new RateLimitPolicies(properties),
+                new SimpleMeterRegistry());
+        apiKeyStage = (context, response) -> {
+            context.setTenant(context.apiKey() != null ? "acme-brokers" : null);
+            return true;
+        };
+
+        gateway = new ApiGatewayFilter(properties, clientAddressResolver, corsConfigurationSource,
+                List.of(apiKeyStage, rateLimitingStage));
+        separateFilters = List.of(
+                correlationIdFilter(),
+                securityHeadersFilter(),
+                new CorsFilter(corsConfigurationSource),
+                separateStageFilter(apiKeyStage),
+                separateStageFilter(rateLimitingStage));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse separateFilters() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new NoOpServlet(), separateFilters.toArray(Filter[]::new)).doFilter(request(), response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse gateway() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new NoOpServlet(), gateway).doFilter(request(), response);
+        return response;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+    @DisplayName("Compare separate filters and the API gateway filter")
+    void compareFilterOverhead() throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(ApiGatewayFilterBenchmarkTest.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should set the same headers as the separate filters")
+    void shouldMatchSeparateFilters() throws Exception {
+        setUp();
+        MockHttpServletResponse separate = separateFilters();
+        MockHttpServletResponse combined = gateway();
+
+        assertThat(combined.getStatus()).isEqualTo(separate.getStatus()).isEqualTo(200);
+        assertThat(combined.getHeaderNames()).containsExactlyInAnyOrderElementsOf(separate.getHeaderNames());
+        assertThat(combined.getHeader("X-Correlation-ID")).isEqualTo("benchmark-correlation-id");
+        assertThat(combined.getHeader("RateLimit-Policy")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should answer CORS preflights without running the stages")
+    void shouldAnswerPreflightBeforeStages() throws Exception {
+        setUp();
+        ApiGatewayFilter rejecting = new ApiGatewayFilter(properties, clientAddressResolver, corsConfigurationSource,
+                List.of((context, response) -> {
+                    response.setStatus(401);
+                    return false;
+                }));
+        MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/api/v1/fnol");
+        preflight.addHeader("Origin", "https://portal.example.com");
+        preflight.addHeader("Access-Control-Request-Method", "POST");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        rejecting.doFilter(preflight, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Access-Control-Allow-Origin")).isEqualTo("https://portal.example.com");
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/fnol/FNOL-AE-2026-000001/status");
+        request.setRemoteAddr("10.0.0.5");
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.9");
+        request.addHeader("X-Correlation-ID", "benchmark-correlation-id");
+        request.addHeader(API_KEY_HEADER, "broker-key");
+        return request;
+    }
+
+    private static Filter correlationIdFilter() {
+        return (request, response, chain) -> {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            String correlationId = httpRequest.getHeader("X-Correlation-ID");
+            if (correlationId == null || correlationId.isBlank()) {
+                correlationId = UUID.randomUUID().toString();
+            }
+            ((HttpServletResponse) response).setHeader("X-Correlation-ID", correlationId);
+            chain.doFilter(request, response);
+        };
+    }
+
+    private static Filter securityHeadersFilter() {
+        return (request, response, chain) -> {
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setHeader("X-Frame-Options", "DENY");
+            httpResponse.setHeader("X-Content-Type-Options", "nosniff");
+            httpResponse.setHeader("X-XSS-Protection", "1; mode=block");
+            httpResponse.setHeader("Referrer-Policy", "strict-origin-when-cross-origin");
+            httpResponse.setHeader("Content-Security-Policy", "default-src 'none'; frame-ancestors 'none'");
+            httpResponse.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, max-age=0");
+            httpResponse.setHeader("Pragma", "no-cache");
+            httpResponse.setHeader("Permissions-Policy", "geolocation=(), camera=(), microphone=()");
+            chain.doFilter(request, response);
+        };
+    }
+
+    /**
+     * A stage run as its own filter, parsing the request afresh as the former filters did.
+     */
+    private Filter separateStageFilter(ApiGatewayStage stage) {
+        return (request, response, chain) -> {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            if (!httpRequest.getRequestURI().startsWith("/api/")) {
+                chain.doFilter(request, response);
+                return;
+            }
+            ApiRequestContext previous = ApiRequestContext.of(httpRequest);
+            ApiRequestContext context = new ApiRequestContext(httpRequest, clientAddressResolver,
+                    httpRequest.getHeader("X-Correlation-ID"), httpRequest.getHeader(API_KEY_HEADER));
+            if (previous != null) {
+                context.setTenant(previous.tenant());
+            }
+            httpRequest.setAttribute(ApiRequestContext.ATTRIBUTE, context);
+            if (stage.apply(context, (HttpServletResponse) response)) {
+                chain.doFilter(request, response);
+            }
+        };
+    }
+
+    private static final class NoOpServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientAddressResolverTest {
+
+    private static ClientAddressResolver resolver(List<String> trustedProxies) {
+        SecurityProperties security = new SecurityProperties(null, null, null, trustedProxies);
+        return new ClientAddressResolver(new FnolProperties(false, null, security, null, null, null, null, null, null, null, null, null));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/fnol/countries");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    @Nested
+    @DisplayName("X-Forwarded-For Tests")
+    class ForwardedForTests {
+
+        private final ClientAddressResolver resolver = resolver(null);
+
+        @Test
+        @DisplayName("Should ignore X-Forwarded-For from an untrusted peer")
+        void shouldIgnoreHeaderFromUntrustedPeer() {
+            assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+        }
+
+        @Test
+        @DisplayName("Should take the first untrusted hop from the right")
+        void shouldTakeFirstUntrustedHop() {
+            assertThat(resolver.resolve(request("10.0.0.5", "1.2.3.4, 203.0.113.7, 10.1.2.3")))
+                    .isEqualTo("203.0.113.7");
+        }
+
+        @Test
+        @DisplayName("Should use the connecting address when no header is sent")
+        void shouldUseRemoteAddressWithoutHeader() {
+            assertThat(resolver.resolve(request("192.168.1.10", null))).isEqualTo("192.168.1.10");
+        }
+
+        @Test
+        @DisplayName("Should match IPv6 ranges and reject host names")
+        void shouldMatchIpv6Ranges() {
+            ClientAddressResolver ipv6 = resolver(List.of("fd00::/8"));
+
+            assertThat(ipv6.resolve(request("fd12::1", "2001:db8::7"))).isEqualTo("2001:db8::7");
+            assertThat(ipv6.resolve(request("fe80::1", "2001:db8::7"))).isEqualTo("fe80::1");
+            assertThatThrownBy(() -> resolver(List.of("proxy.internal"))).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties.RateLimitProperties.PolicyProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.LocalRateLimitBucketStore;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RateLimitBucketStore;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RateLimitPolicies;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RateLimitPolicy;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RouteGroup;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH load test of the 429 path: a client over a one-request-per-minute limit keeps
+ * sending, and every request through {@link ApiGatewayFilter} is rejected. Throughput
+ * is rejected requests per second; the GC profiler's {@code gc.alloc.rate.norm} is the
+ * bytes allocated per rejection. {@link RateLimitingStage} is compared against the
+ * former stage, which formatted headers and body per request and wrote them through
+ * the response writer (its per-rejection warn log is left out so the run stays quiet).
+ * <p>
+ * Run with: {@code mvn test -Dtest=RateLimitRejectionBenchmarkTest -Dfnol.benchmark=true}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitRejectionBenchmarkTest {
+
+    private ApiGatewayFilter preEncoded;
+    private ApiGatewayFilter formatted;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @Setup
+    public void setUp() throws Exception {
+        SecurityProperties security = new SecurityProperties(
+                new SecurityProperties.ApiKeyProperties(false, null, null, null, 0, 0, 0),
+                new SecurityProperties.RateLimitProperties(true, 30, "local", 0, 0, 0, 0,
+                        List.of(new PolicyProperties(null, "read", null, 1, 1)), null),
+                null, null);
+        FnolProperties properties = new FnolProperties(false, null, security, null, null, null, null, null, null, null, null, null);
+        ClientAddressResolver clientAddressResolver = new ClientAddressResolver(properties);
+        RateLimitPolicies policies = new RateLimitPolicies(properties);
+
+        preEncoded = new ApiGatewayFilter(properties, clientAddressResolver, new UrlBasedCorsConfigurationSource(),
+                List.of(new RateLimitingStage(properties,
+                        new LocalRateLimitBucketStore(properties, new SimpleMeterRegistry()),
+                        policies,
+                        new SimpleMeterRegistry())));
+        formatted = new ApiGatewayFilter(properties, clientAddressResolver, new UrlBasedCorsConfigurationSource(),
+                List.of(new FormattedRateLimitingStage(
+                        new LocalRateLimitBucketStore(properties, new SimpleMeterRegistry()),
+                        policies)));
+
+        request = new MockHttpServletRequest("GET", "/api/v1/fnol/FNOL-AE-2026-000001/status");
+        request.setRemoteAddr("203.0.113.7");
+        chain = new MockFilterChain();
+
+        // Use up the single token of each bucket so every measured request is rejected
+        response = new MockHttpServletResponse();
+        preEncoded.doFilter(request, response, chain);
+        formatted.doFilter(request, response, chain);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse formattedRejection() throws Exception {
+        response.reset();
+        formatted.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse preEncodedRejection() throws Exception {
+        response.reset();
+        preEncoded.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+    @DisplayName("Compare rejected requests per second and allocation per rejection")
+    void compareRejections() throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(RateLimitRejectionBenchmarkTest.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should send the same 429 response as the formatted stage")
+    void shouldMatchFormattedRejection() throws Exception {
+        setUp();
+        MockHttpServletResponse former = copy(formattedRejection());
+        MockHttpServletResponse current = preEncodedRejection();
+
+        assertThat(current.getStatus()).isEqualTo(former.getStatus()).isEqualTo(429);
+        assertThat(current.getContentAsString()).isEqualTo(former.getContentAsString());
+        assertThat(current.getContentType()).startsWith("application/json");
+        for (String header : former.getHeaderNames()) {
+            assertThat(current.getHeader(header)).as(header).isEqualTo(former.getHeader(header));
+        }
+    }
+
+    private static MockHttpServletResponse copy(MockHttpServletResponse source) throws IOException {
+        MockHttpServletResponse copy = new MockHttpServletResponse();
+        copy.setStatus(source.getStatus());
+        for (String header : source.getHeaderNames()) {
+            copy.setHeader(header, source.getHeader(header));
+        }
+        copy.getWriter().write(source.getContentAsString());
+        return copy;
+    }
+
+    /**
+     * The rate limiting stage as it was before its responses were pre-encoded.
+     */
+    private static final class FormattedRateLimitingStage implements ApiGatewayStage {
+
+        private final RateLimitBucketStore bucketStore;
+        private final RateLimitPolicies policies;
+
+        FormattedRateLimitingStage(RateLimitBucketStore bucketStore, RateLimitPolicies policies) {
+            this.bucketStore = bucketStore;
+            this.policies = policies;
+        }
+
+        @Override
+        public boolean apply(ApiRequestContext context, HttpServletResponse response) throws IOException {
+            String client = context.tenant();
+            RouteGroup group = context.routeGroup();
+            RateLimitPolicy policy = policies.resolve(client, group, group == RouteGroup.READ ? context.country() : null);
+            String clientId = (client != null ? "key:" + client : "ip:" + context.clientAddress())
+                    + "|" + group + "|" + policy.id();
+            ConsumptionProbe probe = bucketStore.bucket(clientId, policy.configuration()).tryConsumeAndReturnRemaining(1);
+
+            response.setHeader("RateLimit-Limit", String.valueOf(policy.burst()));
+            response.setHeader("RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+            response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(probe.getNanosToWaitForReset())));
+            response.setHeader("RateLimit-Policy", policy.requestsPerMinute() + ";w=60;burst=" + policy.burst());
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+
+            if (!probe.isConsumed()) {
+                long retryAfterSeconds = Math.max(1, toSeconds(probe.getNanosToWaitForRefill()));
+                response.setStatus(429);
+                response.setContentType("application/json");
+                response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+                response.getWriter().write(
+                        "{\"status\":429,\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded. Please retry after "
+                                + retryAfterSeconds + " seconds.\"}");
+                return false;
+            }
+            return true;
+        }
+
+        private static long toSeconds(long nanos) {
+            return TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1);
+        }
+    }
+}
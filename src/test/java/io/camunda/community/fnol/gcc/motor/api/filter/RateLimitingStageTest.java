@@ -0,0 +1,96 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.api.filter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties.RateLimitProperties.PolicyProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.LocalRateLimitBucketStore;
+import io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit.RateLimitPolicies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitingStageTest {
+
+    private final ApiGatewayFilter filter = filter(List.of(
+            new PolicyProperties(null, "submit", null, 2, 0),
+            new PolicyProperties(null, "read", null, 60, 3),
+            new PolicyProperties(null, "read", "AE", 60, 1)));
+
+    private static ApiGatewayFilter filter(List<PolicyProperties> policies) {
+        SecurityProperties security = new SecurityProperties(
+                new SecurityProperties.ApiKeyProperties(false, null, null, null, 0, 0, 0),
+                new SecurityProperties.RateLimitProperties(true, 30, "local", 0, 0, 0, 0, policies, null),
+                null, null);
+        FnolProperties properties = new FnolProperties(false, null, security, null, null, null, null, null, null, null, null, null);
+        RateLimitingStage stage = new RateLimitingStage(properties,
+                new LocalRateLimitBucketStore(properties, new SimpleMeterRegistry()),
+                new RateLimitPolicies(properties),
+                new SimpleMeterRegistry());
+        return new ApiGatewayFilter(properties, new ClientAddressResolver(properties),
+                new UrlBasedCorsConfigurationSource(), List.of(stage));
+    }
+
+    private MockHttpServletResponse send(String method, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("203.0.113.7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Nested
+    @DisplayName("Policy Tier Tests")
+    class PolicyTierTests {
+
+        @Test
+        @DisplayName("Should keep reads from using up submissions")
+        void shouldLimitRouteGroupsSeparately() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                assertThat(send("GET", "/api/v1/fnol/FNOL-SA-2026-000001/status").getStatus()).isEqualTo(200);
+            }
+            assertThat(send("GET", "/api/v1/fnol/FNOL-SA-2026-000001/status").getStatus()).isEqualTo(429);
+
+            assertThat(send("POST", "/api/v1/fnol").getStatus()).isEqualTo(200);
+            assertThat(send("POST", "/api/v1/fnol/batch").getStatus()).isEqualTo(200);
+            assertThat(send("POST", "/api/v1/fnol").getStatus()).isEqualTo(429);
+        }
+
+        @Test
+        @DisplayName("Should apply the country policy of the FNOL being read")
+        void shouldApplyCountryPolicy() throws Exception {
+            assertThat(send("GET", "/api/v1/fnol/FNOL-AE-2026-000001").getStatus()).isEqualTo(200);
+            assertThat(send("GET", "/api/v1/fnol/FNOL-AE-2026-000002").getStatus()).isEqualTo(429);
+            assertThat(send("GET", "/api/v1/fnol/FNOL-QA-2026-000001").getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Should return standard RateLimit headers")
+        void shouldReturnRateLimitHeaders() throws Exception {
+            MockHttpServletResponse allowed = send("POST", "/api/v1/fnol");
+            assertThat(allowed.getHeader("RateLimit-Limit")).isEqualTo("2");
+            assertThat(allowed.getHeader("RateLimit-Remaining")).isEqualTo("1");
+            assertThat(allowed.getHeader("RateLimit-Policy")).isEqualTo("2;w=60;burst=2");
+            assertThat(Long.parseLong(allowed.getHeader("RateLimit-Reset"))).isBetween(1L, 60L);
+
+            send("POST", "/api/v1/fnol");
+            MockHttpServletResponse rejected = send("POST", "/api/v1/fnol");
+            assertThat(rejected.getStatus()).isEqualTo(429);
+            assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isBetween(1L, 30L);
+        }
+    }
+}
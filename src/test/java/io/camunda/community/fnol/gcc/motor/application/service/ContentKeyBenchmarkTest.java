@@ -0,0 +1,118 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH comparison of content key derivation: the original normalize-join-hash
+ * ({@code trim().toLowerCase().replaceAll}, {@code String.join}, a new
+ * {@code MessageDigest} per call) against {@link KeyDigests#contentKey}. The GC
+ * profiler reports bytes allocated per key ({@code gc.alloc.rate.norm}).
+ * <p>
+ * Run with: {@code mvn test -Dtest=ContentKeyBenchmarkTest -Dfnol.benchmark=true}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentKeyBenchmarkTest {
+
+    private final String mobileNumber = " +971 50 123 4567 ";
+    private final String nationalId = "784-1990-1234567-1";
+    private final String plateNumber = "Dubai A 12345";
+    private final String incidentDate = "2026-10-15";
+
+    @Benchmark
+    public String legacy() {
+        return legacyContentKey(mobileNumber, nationalId, plateNumber, incidentDate);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return KeyDigests.contentKey(mobileNumber, nationalId, plateNumber, incidentDate);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+    @DisplayName("Compare legacy and single-pass content key derivation")
+    void compareKeyDerivation() throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(ContentKeyBenchmarkTest.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should derive the same key as the original normalization")
+    void shouldMatchLegacyKey() {
+        assertThat(KeyDigests.contentKey(mobileNumber, nationalId, plateNumber, incidentDate))
+                .isEqualTo(legacyContentKey(mobileNumber, nationalId, plateNumber, incidentDate));
+        assertThat(KeyDigests.contentKey(null, "784-1990-1234567-1", "ابوظبي 5", null))
+                .isEqualTo(legacyContentKey(null, "784-1990-1234567-1", "ابوظبي 5", null));
+    }
+
+    @Test
+    @DisplayName("Should ignore case and whitespace across long values")
+    void shouldIgnoreCaseAndWhitespace() {
+        String longPlate = "AB ".repeat(200);
+        assertThat(KeyDigests.contentKey("+971501234567", "X", longPlate, "2026-10-15"))
+                .isEqualTo(KeyDigests.contentKey("+971 50 123 4567", "x", longPlate.replace(" ", "").toLowerCase(), "2026-10-15"))
+                .isEqualTo(legacyContentKey("+971501234567", "X", longPlate, "2026-10-15"));
+    }
+
+    private static String legacyContentKey(String mobileNumber, String nationalId,
+                                           String plateNumber, String incidentDate) {
+        String data = String.join("|",
+                legacyNormalize(mobileNumber),
+                legacyNormalize(nationalId),
+                legacyNormalize(plateNumber),
+                legacyNormalize(incidentDate)
+        );
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String legacyNormalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().toLowerCase().replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.service;
+
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.BatchItemOutcome;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolBatchResult;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolSubmissionCommand;
+import io.camunda.community.fnol.gcc.motor.support.PostgresContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-claim cost of {@code submitBatch} against one {@code submit} call per claim,
+ * with the full service stack on PostgreSQL.
+ * <p>
+ * Run with: {@code mvn test -Dtest=FnolBatchLoadTest -Dfnol.benchmark=true}
+ */
+@SpringBootTest
+@ActiveProfiles("demo")
+@EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+class FnolBatchLoadTest extends PostgresContainerSupport {
+
+    private static final int WARMUP_CLAIMS = 500;
+    private static final int CLAIMS = 5_000;
+    private static final int BATCH_SIZE = 100;
+
+    private final AtomicLong mobileSuffix = new AtomicLong(10_000_000);
+
+    @Autowired
+    private SubmitFnolUseCase submitFnolUseCase;
+
+    @Test
+    @DisplayName("Compare per-claim cost of single and batch submission")
+    void compareSingleAndBatch() {
+        runSingle(WARMUP_CLAIMS);
+        runBatch(WARMUP_CLAIMS);
+
+        long singleNanos = runSingle(CLAIMS);
+        long batchNanos = runBatch(CLAIMS);
+
+        double singleMicros = singleNanos / 1000.0 / CLAIMS;
+        double batchMicros = batchNanos / 1000.0 / CLAIMS;
+
+        System.out.printf("%n%-30s %14s %14s%n", "Path (" + CLAIMS + " claims)", "us/claim", "claims/sec");
+        System.out.printf("%-30s %14.0f %14.0f%n", "POST /fnol", singleMicros, 1_000_000 / singleMicros);
+        System.out.printf("%-30s %14.0f %14.0f%n", "POST /fnol/batch (" + BATCH_SIZE + ")", batchMicros, 1_000_000 / batchMicros);
+
+        assertThat(batchMicros).isPositive();
+    }
+
+    private long runSingle(int claims) {
+        long start = System.nanoTime();
+        for (int i = 0; i < claims; i++) {
+            submitFnolUseCase.submit(command());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runBatch(int claims) {
+        long start = System.nanoTime();
+        for (int submitted = 0; submitted < claims; submitted += BATCH_SIZE) {
+            List<FnolSubmissionCommand> commands = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < Math.min(BATCH_SIZE, claims - submitted); i++) {
+                commands.add(command());
+            }
+            FnolBatchResult result = submitFnolUseCase.submitBatch(commands);
+            assertThat(result.count(BatchItemOutcome.CREATED)).isEqualTo(commands.size());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private FnolSubmissionCommand command() {
+        return FnolSubmissionCommand.builder()
+                .idempotencyKey(UUID.randomUUID().toString())
+                .countryCode("AE")
+                .mobileNumber("+9715" + mobileSuffix.incrementAndGet())
+                .nationalId("784-1990-1234567-1")
+                .reporterName("Load Test")
+                .plateNumber("A12345")
+                .plateCountry("AE")
+                .vehicleType("PRIVATE")
+                .policyNumber("POL-123456")
+                .coverageType("COMPREHENSIVE")
+                .incidentDate(LocalDate.now().minusDays(1))
+                .incidentTime(LocalTime.NOON)
+                .incidentLocation("Sheikh Zayed Road, Dubai")
+                .description("Rear-ended at a traffic light")
+                .build();
+    }
+}
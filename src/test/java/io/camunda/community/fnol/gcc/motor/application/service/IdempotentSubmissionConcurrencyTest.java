@@ -0,0 +1,158 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.application.service;
+
+import io.camunda.community.fnol.gcc.motor.application.exception.SubmissionInProgressException;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.BatchItemOutcome;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolBatchItemResult;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolBatchResult;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolSubmissionCommand;
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolSubmissionResult;
+import io.camunda.community.fnol.gcc.motor.support.PostgresContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parallel submissions and batches carrying the same idempotency key against PostgreSQL.
+ */
+@SpringBootTest
+@ActiveProfiles("demo")
+class IdempotentSubmissionConcurrencyTest extends PostgresContainerSupport {
+
+    private static final int SUBMITTERS = 50;
+
+    @Autowired
+    private SubmitFnolUseCase submitFnolUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should create exactly one FNOL for 50 parallel identical submissions")
+    void shouldCreateOneFnolForParallelDuplicates() throws Exception {
+        String mobileNumber = "+97155" + (1_000_000 + (int) (Math.random() * 8_000_000));
+        FnolSubmissionCommand command = command(UUID.randomUUID().toString(), mobileNumber);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(SUBMITTERS);
+        List<Future<FnolSubmissionResult>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < SUBMITTERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return submitFnolUseCase.submit(command);
+                }));
+            }
+            start.countDown();
+
+            List<FnolSubmissionResult> results = new ArrayList<>();
+            int inProgress = 0;
+            for (Future<FnolSubmissionResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(SubmissionInProgressException.class);
+                    inProgress++;
+                }
+            }
+
+            assertThat(results).filteredOn(result -> !result.isDuplicate()).hasSize(1);
+            assertThat(results).extracting(FnolSubmissionResult::fnolId).containsOnly(results.get(0).fnolId());
+            assertThat(results.size() + inProgress).isEqualTo(SUBMITTERS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM fnol_cases WHERE mobile_number = ?", Integer.class, mobileNumber))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM process_start_outbox o JOIN fnol_cases c ON c.fnol_id = o.fnol_id"
+                        + " WHERE c.mobile_number = ?", Integer.class, mobileNumber))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should create exactly one FNOL for parallel batches repeating a key")
+    void shouldCreateOneFnolForParallelDuplicateBatches() throws Exception {
+        String mobileNumber = "+97155" + (1_000_000 + (int) (Math.random() * 8_000_000));
+        String otherMobileNumber = "+97156" + (1_000_000 + (int) (Math.random() * 8_000_000));
+        FnolSubmissionCommand shared = command(UUID.randomUUID().toString(), mobileNumber);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(SUBMITTERS);
+        List<Future<FnolBatchResult>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < SUBMITTERS; i++) {
+                FnolSubmissionCommand own = command(UUID.randomUUID().toString(), otherMobileNumber);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return submitFnolUseCase.submitBatch(List.of(shared, own));
+                }));
+            }
+            start.countDown();
+
+            List<FnolBatchItemResult> sharedItems = new ArrayList<>();
+            for (Future<FnolBatchResult> future : futures) {
+                FnolBatchResult result = future.get();
+                // A batch never fails as a whole because another one holds the shared key
+                assertThat(result.items().get(1).outcome()).isEqualTo(BatchItemOutcome.CREATED);
+                sharedItems.add(result.items().get(0));
+            }
+
+            assertThat(sharedItems).filteredOn(item -> item.outcome() == BatchItemOutcome.CREATED).hasSize(1);
+            assertThat(sharedItems).extracting(FnolBatchItemResult::outcome)
+                    .containsOnly(BatchItemOutcome.CREATED, BatchItemOutcome.DUPLICATE, BatchItemOutcome.IN_PROGRESS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM fnol_cases WHERE mobile_number = ?", Integer.class, mobileNumber))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM fnol_cases WHERE mobile_number = ?", Integer.class, otherMobileNumber))
+                .isEqualTo(SUBMITTERS);
+    }
+
+    private FnolSubmissionCommand command(String idempotencyKey, String mobileNumber) {
+        return FnolSubmissionCommand.builder()
+                .idempotencyKey(idempotencyKey)
+                .countryCode("AE")
+                .mobileNumber(mobileNumber)
+                .nationalId("784-1990-1234567-1")
+                .reporterName("Concurrency Test")
+                .plateNumber("A12345")
+                .plateCountry("AE")
+                .vehicleType("PRIVATE")
+                .policyNumber("POL-123456")
+                .coverageType("COMPREHENSIVE")
+                .incidentDate(LocalDate.now().minusDays(1))
+                .incidentTime(LocalTime.NOON)
+                .incidentLocation("Sheikh Zayed Road, Dubai")
+                .description("Rear-ended at a traffic light")
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.apikey;
+
+import io.camunda.community.fnol.gcc.motor.api.filter.ApiGatewayFilter;
+import io.camunda.community.fnol.gcc.motor.api.filter.ApiKeyValidationStage;
+import io.camunda.community.fnol.gcc.motor.api.filter.ApiRequestContext;
+import io.camunda.community.fnol.gcc.motor.api.filter.ClientAddressResolver;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties;
+import io.camunda.community.fnol.gcc.motor.support.PostgresContainerSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApiKeyRegistryTest extends PostgresContainerSupport {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private ApiKeyRegistry registry;
+    private ApiGatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM api_keys");
+        insertKey("broker-key", "acme-brokers", "submit,read", null);
+        insertKey("tracking-key", "tracking-portal", "read", null);
+
+        SecurityProperties security = new SecurityProperties(
+                new SecurityProperties.ApiKeyProperties(true, null, null, null, 0, 0, 0),
+                new SecurityProperties.RateLimitProperties(false, 0, null, 0, 0, 0, 0, null, null),
+                null, null);
+        FnolProperties properties = new FnolProperties(false, null, security, null, null, null, null, null, null, null, null, null);
+        registry = new ApiKeyRegistry(dataSource, properties, new SimpleMeterRegistry());
+        filter = new ApiGatewayFilter(properties, new ClientAddressResolver(properties),
+                new UrlBasedCorsConfigurationSource(), List.of(new ApiKeyValidationStage(properties, registry)));
+    }
+
+    private void insertKey(String key, String clientId, String scopes, String expiresIn) {
+        jdbcTemplate.update("INSERT INTO api_keys (key_hash, client_id, scopes, expires_at) VALUES (?, ?, ?, "
+                        + (expiresIn == null ? "NULL" : "LOCALTIMESTAMP + CAST(? AS INTERVAL)") + ")",
+                expiresIn == null
+                        ? new Object[]{ApiKeyRegistry.hash(key), clientId, scopes}
+                        : new Object[]{ApiKeyRegistry.hash(key), clientId, scopes, expiresIn});
+    }
+
+    private MockHttpServletResponse send(String method, String path, String key) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("203.0.113.7");
+        if (key != null) {
+            request.addHeader("X-API-Key", key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject keys until the registry has loaded")
+        void shouldRejectBeforeLoad() throws Exception {
+            assertThat(send("POST", "/api/v1/fnol", "broker-key").getStatus()).isEqualTo(503);
+        }
+
+        @Test
+        @DisplayName("Should resolve the tenant of a known key")
+        void shouldResolveTenant() throws Exception {
+            registry.rebuild();
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/fnol");
+            request.addHeader("X-API-Key", "broker-key");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, new MockFilterChain());
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(ApiRequestContext.of(request).tenant()).isEqualTo("acme-brokers");
+        }
+
+        @Test
+        @DisplayName("Should reject unknown and expired keys and enforce scopes")
+        void shouldRejectInvalidKeys() throws Exception {
+            insertKey("old-key", "acme-brokers", "*", "-1 hour");
+            registry.rebuild();
+
+            assertThat(send("POST", "/api/v1/fnol", null).getStatus()).isEqualTo(401);
+            assertThat(send("POST", "/api/v1/fnol", "unknown-key").getStatus()).isEqualTo(401);
+            assertThat(send("POST", "/api/v1/fnol", "old-key").getStatus()).isEqualTo(401);
+            assertThat(send("POST", "/api/v1/fnol", "tracking-key").getStatus()).isEqualTo(403);
+            assertThat(send("GET", "/api/v1/fnol/FNOL-AE-2026-000001/status", "tracking-key").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sync Tests")
+    class SyncTests {
+
+        @Test
+        @DisplayName("Should pick up new and revoked keys incrementally")
+        void shouldSyncChanges() throws Exception {
+            registry.rebuild();
+            insertKey("fleet-key", "fleet-partner", "submit", null);
+            jdbcTemplate.update("UPDATE api_keys SET revoked_at = LOCALTIMESTAMP WHERE client_id = 'tracking-portal'");
+
+            registry.syncRecent();
+
+            assertThat(registry.lookup("fleet-key").clientId()).isEqualTo("fleet-partner");
+            assertThat(registry.lookup("tracking-key")).isNull();
+            assertThat(registry.lookup("broker-key")).isNotNull();
+        }
+    }
+}
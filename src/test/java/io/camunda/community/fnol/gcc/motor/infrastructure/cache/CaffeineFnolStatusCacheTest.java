@@ -0,0 +1,145 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.cache;
+
+import io.camunda.community.fnol.gcc.motor.application.port.in.SubmitFnolUseCase.FnolStatusResult;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineFnolStatusCacheTest {
+
+    private static FnolProperties properties() {
+        return new FnolProperties(false, null, null, null, null, null, null, null, null,
+                new FnolProperties.StatusCacheProperties(100, 30, "none", "fnol_status_invalidation"), null, null);
+    }
+
+    private static FnolStatusResult status(String fnolId, String status) {
+        LocalDateTime now = LocalDateTime.now();
+        return new FnolStatusResult(fnolId, status, "LOW", "FAST_TRACK", null, now, now);
+    }
+
+    /**
+     * Loader that counts reads and returns the current "database" status.
+     */
+    static class CountingLoader {
+        final AtomicInteger loads = new AtomicInteger();
+        String currentStatus = "SUBMITTED";
+
+        Optional<FnolStatusResult> load(String fnolId) {
+            loads.incrementAndGet();
+            return fnolId.startsWith("MISSING") ? Optional.empty() : Optional.of(status(fnolId, currentStatus));
+        }
+    }
+
+    /**
+     * Channel that records publishes and lets the test deliver messages.
+     */
+    static class RecordingChannel implements StatusInvalidationChannel {
+        final List<String> published = new ArrayList<>();
+        Consumer<String> onInvalidate;
+        Runnable onReconnect;
+
+        @Override
+        public void publish(String fnolId) {
+            published.add(fnolId);
+        }
+
+        @Override
+        public void subscribe(Consumer<String> onInvalidate, Runnable onReconnect) {
+            this.onInvalidate = onInvalidate;
+            this.onReconnect = onReconnect;
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Should serve repeated lookups from the cache and record hits")
+        void shouldServeRepeatedLookupsFromCache() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            CaffeineFnolStatusCache cache = new CaffeineFnolStatusCache(properties(), registry, Optional.empty());
+            CountingLoader loader = new CountingLoader();
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(cache.get("FNOL-AE-2026-000001", loader::load)).isPresent();
+            }
+
+            assertThat(loader.loads).hasValue(1);
+            assertThat(registry.get("cache.gets").tag("cache", CaffeineFnolStatusCache.CACHE_NAME)
+                    .tag("result", "hit").functionCounter().count()).isEqualTo(4.0);
+        }
+
+        @Test
+        @DisplayName("Should not cache unknown FNOLs")
+        void shouldNotCacheUnknownFnols() {
+            CaffeineFnolStatusCache cache = new CaffeineFnolStatusCache(properties(), new SimpleMeterRegistry(), Optional.empty());
+            CountingLoader loader = new CountingLoader();
+
+            assertThat(cache.get("MISSING-1", loader::load)).isEmpty();
+            assertThat(cache.get("MISSING-1", loader::load)).isEmpty();
+
+            assertThat(loader.loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should reload after invalidation")
+        void shouldReloadAfterInvalidation() {
+            CaffeineFnolStatusCache cache = new CaffeineFnolStatusCache(properties(), new SimpleMeterRegistry(), Optional.empty());
+            CountingLoader loader = new CountingLoader();
+            cache.get("FNOL-AE-2026-000001", loader::load);
+
+            loader.currentStatus = "PROCESS_STARTED";
+            cache.invalidate("FNOL-AE-2026-000001");
+
+            assertThat(cache.get("FNOL-AE-2026-000001", loader::load))
+                    .map(FnolStatusResult::status)
+                    .hasValue("PROCESS_STARTED");
+        }
+
+        @Test
+        @DisplayName("Should publish invalidations and apply ones received from other nodes")
+        void shouldUseChannel() {
+            RecordingChannel channel = new RecordingChannel();
+            CaffeineFnolStatusCache cache = new CaffeineFnolStatusCache(properties(), new SimpleMeterRegistry(), Optional.of(channel));
+            CountingLoader loader = new CountingLoader();
+            cache.get("FNOL-AE-2026-000001", loader::load);
+            cache.get("FNOL-AE-2026-000002", loader::load);
+
+            cache.invalidate("FNOL-AE-2026-000003");
+            channel.onInvalidate.accept("FNOL-AE-2026-000001");
+            cache.get("FNOL-AE-2026-000001", loader::load);
+            cache.get("FNOL-AE-2026-000002", loader::load);
+
+            assertThat(channel.published).containsExactly("FNOL-AE-2026-000003");
+            assertThat(loader.loads).hasValue(3);
+
+            channel.onReconnect.run();
+            cache.get("FNOL-AE-2026-000002", loader::load);
+
+            assertThat(loader.loads).hasValue(4);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedKeyBloomFilterTest {
+
+    private static final int KEYS = 100_000;
+
+    private static String sha256(String value) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Should never report an added key as absent")
+    void shouldHaveNoFalseNegatives() throws Exception {
+        HashedKeyBloomFilter filter = new HashedKeyBloomFilter(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            filter.add(sha256("key-" + i));
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain(sha256("key-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near the configured target")
+    void shouldKeepFalsePositiveRateNearTarget() throws Exception {
+        HashedKeyBloomFilter filter = new HashedKeyBloomFilter(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            filter.add(sha256("key-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (filter.mightContain(sha256("other-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / KEYS).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a synthetic blacklist file in the format {@link BlacklistSnapshot} reads:
+ * half UAE national IDs, a third UAE mobile numbers and the rest Dubai plates, from a
+ * fixed seed so runs are comparable.
+ * <p>
+ * Run with: {@code java ... BlacklistFileGenerator blacklist.csv 10000000}
+ */
+public final class BlacklistFileGenerator {
+
+    public static final int DEFAULT_ENTRIES = 10_000_000;
+
+    private static final String[] PLATE_CODES = {"A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M"};
+
+    private BlacklistFileGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "blacklist.csv");
+        int entries = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ENTRIES;
+        generate(file, entries, 42);
+        System.out.printf("Wrote %,d entries to %s (%,d bytes)%n", entries, file, Files.size(file));
+    }
+
+    /**
+     * Write {@code entries} lines to {@code file}, replacing it.
+     */
+    public static void generate(Path file, int entries, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Synthetic blacklist: TYPE,VALUE[,PLATE_COUNTRY]");
+            writer.newLine();
+            for (int i = 0; i < entries; i++) {
+                writer.write(line(i, random));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * The {@code i}-th entry; national IDs and mobile numbers are derived from
+     * {@code i}, so a benchmark can rebuild listed values without reading the file.
+     */
+    static String line(int i, SplittableRandom random) {
+        return switch (i % 6) {
+            case 0, 1, 2 -> "NATIONAL_ID," + nationalId(i);
+            case 3, 4 -> "MOBILE," + mobileNumber(i);
+            default -> "PLATE," + PLATE_CODES[random.nextInt(PLATE_CODES.length)] + " "
+                    + (10000 + random.nextInt(90000)) + ",AE";
+        };
+    }
+
+    static String nationalId(int i) {
+        return String.format("784-19%02d-%07d-%d", 50 + i % 50, i / 6 % 10_000_000, i % 10);
+    }
+
+    static String mobileNumber(int i) {
+        return String.format("+9715%08d", i);
+    }
+}
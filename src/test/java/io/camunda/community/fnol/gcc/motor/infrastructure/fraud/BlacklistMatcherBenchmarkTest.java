@@ -0,0 +1,140 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.FraudProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load time, memory and lookup latency of the blacklist at ten million entries, read
+ * from a file written by {@link BlacklistFileGenerator}. The JMH run times a full
+ * claim match (national ID, mobile number and plate) against the loaded snapshot.
+ * <p>
+ * Run with: {@code mvn test -Dtest=BlacklistMatcherBenchmarkTest -Dfnol.benchmark=true}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BlacklistMatcherBenchmarkTest {
+
+    private static final int ENTRIES = BlacklistFileGenerator.DEFAULT_ENTRIES;
+    private static final int PROBES = 1 << 16;
+
+    private Path file;
+    private BlacklistMatcher matcher;
+    private String[] nationalIds;
+    private String[] mobileNumbers;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("blacklist", ".csv");
+        BlacklistFileGenerator.generate(file, ENTRIES, 42);
+        matcher = matcher(file);
+        matcher.reloadIfChanged();
+
+        // Half of the probes are listed, half are not
+        nationalIds = new String[PROBES];
+        mobileNumbers = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            int entry = i % 2 == 0 ? 6 * i : ENTRIES + 6 * i;
+            nationalIds[i] = BlacklistFileGenerator.nationalId(entry);
+            mobileNumbers[i] = BlacklistFileGenerator.mobileNumber(entry + 3);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static BlacklistMatcher matcher(Path file) {
+        FraudProperties fraud = new FraudProperties(0, 0, 0, 0, 0, file.toString(), 0);
+        return new BlacklistMatcher(
+                new FnolProperties(false, null, null, null, null, null, null, null, null, null, null, fraud),
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public boolean match() {
+        int i = next++ & (PROBES - 1);
+        return matcher.match(nationalIds[i], mobileNumbers[i], "A 12345", "AE").matched();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+    @DisplayName("Measure blacklist match latency at ten million entries")
+    void measureLookupLatency() throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(BlacklistMatcherBenchmarkTest.class.getName() + "\\.")
+                .build()).run();
+
+        double nanos = results.iterator().next().getPrimaryResult().getScore();
+        System.out.printf("%nBlacklist match: %.3f µs%n", nanos / 1000);
+        assertThat(nanos).isLessThan(5000);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+    @DisplayName("Measure blacklist load time and memory at ten million entries")
+    void measureLoad() throws IOException {
+        Path generated = Files.createTempFile("blacklist", ".csv");
+        try {
+            BlacklistFileGenerator.generate(generated, ENTRIES, 42);
+            long before = usedHeap();
+            long start = System.nanoTime();
+            BlacklistSnapshot snapshot = BlacklistSnapshot.load(generated);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long after = usedHeap();
+
+            System.out.printf("%nBlacklist: %,d distinct entries from %,d MB loaded in %,d ms, %,d MB counted, %,d MB on the heap%n",
+                    snapshot.entries(), Files.size(generated) >> 20, millis, snapshot.memoryBytes() >> 20,
+                    (after - before) >> 20);
+            assertThat(snapshot.rejectedLines()).isZero();
+            assertThat(snapshot.memoryBytes()).isLessThan(100L << 20);
+        } finally {
+            Files.deleteIfExists(generated);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.FraudProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.BlacklistMatcher.BlacklistMatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlacklistMatcherTest {
+
+    private static final String NATIONAL_ID = "784-1990-1234567-1";
+    private static final String MOBILE = "+971501234567";
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BlacklistMatcher matcher(String file) {
+        FraudProperties fraud = new FraudProperties(0, 0, 0, 0, 0, file, 0);
+        return new BlacklistMatcher(
+                new FnolProperties(false, null, null, null, null, null, null, null, null, null, null, fraud),
+                meterRegistry);
+    }
+
+    private Path write(String... lines) throws IOException {
+        return Files.write(directory.resolve("blacklist.csv"), String.join("\n", lines).getBytes());
+    }
+
+    private BlacklistMatcher loaded(String... lines) throws IOException {
+        BlacklistMatcher matcher = matcher(write(lines).toString());
+        matcher.reloadIfChanged();
+        return matcher;
+    }
+
+    @Nested
+    @DisplayName("Match Tests")
+    class MatchTests {
+
+        @Test
+        @DisplayName("Should match national ID, mobile number and plate in any written form")
+        void shouldMatchNormalisedValues() throws IOException {
+            BlacklistMatcher matcher = loaded(
+                    "# regional fraud database export",
+                    "NATIONAL_ID,784-1990-1234567-1",
+                    "MOBILE,+971501234567",
+                    "PLATE,A 12345,AE");
+
+            BlacklistMatch match = matcher.match("784199012345671", "00971501234567", "a12345", "AE");
+
+            assertThat(match.matched()).isTrue();
+            assertThat(match.matchedOn()).containsExactly("NATIONAL_ID", "MOBILE", "PLATE");
+        }
+
+        @Test
+        @DisplayName("Should not match values that are not listed")
+        void shouldNotMatchUnlistedValues() throws IOException {
+            BlacklistMatcher matcher = loaded(
+                    "NATIONAL_ID,784-1990-7654321-1",
+                    "PLATE,A 12345,SA");
+
+            BlacklistMatch match = matcher.match(NATIONAL_ID, MOBILE, "A 12345", "AE");
+
+            assertThat(match.matched()).isFalse();
+            assertThat(match.matchedOn()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should skip lines it cannot read and keep the rest")
+        void shouldCountRejectedLines() throws IOException {
+            BlacklistMatcher matcher = loaded(
+                    "NATIONAL_ID",
+                    "PASSPORT,N1234567",
+                    "MOBILE,not a number",
+                    "",
+                    "NATIONAL_ID," + NATIONAL_ID);
+
+            assertThat(matcher.match(NATIONAL_ID, null, null, null).matchedOn()).containsExactly("NATIONAL_ID");
+            assertThat(meterRegistry.get("fnol.fraud.blacklist.entries").tag("type", "national_id").gauge().value())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should match nothing when no file is configured")
+        void shouldBeEmptyWithoutFile() throws IOException {
+            BlacklistMatcher matcher = matcher(null);
+
+            assertThat(matcher.reloadIfChanged()).isFalse();
+            assertThat(matcher.match(NATIONAL_ID, MOBILE, "A 12345", "AE").matched()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reload Tests")
+    class ReloadTests {
+
+        @Test
+        @DisplayName("Should swap in a changed file and skip an unchanged one")
+        void shouldReloadOnlyWhenChanged() throws IOException {
+            BlacklistMatcher matcher = loaded("NATIONAL_ID," + NATIONAL_ID);
+            assertThat(matcher.reloadIfChanged()).isFalse();
+
+            Path file = write("MOBILE," + MOBILE);
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+
+            assertThat(matcher.reloadIfChanged()).isTrue();
+            assertThat(matcher.match(NATIONAL_ID, MOBILE, null, null).matchedOn()).containsExactly("MOBILE");
+        }
+
+        @Test
+        @DisplayName("Should keep the loaded blacklist when the file disappears")
+        void shouldKeepSnapshotOnReadFailure() throws IOException {
+            BlacklistMatcher matcher = loaded("NATIONAL_ID," + NATIONAL_ID);
+            Files.delete(directory.resolve("blacklist.csv"));
+
+            assertThatThrownBy(matcher::reloadIfChanged).isInstanceOf(IOException.class);
+            assertThat(matcher.match(NATIONAL_ID, null, null, null).matched()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should refuse checks until the configured file is loaded")
+        void shouldNotAnswerBeforeLoad() throws IOException {
+            BlacklistMatcher matcher = matcher(write("NATIONAL_ID," + NATIONAL_ID).toString());
+
+            assertThat(matcher.ready()).isFalse();
+            assertThatThrownBy(() -> matcher.match(NATIONAL_ID, MOBILE, null, null))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
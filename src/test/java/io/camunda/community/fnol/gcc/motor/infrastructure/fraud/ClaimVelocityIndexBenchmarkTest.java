@@ -0,0 +1,125 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lookup latency and memory per identity of the claim velocity index at one million
+ * national IDs, each with one to three claims in the last 90 days. The JMH run times
+ * a velocity lookup (key encoding included); the memory test compares the table's own
+ * accounting with the heap it actually took.
+ * <p>
+ * Run with: {@code mvn test -Dtest=ClaimVelocityIndexBenchmarkTest -Dfnol.benchmark=true}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimVelocityIndexBenchmarkTest {
+
+    private static final int IDENTITIES = 1_000_000;
+
+    private DayCounterTable table;
+    private String[] nationalIds;
+    private int today;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        today = (int) LocalDate.now().toEpochDay();
+        nationalIds = nationalIds();
+        table = fill(nationalIds, today);
+    }
+
+    private static String[] nationalIds() {
+        String[] nationalIds = new String[IDENTITIES];
+        for (int i = 0; i < IDENTITIES; i++) {
+            nationalIds[i] = String.format("784-19%02d-%07d-%d", 60 + i % 40, i, i % 10);
+        }
+        return nationalIds;
+    }
+
+    private static DayCounterTable fill(String[] nationalIds, int today) {
+        SplittableRandom random = new SplittableRandom(42);
+        DayCounterTable table = new DayCounterTable(1 << 16);
+        for (int i = 0; i < nationalIds.length; i++) {
+            long key = ClaimVelocityIndex.nationalIdKey(nationalIds[i]);
+            for (int claims = 1 + random.nextInt(3); claims > 0; claims--) {
+                table.add(key, today - random.nextInt(DayCounterTable.WINDOW_DAYS), today);
+            }
+        }
+        return table;
+    }
+
+    @Benchmark
+    public long lookup() {
+        String nationalId = nationalIds[next++ % IDENTITIES];
+        return table.counts(ClaimVelocityIndex.nationalIdKey(nationalId), today);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+    @DisplayName("Measure velocity lookup latency at one million identities")
+    void measureLookupLatency() throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(ClaimVelocityIndexBenchmarkTest.class.getName() + "\\.")
+                .build()).run();
+
+        double nanos = results.iterator().next().getPrimaryResult().getScore();
+        System.out.printf("%nVelocity lookup: %.3f µs%n", nanos / 1000);
+        assertThat(nanos).isLessThan(1000);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+    @DisplayName("Measure memory per identity at one million identities")
+    void measureMemoryPerKey() {
+        int day = (int) LocalDate.now().toEpochDay();
+        String[] ids = nationalIds();
+        long before = usedHeap();
+        DayCounterTable filled = fill(ids, day);
+        long after = usedHeap();
+
+        System.out.printf("%nVelocity index: %,d keys, %.1f bytes per key counted, %.1f bytes per key on the heap%n",
+                filled.size(), (double) filled.memoryBytes() / filled.size(), (double) (after - before) / filled.size());
+        assertThat(filled.size()).isEqualTo(IDENTITIES);
+        assertThat((double) filled.memoryBytes() / filled.size()).isLessThan(64);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.ClaimVelocityIndex.Velocity;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseJpaRepository;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseSubmissionView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClaimVelocityIndexTest {
+
+    private static final String NATIONAL_ID = "784-1990-1234567-1";
+    private static final String MOBILE = "+971501234567";
+
+    private final FnolCaseJpaRepository repository = mock(FnolCaseJpaRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClaimVelocityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ClaimVelocityIndex(repository, mock(PlatformTransactionManager.class),
+                new FnolProperties(false, null, null, null, null, null, null, null, null, null, null, null),
+                meterRegistry);
+    }
+
+    private static FnolCaseSubmissionView claim(String fnolId, String nationalId, String mobile, int daysAgo) {
+        return new FnolCaseSubmissionView(fnolId, nationalId, mobile, LocalDateTime.now().minusDays(daysAgo));
+    }
+
+    private void rebuildWith(FnolCaseSubmissionView... claims) {
+        when(repository.streamSubmissionsCreatedAfter(any())).thenReturn(Stream.of(claims));
+        index.rebuild();
+    }
+
+    @Nested
+    @DisplayName("Window Tests")
+    class WindowTests {
+
+        @Test
+        @DisplayName("Should count claims in the last 30 and 90 days and ignore older ones")
+        void shouldCountClaimsPerWindow() {
+            rebuildWith(
+                    claim("FNOL-AE-2026-000001", NATIONAL_ID, MOBILE, 2),
+                    claim("FNOL-AE-2026-000002", NATIONAL_ID, MOBILE, 29),
+                    claim("FNOL-AE-2026-000003", NATIONAL_ID, MOBILE, 45),
+                    claim("FNOL-AE-2026-000004", NATIONAL_ID, MOBILE, 120));
+
+            Velocity velocity = index.velocity(null, NATIONAL_ID, MOBILE);
+
+            assertThat(velocity.claimsLast30Days()).isEqualTo(2);
+            assertThat(velocity.claimsLast90Days()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should stop counting a claim once it leaves the window")
+        void shouldAgeOutClaims() {
+            rebuildWith(claim("FNOL-AE-2026-000001", NATIONAL_ID, MOBILE, 10));
+
+            LocalDate today = LocalDate.now();
+            assertThat(index.velocity(null, NATIONAL_ID, MOBILE, today.plusDays(25)).claimsLast30Days()).isZero();
+            assertThat(index.velocity(null, NATIONAL_ID, MOBILE, today.plusDays(25)).claimsLast90Days()).isEqualTo(1);
+            assertThat(index.velocity(null, NATIONAL_ID, MOBILE, today.plusDays(85)).claimsLast90Days()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should count more than four claims of one identity")
+        void shouldCountBeyondPackedLanes() {
+            rebuildWith(
+                    claim("FNOL-AE-2026-000001", NATIONAL_ID, null, 1),
+                    claim("FNOL-AE-2026-000002", NATIONAL_ID, null, 2),
+                    claim("FNOL-AE-2026-000003", NATIONAL_ID, null, 3),
+                    claim("FNOL-AE-2026-000004", NATIONAL_ID, null, 4),
+                    claim("FNOL-AE-2026-000005", NATIONAL_ID, null, 50),
+                    claim("FNOL-AE-2026-000006", NATIONAL_ID, null, 60));
+
+            Velocity velocity = index.velocity(null, NATIONAL_ID, null);
+
+            assertThat(velocity.claimsLast30Days()).isEqualTo(4);
+            assertThat(velocity.claimsLast90Days()).isEqualTo(6);
+        }
+    }
+
+    @Nested
+    @DisplayName("Identity Tests")
+    class IdentityTests {
+
+        @Test
+        @DisplayName("Should match identities regardless of separators and international prefix")
+        void shouldNormaliseIdentities() {
+            rebuildWith(claim("FNOL-AE-2026-000001", "784199012345671", "00971 50 123 4567", 1));
+
+            assertThat(index.velocity(null, NATIONAL_ID, null).claimsLast30Days()).isEqualTo(1);
+            assertThat(index.velocity(null, null, MOBILE).claimsLast30Days()).isEqualTo(1);
+            assertThat(index.velocity(null, "0784199012345671", null).claimsLast30Days()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should report the higher count of national ID and mobile number")
+        void shouldTakeHigherOfBothIdentities() {
+            rebuildWith(
+                    claim("FNOL-AE-2026-000001", NATIONAL_ID, MOBILE, 1),
+                    claim("FNOL-AE-2026-000002", "784-1985-7654321-2", MOBILE, 3),
+                    claim("FNOL-AE-2026-000003", "784-1985-7654321-2", "+971559876543", 5));
+
+            Velocity velocity = index.velocity(null, NATIONAL_ID, MOBILE);
+
+            assertThat(velocity.claimsLast30Days()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should not index identities without digits")
+        void shouldSkipUnusableIdentities() {
+            assertThat(ClaimVelocityIndex.nationalIdKey(null)).isZero();
+            assertThat(ClaimVelocityIndex.nationalIdKey("N/A")).isZero();
+            assertThat(ClaimVelocityIndex.mobileKey("123456789012345678")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should leave out the claim being checked")
+        void shouldExcludeCheckedClaim() {
+            rebuildWith(claim("FNOL-AE-2026-000001", NATIONAL_ID, MOBILE, 5));
+            index.record("FNOL-AE-2026-000002", NATIONAL_ID, MOBILE, LocalDateTime.now());
+
+            Velocity velocity = index.velocity("FNOL-AE-2026-000002", NATIONAL_ID, MOBILE);
+
+            assertThat(velocity.claimsLast30Days()).isEqualTo(1);
+            assertThat(velocity.claimsLast90Days()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count a claim once when it is recorded and synced")
+        void shouldDeduplicateSyncedClaims() {
+            rebuildWith();
+            LocalDateTime now = LocalDateTime.now();
+            index.record("FNOL-AE-2026-000001", NATIONAL_ID, MOBILE, now);
+            when(repository.streamSubmissionsCreatedAfter(any())).thenReturn(Stream.of(
+                    new FnolCaseSubmissionView("FNOL-AE-2026-000001", NATIONAL_ID, MOBILE, now),
+                    new FnolCaseSubmissionView("FNOL-SA-2026-000001", NATIONAL_ID, "+966501234567", now)));
+
+            index.syncRecent();
+
+            assertThat(index.velocity(null, NATIONAL_ID, MOBILE).claimsLast30Days()).isEqualTo(2);
+            assertThat(index.velocity(null, null, MOBILE).claimsLast30Days()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should refuse lookups until the first rebuild")
+        void shouldNotAnswerBeforeRebuild() {
+            assertThat(index.ready()).isFalse();
+            assertThatThrownBy(() -> index.velocity(null, NATIONAL_ID, MOBILE))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should retry a failed startup rebuild on the next sync")
+        void shouldRetryFailedRebuildOnSync() {
+            when(repository.streamSubmissionsCreatedAfter(any()))
+                    .thenThrow(new IllegalStateException("Database unavailable"))
+                    .thenReturn(Stream.of(claim("FNOL-AE-2026-000001", NATIONAL_ID, MOBILE, 5)));
+            assertThatThrownBy(() -> index.rebuild()).isInstanceOf(IllegalStateException.class);
+
+            index.syncRecent();
+
+            assertThat(index.ready()).isTrue();
+            assertThat(index.velocity(null, NATIONAL_ID, MOBILE).claimsLast30Days()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should report keys and bytes per key")
+        void shouldReportMemoryPerKey() {
+            rebuildWith(
+                    claim("FNOL-AE-2026-000001", NATIONAL_ID, MOBILE, 1),
+                    claim("FNOL-AE-2026-000002", "784-1985-7654321-2", "+971559876543", 1));
+
+            assertThat(meterRegistry.get("fnol.fraud.velocity.keys").gauge().value()).isEqualTo(4);
+            assertThat(meterRegistry.get("fnol.fraud.velocity.bytes_per_key").gauge().value()).isPositive();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.fraud;
+
+import io.camunda.community.fnol.gcc.motor.application.service.LanguageNormalizationService;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.fraud.DuplicateClaimIndex.DuplicateMatch;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseIncidentView;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.repository.FnolCaseJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DuplicateClaimIndexTest {
+
+    private static final LocalDate INCIDENT_DATE = LocalDate.now().minusDays(2);
+    private static final String LOCATION = "Sheikh Zayed Road near Mall of the Emirates, Dubai";
+    private static final String DESCRIPTION =
+            "Rear-ended at the traffic signal by a white pickup truck, rear bumper and boot lid damaged";
+
+    private final FnolCaseJpaRepository repository = mock(FnolCaseJpaRepository.class);
+    private DuplicateClaimIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateClaimIndex(repository, mock(PlatformTransactionManager.class),
+                new LanguageNormalizationService(),
+                new FnolProperties(false, null, null, null, null, null, null, null, null, null, null, null),
+                new SimpleMeterRegistry());
+    }
+
+    private static FnolCaseIncidentView claim(String fnolId, String plate, LocalDate incidentDate,
+                                              String location, String description) {
+        return new FnolCaseIncidentView(fnolId, plate, "AE", incidentDate, location, description,
+                LocalDateTime.now().minusDays(1));
+    }
+
+    private void rebuildWith(FnolCaseIncidentView... claims) {
+        when(repository.streamIncidentsCreatedAfter(any())).thenReturn(Stream.of(claims));
+        index.rebuild();
+    }
+
+    private DuplicateMatch check(String plate, LocalDate incidentDate, String location, String description) {
+        return index.match("FNOL-AE-2026-000100", plate, "AE", incidentDate, location, description, 0.85);
+    }
+
+    @Nested
+    @DisplayName("Blocking Tests")
+    class BlockingTests {
+
+        @Test
+        @DisplayName("Should match the same plate and text with a nearby incident date")
+        void shouldMatchNearDuplicate() {
+            rebuildWith(claim("FNOL-AE-2026-000001", "A 12345", INCIDENT_DATE.minusDays(1), LOCATION, DESCRIPTION));
+
+            DuplicateMatch match = check("a12345", INCIDENT_DATE, LOCATION, DESCRIPTION + ".");
+
+            assertThat(match.matchedFnolIds()).containsExactly("FNOL-AE-2026-000001");
+            assertThat(match.similarityScore()).isGreaterThanOrEqualTo(0.85);
+            assertThat(match.exact()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should flag the same plate, date and text as exact")
+        void shouldFlagExactDuplicate() {
+            rebuildWith(claim("FNOL-AE-2026-000001", "A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION));
+
+            DuplicateMatch match = check("A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION);
+
+            assertThat(match.exact()).isTrue();
+            assertThat(match.similarityScore()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should not compare other plates or incident dates outside the window")
+        void shouldOnlyCompareBlockCandidates() {
+            rebuildWith(
+                    claim("FNOL-AE-2026-000001", "B 12345", INCIDENT_DATE, LOCATION, DESCRIPTION),
+                    claim("FNOL-AE-2026-000002", "A 12345", INCIDENT_DATE.minusDays(4), LOCATION, DESCRIPTION),
+                    claim("FNOL-AE-2026-000003", "A 12345", INCIDENT_DATE.plusDays(3), LOCATION, DESCRIPTION));
+
+            DuplicateMatch match = check("A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION);
+
+            assertThat(match.candidates()).isEqualTo(1);
+            assertThat(match.matchedFnolIds()).containsExactly("FNOL-AE-2026-000003");
+        }
+
+        @Test
+        @DisplayName("Should count a different accident of the same vehicle as a candidate, not a match")
+        void shouldNotMatchDissimilarText() {
+            rebuildWith(claim("FNOL-AE-2026-000001", "A 12345", INCIDENT_DATE,
+                    "Al Wahda Mall car park, Abu Dhabi", "Scratched the front left door on a pillar while parking"));
+
+            DuplicateMatch match = check("A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION);
+
+            assertThat(match.candidates()).isEqualTo(1);
+            assertThat(match.matchedFnolIds()).isEmpty();
+            assertThat(match.similarityScore()).isLessThan(0.5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should never match the claim being checked")
+        void shouldExcludeCheckedClaim() {
+            rebuildWith();
+            index.record("FNOL-AE-2026-000100", "A 12345", "AE", INCIDENT_DATE, LOCATION, DESCRIPTION, LocalDateTime.now());
+
+            assertThat(check("A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION).candidates()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should add a claim once when it is recorded and synced")
+        void shouldDeduplicateSyncedClaims() {
+            rebuildWith();
+            LocalDateTime now = LocalDateTime.now();
+            index.record("FNOL-AE-2026-000001", "A 12345", "AE", INCIDENT_DATE, LOCATION, DESCRIPTION, now);
+            when(repository.streamIncidentsCreatedAfter(any())).thenReturn(Stream.of(
+                    new FnolCaseIncidentView("FNOL-AE-2026-000001", "A 12345", "AE", INCIDENT_DATE, LOCATION, DESCRIPTION, now)));
+
+            index.syncRecent();
+
+            assertThat(check("A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION).matchedFnolIds())
+                    .containsExactly("FNOL-AE-2026-000001");
+        }
+
+        @Test
+        @DisplayName("Should refuse checks until the first rebuild")
+        void shouldNotAnswerBeforeRebuild() {
+            assertThatThrownBy(() -> check("A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should retry a failed startup rebuild on the next sync")
+        void shouldRetryFailedRebuildOnSync() {
+            when(repository.streamIncidentsCreatedAfter(any()))
+                    .thenThrow(new IllegalStateException("Database unavailable"))
+                    .thenReturn(Stream.of(claim("FNOL-AE-2026-000001", "A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION)));
+            assertThatThrownBy(() -> index.rebuild()).isInstanceOf(IllegalStateException.class);
+
+            index.syncRecent();
+
+            assertThat(index.ready()).isTrue();
+            assertThat(check("A 12345", INCIDENT_DATE, LOCATION, DESCRIPTION).matchedFnolIds())
+                    .containsExactly("FNOL-AE-2026-000001");
+        }
+    }
+
+    @Nested
+    @DisplayName("MinHash Tests")
+    class MinHashTests {
+
+        @Test
+        @DisplayName("Should estimate similarity of Arabic text regardless of diacritics and spacing")
+        void shouldCompareNormalisedArabic() {
+            LanguageNormalizationService languageService = new LanguageNormalizationService();
+            int[] a = MinHash.signature(languageService.normalize("اصطدام خلفي عند الإشارة الضوئية في شارع الشيخ زايد"));
+            int[] b = MinHash.signature(languageService.normalize("اصطدامٌ خلفي  عند الاشارة الضوئية في شارع الشيخ زايد"));
+
+            assertThat(MinHash.shareBand(a, b)).isTrue();
+            assertThat(MinHash.similarity(a, b)).isGreaterThan(0.85);
+        }
+
+        @Test
+        @DisplayName("Should have no signature for text without letters or digits")
+        void shouldSkipEmptyText() {
+            assertThat(MinHash.signature(null, " - ")).isNull();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.AttachmentEntity;
+import io.camunda.community.fnol.gcc.motor.infrastructure.persistence.entity.FnolCaseEntity;
+import io.camunda.community.fnol.gcc.motor.support.PostgresContainerSupport;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cases/sec inserted with 0, 5 and 10 attachments, one case per transaction like
+ * {@code MotorFnolService.submit}.
+ * <p>
+ * "unbatched" sets the session JDBC batch size to 1, which is what inserts cost while
+ * the entities used IDENTITY ids (every row needs its generated key back). "batched"
+ * uses the configured {@code hibernate.jdbc.batch_size} with pooled sequence ids and
+ * {@code reWriteBatchedInserts}.
+ * <p>
+ * Run with: {@code mvn test -Dtest=FnolCaseInsertBenchmarkTest -Dfnol.benchmark=true}
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+class FnolCaseInsertBenchmarkTest extends PostgresContainerSupport {
+
+    private static final long WARMUP_MILLIS = 2_000;
+    private static final long MEASURE_MILLIS = 5_000;
+    private static final int[] ATTACHMENT_COUNTS = {0, 5, 10};
+
+    private final AtomicLong caseNumber = new AtomicLong();
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Compare cases/sec with and without JDBC insert batching")
+    void compareInsertBatching() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Map<String, Double> results = new LinkedHashMap<>();
+
+        for (int attachments : ATTACHMENT_COUNTS) {
+            for (boolean batched : new boolean[]{false, true}) {
+                Runnable insert = () -> transaction.executeWithoutResult(status -> {
+                    if (!batched) {
+                        entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+                    }
+                    entityManager.persist(newCase(attachments));
+                });
+
+                runFor(insert, WARMUP_MILLIS);
+                String name = attachments + " attachments, " + (batched ? "batched" : "unbatched");
+                results.put(name, runFor(insert, MEASURE_MILLIS) * 1000.0 / MEASURE_MILLIS);
+            }
+        }
+
+        System.out.printf("%n%-30s %12s%n", "Insert path", "cases/sec");
+        results.forEach((name, rate) -> System.out.printf("%-30s %12.0f%n", name, rate));
+
+        assertThat(results.values()).allMatch(rate -> rate > 0);
+    }
+
+    private long runFor(Runnable insert, long millis) {
+        long count = 0;
+        long deadline = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < deadline) {
+            insert.run();
+            count++;
+        }
+        return count;
+    }
+
+    private FnolCaseEntity newCase(int attachments) {
+        FnolCaseEntity entity = new FnolCaseEntity();
+        entity.setFnolId("BENCH-AE-" + caseNumber.incrementAndGet());
+        entity.setCountry("AE");
+        entity.setMobileNumber("+971501234567");
+        entity.setNationalId("784-1990-1234567-1");
+        entity.setPlateNumber("A12345");
+        entity.setPlateCountry("AE");
+        entity.setVehicleType("PRIVATE");
+        entity.setCoverageType("COMPREHENSIVE");
+        entity.setIncidentDate(LocalDate.now());
+        entity.setDrivable(true);
+        entity.setPreferredLanguage("EN");
+        entity.setStatus("SUBMITTED");
+
+        for (int i = 0; i < attachments; i++) {
+            AttachmentEntity attachment = new AttachmentEntity();
+            attachment.setAttachmentType("IMAGE");
+            attachment.setUrl("https://files.example.com/" + entity.getFnolId() + "/" + i + ".jpg");
+            entity.addAttachment(attachment);
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.application.port.out.FnolStatusCachePort;
+import io.camunda.community.fnol.gcc.motor.domain.enums.AttachmentType;
+import io.camunda.community.fnol.gcc.motor.domain.enums.CoverageType;
+import io.camunda.community.fnol.gcc.motor.domain.enums.GccCountry;
+import io.camunda.community.fnol.gcc.motor.domain.enums.LanguageCode;
+import io.camunda.community.fnol.gcc.motor.domain.enums.VehicleType;
+import io.camunda.community.fnol.gcc.motor.domain.model.Attachment;
+import io.camunda.community.fnol.gcc.motor.domain.model.MotorFnolCase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("demo")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(FnolRepositoryAdapter.class)
+class FnolRepositoryAdapterTest {
+
+    @Autowired
+    private FnolRepositoryAdapter adapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private FnolStatusCachePort statusCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private MotorFnolCase newCase(String fnolId, int attachments) {
+        MotorFnolCase.Builder builder = MotorFnolCase.builder()
+                .fnolId(fnolId)
+                .country(GccCountry.AE)
+                .mobileNumber("+971501234567")
+                .nationalId("784-1990-1234567-1")
+                .plateNumber("A12345")
+                .plateCountry(GccCountry.AE)
+                .vehicleType(VehicleType.PRIVATE)
+                .coverageType(CoverageType.COMPREHENSIVE)
+                .lossDateTime(OffsetDateTime.now().minusDays(1))
+                .drivable(true)
+                .languageCode(LanguageCode.EN)
+                .processStatus("SUBMITTED");
+        for (int i = 0; i < attachments; i++) {
+            builder.addAttachment(Attachment.builder()
+                    .type(AttachmentType.IMAGE)
+                    .url("https://files.example.com/" + fnolId + "/" + i + ".jpg")
+                    .description("Damage photo " + i)
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private void saveAndDetach(MotorFnolCase fnolCase) {
+        adapter.save(fnolCase);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Nested
+    @DisplayName("Attachment Persistence Tests")
+    class AttachmentPersistenceTests {
+
+        @Test
+        @DisplayName("Should store attachments with the case and return them in order")
+        void shouldStoreAndReturnAttachments() {
+            saveAndDetach(newCase("FNOL-AE-2026-000001", 3));
+
+            MotorFnolCase loaded = adapter.findDetailByFnolId("FNOL-AE-2026-000001").orElseThrow();
+
+            assertThat(loaded.getAttachments())
+                    .extracting(Attachment::url)
+                    .containsExactly(
+                            "https://files.example.com/FNOL-AE-2026-000001/0.jpg",
+                            "https://files.example.com/FNOL-AE-2026-000001/1.jpg",
+                            "https://files.example.com/FNOL-AE-2026-000001/2.jpg");
+            assertThat(loaded.getAttachments()).allMatch(Attachment::isImage);
+        }
+    }
+
+    @Nested
+    @DisplayName("Statement Count Tests")
+    class StatementCountTests {
+
+        @Test
+        @DisplayName("Should load case and attachments of a detail read in one statement")
+        void shouldLoadDetailInOneStatement() {
+            saveAndDetach(newCase("FNOL-AE-2026-000002", 10));
+
+            MotorFnolCase loaded = adapter.findDetailByFnolId("FNOL-AE-2026-000002").orElseThrow();
+
+            assertThat(loaded.getAttachments()).hasSize(10);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should load several cases and their attachments in one statement")
+        void shouldLoadDetailsInOneStatement() {
+            saveAndDetach(newCase("FNOL-AE-2026-000004", 2));
+            saveAndDetach(newCase("FNOL-AE-2026-000005", 3));
+            saveAndDetach(newCase("FNOL-AE-2026-000006", 0));
+
+            List<MotorFnolCase> loaded = adapter.findDetailsByFnolIds(
+                    List.of("FNOL-AE-2026-000004", "FNOL-AE-2026-000005", "FNOL-AE-2026-000006", "FNOL-AE-2026-999999"));
+
+            assertThat(loaded)
+                    .extracting(MotorFnolCase::getFnolId)
+                    .containsExactlyInAnyOrder("FNOL-AE-2026-000004", "FNOL-AE-2026-000005", "FNOL-AE-2026-000006");
+            assertThat(loaded)
+                    .extracting(fnolCase -> fnolCase.getAttachments().size())
+                    .containsExactlyInAnyOrder(2, 3, 0);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not load attachments for a plain lookup")
+        void shouldNotLoadAttachmentsForPlainLookup() {
+            saveAndDetach(newCase("FNOL-AE-2026-000003", 5));
+
+            MotorFnolCase loaded = adapter.findByFnolId("FNOL-AE-2026-000003").orElseThrow();
+
+            assertThat(loaded.getAttachments()).isEmpty();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+    }
+}
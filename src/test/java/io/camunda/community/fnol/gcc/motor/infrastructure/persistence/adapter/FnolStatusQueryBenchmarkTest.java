@@ -0,0 +1,121 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.application.port.out.FnolStatusCachePort;
+import io.camunda.community.fnol.gcc.motor.support.PostgresContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Status reads per second through the full entity ({@code findByFnolId}) and through
+ * the projection ({@code findStatusByFnolId}), plus the plan PostgreSQL picks for the
+ * projection query.
+ * <p>
+ * Run with: {@code mvn test -Dtest=FnolStatusQueryBenchmarkTest -Dfnol.benchmark=true}
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(FnolRepositoryAdapter.class)
+@EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+class FnolStatusQueryBenchmarkTest extends PostgresContainerSupport {
+
+    private static final int CASES = 100_000;
+    private static final int WARMUP_READS = 20_000;
+    private static final int MEASURED_READS = 100_000;
+
+    private static final String STATUS_SQL = """
+            SELECT fnol_id, status, severity_level, route, process_instance_key, created_at, updated_at
+            FROM fnol_cases WHERE fnol_id = 'BENCH-STATUS-%d'""";
+
+    @Autowired
+    private FnolRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private FnolStatusCachePort statusCache;
+
+    @BeforeEach
+    void seed() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM fnol_cases WHERE fnol_id LIKE 'BENCH-STATUS-%'", Integer.class);
+        if (existing != null && existing >= CASES) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO fnol_cases (fnol_id, country, mobile_number, national_id, plate_number, plate_country,
+                                        vehicle_type, coverage_type, incident_date, incident_location, description,
+                                        severity_level, route, process_instance_key)
+                SELECT 'BENCH-STATUS-' || n, 'AE', '+971501234567', '784-1990-1234567-1', 'A12345', 'AE',
+                       'PRIVATE', 'COMPREHENSIVE', CURRENT_DATE, 'Sheikh Zayed Road, Dubai', repeat('Rear-ended. ', 80),
+                       'LOW', 'FAST_TRACK', (2251799813685248 + n)::text
+                FROM generate_series(1, ?) AS n""", CASES);
+        // Sets the visibility map, which is what lets the index-only scan skip the heap
+        jdbcTemplate.execute("VACUUM ANALYZE fnol_cases");
+    }
+
+    @Test
+    @DisplayName("Status projection is an index-only scan")
+    void statusQueryUsesIndexOnlyScan() {
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN (ANALYZE, BUFFERS) " + STATUS_SQL.formatted(CASES / 2), String.class);
+
+        System.out.printf("%n%s%n", String.join(System.lineSeparator(), plan));
+
+        assertThat(plan.get(0)).contains("Index Only Scan").contains("uk_fnol_cases_fnol_id");
+    }
+
+    @Test
+    @DisplayName("Compare status reads/sec of entity and projection queries")
+    void compareStatusReads() {
+        Map<String, Function<String, ?>> paths = new LinkedHashMap<>();
+        paths.put("findByFnolId (entity)", adapter::findByFnolId);
+        paths.put("findStatusByFnolId (projection)", adapter::findStatusByFnolId);
+
+        Map<String, Double> results = new LinkedHashMap<>();
+        paths.forEach((name, read) -> {
+            run(read, WARMUP_READS);
+            long nanos = run(read, MEASURED_READS);
+            results.put(name, MEASURED_READS * 1_000_000_000.0 / nanos);
+        });
+
+        System.out.printf("%n%-34s %12s%n", "Status read path", "reads/sec");
+        results.forEach((name, rate) -> System.out.printf("%-34s %12.0f%n", name, rate));
+
+        assertThat(results.values()).allMatch(rate -> rate > 0);
+    }
+
+    private long run(Function<String, ?> read, int reads) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long start = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            read.apply("BENCH-STATUS-" + random.nextInt(1, CASES + 1));
+        }
+        return System.nanoTime() - start;
+    }
+}
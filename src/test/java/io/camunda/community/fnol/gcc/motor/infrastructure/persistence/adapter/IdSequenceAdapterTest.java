@@ -0,0 +1,160 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdSequenceAdapterTest {
+
+    private static FnolProperties properties(int blockSize) {
+        return new FnolProperties(false, null, null, null,
+                new FnolProperties.IdGenerationProperties("FNOL", 6, blockSize, "Asia/Dubai", "table", 20), null, null, null, null, null, null, null);
+    }
+
+    /**
+     * In-memory stand-in for the table-backed allocator.
+     */
+    static class InMemoryAllocator extends SequenceRangeAllocator {
+        final AtomicLong next = new AtomicLong(1);
+        final AtomicInteger independentAllocations = new AtomicInteger();
+        final AtomicInteger joinedAllocations = new AtomicInteger();
+
+        InMemoryAllocator() {
+            super(null);
+        }
+
+        @Override
+        public long allocate(String sequenceName, int size) {
+            independentAllocations.incrementAndGet();
+            return next.getAndAdd(size);
+        }
+
+        @Override
+        public long allocateInCurrentTransaction(String sequenceName, int size) {
+            joinedAllocations.incrementAndGet();
+            return next.getAndAdd(size);
+        }
+    }
+
+    @Nested
+    @DisplayName("Block Allocation Tests")
+    class BlockAllocationTests {
+
+        @Test
+        @DisplayName("Should hand out consecutive values from one reserved range")
+        void shouldHandOutConsecutiveValues() {
+            InMemoryAllocator allocator = new InMemoryAllocator();
+            IdSequenceAdapter adapter = new IdSequenceAdapter(allocator, properties(10), new SimpleMeterRegistry());
+
+            List<Long> values = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                values.add(adapter.nextValue());
+            }
+
+            assertThat(values).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            assertThat(allocator.independentAllocations).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Should refill when range is exhausted and count refills")
+        void shouldRefillWhenExhausted() {
+            InMemoryAllocator allocator = new InMemoryAllocator();
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            IdSequenceAdapter adapter = new IdSequenceAdapter(allocator, properties(5), registry);
+
+            for (int i = 0; i < 12; i++) {
+                adapter.nextValue();
+            }
+
+            assertThat(allocator.independentAllocations).hasValue(3);
+            assertThat(registry.get("fnol.id.sequence.range.refills").counter().count()).isEqualTo(3.0);
+            assertThat(registry.get("fnol.id.sequence.range.remaining").gauge().value()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("Should never hand out the same value twice under contention")
+        void shouldBeUniqueUnderContention() throws Exception {
+            InMemoryAllocator allocator = new InMemoryAllocator();
+            IdSequenceAdapter adapter = new IdSequenceAdapter(allocator, properties(50), new SimpleMeterRegistry());
+            Set<Long> seen = ConcurrentHashMap.newKeySet();
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 5_000; i++) {
+                            seen.add(adapter.nextValue());
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(seen).hasSize(40_000);
+            assertThat(allocator.independentAllocations).hasValue(800);
+        }
+
+        @Test
+        @DisplayName("Should report unused values as gaps on shutdown")
+        void shouldReportGapsOnShutdown() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            IdSequenceAdapter adapter = new IdSequenceAdapter(new InMemoryAllocator(), properties(100), registry);
+
+            adapter.nextValue();
+            adapter.releaseRanges();
+
+            assertThat(registry.get("fnol.id.sequence.gaps").counter().count()).isEqualTo(99.0);
+        }
+
+        @Test
+        @DisplayName("Should let callers draw values before opening their transaction")
+        void shouldNotNeedCallerTransaction() {
+            IdSequenceAdapter adapter = new IdSequenceAdapter(new InMemoryAllocator(), properties(100), new SimpleMeterRegistry());
+
+            assertThat(adapter.drawsInCallerTransaction()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Legacy Mode Tests")
+    class LegacyModeTests {
+
+        @Test
+        @DisplayName("Should lock the row in the caller's transaction when block size is 1")
+        void shouldUseCallerTransactionWhenBlockSizeIsOne() {
+            InMemoryAllocator allocator = new InMemoryAllocator();
+            IdSequenceAdapter adapter = new IdSequenceAdapter(allocator, properties(1), new SimpleMeterRegistry());
+
+            assertThat(adapter.nextValue()).isEqualTo(1L);
+            assertThat(adapter.nextValue()).isEqualTo(2L);
+            assertThat(allocator.joinedAllocations).hasValue(2);
+            assertThat(allocator.independentAllocations).hasValue(0);
+            assertThat(adapter.drawsInCallerTransaction()).isTrue();
+        }
+    }
+}
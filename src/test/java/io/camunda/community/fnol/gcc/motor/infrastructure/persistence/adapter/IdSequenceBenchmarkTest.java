@@ -0,0 +1,118 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.application.port.out.IdSequencePort;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.support.PostgresContainerSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDs/sec of the sequence backends against PostgreSQL, with every call made inside
+ * its own transaction like {@code MotorFnolService.submit}.
+ * <p>
+ * Run with: {@code mvn test -Dtest=IdSequenceBenchmarkTest -Dfnol.benchmark=true}
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SequenceRangeAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+class IdSequenceBenchmarkTest extends PostgresContainerSupport {
+
+    private static final int THREADS = 16;
+    private static final long WARMUP_MILLIS = 3_000;
+    private static final long MEASURE_MILLIS = 10_000;
+
+    @Autowired
+    private SequenceRangeAllocator rangeAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static FnolProperties properties(int blockSize) {
+        return new FnolProperties(false, null, null, null,
+                new FnolProperties.IdGenerationProperties("FNOL", 6, blockSize, "Asia/Dubai", "table", 20),
+                null, null, null, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Compare IDs/sec of table (row lock), table (block) and native sequence backends")
+    void compareBackends() throws Exception {
+        Map<String, IdSequencePort> backends = new LinkedHashMap<>();
+        backends.put("table, block-size 1", new IdSequenceAdapter(rangeAllocator, properties(1), new SimpleMeterRegistry()));
+        backends.put("table, block-size 500", new IdSequenceAdapter(rangeAllocator, properties(500), new SimpleMeterRegistry()));
+        backends.put("native, cache 20", new PostgresSequenceAdapter(jdbcTemplate, transactionManager, properties(1)));
+
+        TransactionTemplate submitTransaction = new TransactionTemplate(transactionManager);
+        Map<String, Double> results = new LinkedHashMap<>();
+        int run = 0;
+        for (Map.Entry<String, IdSequencePort> backend : backends.entrySet()) {
+            String sequenceName = "BENCH:AE:" + (2000 + run++);
+            IdSequencePort port = backend.getValue();
+            Runnable nextId = () -> submitTransaction.executeWithoutResult(status -> port.nextValue(sequenceName));
+
+            runFor(nextId, WARMUP_MILLIS);
+            results.put(backend.getKey(), runFor(nextId, MEASURE_MILLIS) * 1000.0 / MEASURE_MILLIS);
+        }
+
+        System.out.printf("%n%-25s %12s%n", "Backend (" + THREADS + " threads)", "IDs/sec");
+        results.forEach((name, rate) -> System.out.printf("%-25s %12.0f%n", name, rate));
+
+        assertThat(results.values()).allMatch(rate -> rate > 0);
+    }
+
+    private long runFor(Runnable nextId, long millis) throws Exception {
+        LongAdder count = new LongAdder();
+        long deadline = System.currentTimeMillis() + millis;
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    while (System.currentTimeMillis() < deadline) {
+                        nextId.run();
+                        count.increment();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return count.sum();
+    }
+}
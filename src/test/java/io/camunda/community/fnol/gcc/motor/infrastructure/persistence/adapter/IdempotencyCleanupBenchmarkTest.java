@@ -0,0 +1,180 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.persistence.adapter;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.support.PostgresContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert and lookup throughput on {@code idempotency_keys} while a day of expired keys
+ * is cleaned up, comparing the old hourly {@code DELETE} on an unpartitioned copy of
+ * the table with dropping the expired daily partition.
+ * <p>
+ * Run with: {@code mvn test -Dtest=IdempotencyCleanupBenchmarkTest -Dfnol.benchmark=true}
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+class IdempotencyCleanupBenchmarkTest extends PostgresContainerSupport {
+
+    private static final int EXPIRED_KEYS = 1_000_000;
+    private static final int THREADS = 8;
+    private static final long MEASURE_MILLIS = 10_000;
+    private static final long CLEANUP_AFTER_MILLIS = 1_000;
+
+    private static final String FLAT_TABLE = "bench_idempotency_keys_flat";
+    private static final String PARTITIONED_TABLE = "idempotency_keys";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Compare throughput during DELETE cleanup and partition drop")
+    void compareCleanupStrategies() throws Exception {
+        createFlatTable();
+        seedExpired(FLAT_TABLE);
+        Result delete = measure(FLAT_TABLE, () ->
+                jdbcTemplate.update("DELETE FROM " + FLAT_TABLE + " WHERE expires_at < now() AT TIME ZONE 'UTC'"));
+
+        createYesterdayPartition();
+        seedExpired(PARTITIONED_TABLE);
+        IdempotencyPartitionManager partitions = new IdempotencyPartitionManager(jdbcTemplate, properties());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Result drop = measure(PARTITIONED_TABLE, () -> transaction.execute(status -> partitions.maintain(Instant.now())));
+
+        System.out.printf("%n%-20s %12s %14s %16s%n", "Cleanup", "ops/sec", "cleanup ms", "max op ms");
+        System.out.printf("%-20s %12.0f %14d %16.1f%n", "DELETE", delete.opsPerSecond(), delete.cleanupMillis(), delete.maxOpMillis());
+        System.out.printf("%-20s %12.0f %14d %16.1f%n", "DROP PARTITION", drop.opsPerSecond(), drop.cleanupMillis(), drop.maxOpMillis());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + FLAT_TABLE
+                + " WHERE expires_at < now() AT TIME ZONE 'UTC'", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + PARTITIONED_TABLE
+                + " WHERE expires_at < now() AT TIME ZONE 'UTC'", Long.class)).isZero();
+    }
+
+    private Result measure(String table, Runnable cleanup) throws Exception {
+        List<String> liveKeys = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String key = newKey();
+            insert(table, key);
+            liveKeys.add(key);
+        }
+
+        AtomicLong operations = new AtomicLong();
+        AtomicLong maxOpNanos = new AtomicLong();
+        long deadline = System.currentTimeMillis() + MEASURE_MILLIS;
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    while (System.currentTimeMillis() < deadline) {
+                        long start = System.nanoTime();
+                        insert(table, newKey());
+                        jdbcTemplate.queryForList("SELECT fnol_id FROM " + table
+                                        + " WHERE hashed_key = ? AND expires_at > now() AT TIME ZONE 'UTC'", String.class,
+                                liveKeys.get(ThreadLocalRandom.current().nextInt(liveKeys.size())));
+                        long elapsed = System.nanoTime() - start;
+                        maxOpNanos.accumulateAndGet(elapsed, Math::max);
+                        operations.addAndGet(2);
+                    }
+                }));
+            }
+
+            Thread.sleep(CLEANUP_AFTER_MILLIS);
+            long cleanupStart = System.nanoTime();
+            executor.submit(cleanup).get();
+            long cleanupMillis = (System.nanoTime() - cleanupStart) / 1_000_000;
+
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            return new Result(operations.get() * 1000.0 / MEASURE_MILLIS, cleanupMillis, maxOpNanos.get() / 1_000_000.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void insert(String table, String hashedKey) {
+        jdbcTemplate.update("INSERT INTO " + table + " (hashed_key, fnol_id, status, created_at, expires_at)"
+                        + " VALUES (?, ?, 'COMPLETED', now() AT TIME ZONE 'UTC', now() AT TIME ZONE 'UTC' + interval '24 hours')",
+                hashedKey, "BENCH-" + hashedKey.substring(0, 8));
+    }
+
+    /**
+     * The table as it was before V8: unique hashed_key and an expires_at index.
+     */
+    private void createFlatTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + FLAT_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + FLAT_TABLE + " (LIKE idempotency_keys INCLUDING DEFAULTS)");
+        jdbcTemplate.execute("ALTER TABLE " + FLAT_TABLE + " ADD PRIMARY KEY (id), ADD UNIQUE (hashed_key)");
+        jdbcTemplate.execute("CREATE INDEX ON " + FLAT_TABLE + " (expires_at)");
+        jdbcTemplate.execute("CREATE INDEX ON " + FLAT_TABLE + " (created_at)");
+    }
+
+    private void createYesterdayPartition() {
+        LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS idempotency_keys_p" + DateTimeFormatter.BASIC_ISO_DATE.format(yesterday)
+                + " PARTITION OF idempotency_keys FOR VALUES FROM ('" + yesterday + "') TO ('" + yesterday.plusDays(1) + "')");
+    }
+
+    /**
+     * A day's worth of keys that expired yesterday (UTC).
+     */
+    private void seedExpired(String table) {
+        jdbcTemplate.update("INSERT INTO " + table + " (hashed_key, fnol_id, status, created_at, expires_at)"
+                + " SELECT md5(g::text || ?) || md5(g::text), 'BENCH-' || g, 'COMPLETED',"
+                + "        (now() AT TIME ZONE 'UTC')::date - 2 + (g % 86400) * interval '1 second',"
+                + "        (now() AT TIME ZONE 'UTC')::date - 1 + (g % 86400) * interval '1 second'"
+                + " FROM generate_series(1, ?) AS g", table, EXPIRED_KEYS);
+        jdbcTemplate.execute("ANALYZE " + table);
+    }
+
+    private static String newKey() {
+        String uuid = UUID.randomUUID().toString().replace("-", "");
+        return uuid + uuid;
+    }
+
+    private static FnolProperties properties() {
+        return new FnolProperties(false, null, null, null, null, null, null, null, null, null,
+                new FnolProperties.IdempotencyProperties(true, 0, 0, 0, 0, 0, 0, 0, 0, 7, false), null);
+    }
+
+    private record Result(double opsPerSecond, long cleanupMillis, double maxOpMillis) {
+    }
+}
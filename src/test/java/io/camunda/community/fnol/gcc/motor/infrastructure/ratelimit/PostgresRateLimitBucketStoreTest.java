@@ -0,0 +1,145 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import io.camunda.community.fnol.gcc.motor.api.filter.ApiGatewayFilter;
+import io.camunda.community.fnol.gcc.motor.api.filter.ClientAddressResolver;
+import io.camunda.community.fnol.gcc.motor.api.filter.RateLimitingStage;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties;
+import io.camunda.community.fnol.gcc.motor.support.PostgresContainerSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two "nodes" (each its own filter and store) serve the same client concurrently.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostgresRateLimitBucketStoreTest extends PostgresContainerSupport {
+
+    private static final int REQUESTS_PER_MINUTE = 20;
+    private static final int REQUESTS = 200;
+    private static final int THREADS_PER_NODE = 4;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void clearBuckets() {
+        new JdbcTemplate(dataSource).update("DELETE FROM rate_limit_buckets");
+    }
+
+    private static FnolProperties properties(String store, int localBatchTokens) {
+        SecurityProperties security = new SecurityProperties(
+                new SecurityProperties.ApiKeyProperties(false, null, null, null, 0, 0, 0),
+                new SecurityProperties.RateLimitProperties(true, REQUESTS_PER_MINUTE, store, localBatchTokens, 1000, 0, 0, null, null),
+                null, null);
+        return new FnolProperties(false, null, security, null, null, null, null, null, null, null, null, null);
+    }
+
+    private ApiGatewayFilter node(FnolProperties properties) {
+        RateLimitBucketStore store = "postgres".equals(properties.security().rateLimit().store())
+                ? new PostgresRateLimitBucketStore(dataSource, properties, new SimpleMeterRegistry())
+                : new LocalRateLimitBucketStore(properties, new SimpleMeterRegistry());
+        return new ApiGatewayFilter(properties, new ClientAddressResolver(properties),
+                new UrlBasedCorsConfigurationSource(),
+                List.of(new RateLimitingStage(properties, store, new RateLimitPolicies(properties),
+                        new SimpleMeterRegistry())));
+    }
+
+    /**
+     * Send {@link #REQUESTS} requests from one client, spread over the nodes.
+     *
+     * @return number of requests let through
+     */
+    private int allowedAcross(ApiGatewayFilter... nodes) throws Exception {
+        AtomicInteger allowed = new AtomicInteger();
+        AtomicInteger sent = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.length * THREADS_PER_NODE);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ApiGatewayFilter node : nodes) {
+                for (int t = 0; t < THREADS_PER_NODE; t++) {
+                    futures.add(executor.submit(() -> {
+                        while (sent.incrementAndGet() <= REQUESTS) {
+                            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/fnol/countries");
+                            request.setRemoteAddr("203.0.113.7");
+                            MockHttpServletResponse response = new MockHttpServletResponse();
+                            node.doFilter(request, response, new MockFilterChain());
+                            if (response.getStatus() != 429) {
+                                allowed.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return allowed.get();
+    }
+
+    @Nested
+    @DisplayName("Global Limit Tests")
+    class GlobalLimitTests {
+
+        @Test
+        @DisplayName("Should multiply the limit by the node count with local buckets")
+        void shouldMultiplyLimitWithLocalBuckets() throws Exception {
+            FnolProperties properties = properties("local", 0);
+
+            assertThat(allowedAcross(node(properties), node(properties))).isEqualTo(2 * REQUESTS_PER_MINUTE);
+        }
+
+        @Test
+        @DisplayName("Should hold the limit across nodes with the shared store")
+        void shouldHoldLimitAcrossNodes() throws Exception {
+            FnolProperties properties = properties("postgres", 0);
+
+            assertThat(allowedAcross(node(properties), node(properties))).isEqualTo(REQUESTS_PER_MINUTE);
+        }
+
+        @Test
+        @DisplayName("Should overshoot by at most the batch size per node with local-first batching")
+        void shouldBoundOvershootWithLocalBatching() throws Exception {
+            int batchTokens = 5;
+            FnolProperties properties = properties("postgres", batchTokens);
+
+            assertThat(allowedAcross(node(properties), node(properties)))
+                    .isBetween(REQUESTS_PER_MINUTE - 2 * batchTokens, REQUESTS_PER_MINUTE + 2 * batchTokens);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import io.camunda.community.fnol.gcc.motor.api.filter.ApiGatewayFilter;
+import io.camunda.community.fnol.gcc.motor.api.filter.ClientAddressResolver;
+import io.camunda.community.fnol.gcc.motor.api.filter.RateLimitingStage;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends 10M requests from distinct client addresses through the rate limiting filter
+ * and checks that the bucket count stays at the cap and the heap stops growing once
+ * the cache is full.
+ * <p>
+ * Run with: {@code mvn test -Dtest=RateLimitBucketSoakTest -Dfnol.benchmark=true}
+ */
+@EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+class RateLimitBucketSoakTest {
+
+    private static final int CLIENTS = 10_000_000;
+    private static final int WARMUP_CLIENTS = 1_000_000;
+    private static final int MAX_BUCKETS = 100_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Test
+    @DisplayName("Should keep bucket count and heap stable under 10M distinct clients")
+    void shouldStayBoundedUnderDistinctClients() throws Exception {
+        SecurityProperties security = new SecurityProperties(
+                new SecurityProperties.ApiKeyProperties(false, null, null, null, 0, 0, 0),
+                new SecurityProperties.RateLimitProperties(true, 30, "local", 0, 0, MAX_BUCKETS, 0, null, null),
+                null, null);
+        FnolProperties properties = new FnolProperties(false, null, security, null, null, null, null, null, null, null, null, null);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LocalRateLimitBucketStore store = new LocalRateLimitBucketStore(properties, registry);
+        ApiGatewayFilter filter = new ApiGatewayFilter(properties, new ClientAddressResolver(properties),
+                new UrlBasedCorsConfigurationSource(),
+                List.of(new RateLimitingStage(properties, store, new RateLimitPolicies(properties), registry)));
+
+        long heapAfterWarmup = 0;
+        for (int i = 0; i < CLIENTS; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/fnol/countries");
+            request.setRemoteAddr("198." + (i >>> 16 & 0xFF) + "." + (i >>> 8 & 0xFF) + "." + (i & 0xFF));
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            if (i + 1 == WARMUP_CLIENTS) {
+                heapAfterWarmup = usedHeap();
+            }
+        }
+        long heapAtEnd = usedHeap();
+
+        double evictions = registry.get("cache.evictions").tag("cache", BucketCache.CACHE_NAME)
+                .functionCounter().count();
+        System.out.printf("%nBuckets: %d, evictions: %.0f, heap after %,d clients: %,d KB, after %,d: %,d KB%n",
+                store.size(), evictions, WARMUP_CLIENTS, heapAfterWarmup / 1024, CLIENTS, heapAtEnd / 1024);
+
+        assertThat(store.size()).isLessThanOrEqualTo(MAX_BUCKETS);
+        assertThat(evictions).isGreaterThanOrEqualTo(CLIENTS - MAX_BUCKETS);
+        assertThat(heapAtEnd - heapAfterWarmup).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
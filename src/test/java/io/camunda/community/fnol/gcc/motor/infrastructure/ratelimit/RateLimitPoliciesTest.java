@@ -0,0 +1,118 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.ratelimit;
+
+import io.camunda.community.fnol.gcc.motor.domain.enums.GccCountry;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.FnolProperties.SecurityProperties.RateLimitProperties.PolicyProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitPoliciesTest {
+
+    private static RateLimitPolicies policies(List<PolicyProperties> policies, String policyFile) {
+        SecurityProperties security = new SecurityProperties(null,
+                new SecurityProperties.RateLimitProperties(true, 30, null, 0, 0, 0, 0, policies, policyFile),
+                null, null);
+        return new RateLimitPolicies(new FnolProperties(false, null, security, null, null, null, null, null, null, null, null, null));
+    }
+
+    private static PolicyProperties policy(String client, String routes, String country, int requestsPerMinute) {
+        return new PolicyProperties(client, routes, country, requestsPerMinute, 0);
+    }
+
+    @Nested
+    @DisplayName("Resolution Tests")
+    class ResolutionTests {
+
+        private final RateLimitPolicies policies = policies(List.of(
+                policy(null, "read", null, 120),
+                policy("*", "submit", "SA", 20),
+                policy("fleet-partner", null, null, 300),
+                policy("fleet-partner", "submit", null, 100),
+                policy("fleet-partner", "submit", "AE", 50)), null);
+
+        @Test
+        @DisplayName("Should fall back to requests-per-minute when no policy matches")
+        void shouldFallBackToDefault() {
+            RateLimitPolicy policy = policies.resolve(null, RouteGroup.METADATA, null);
+
+            assertThat(policy.requestsPerMinute()).isEqualTo(30);
+            assertThat(policy.burst()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("Should prefer client over route group over country")
+        void shouldPreferMostSpecificPolicy() {
+            assertThat(policies.resolve("fleet-partner", RouteGroup.SUBMIT, GccCountry.AE).requestsPerMinute()).isEqualTo(50);
+            assertThat(policies.resolve("fleet-partner", RouteGroup.SUBMIT, GccCountry.SA).requestsPerMinute()).isEqualTo(100);
+            assertThat(policies.resolve("fleet-partner", RouteGroup.READ, null).requestsPerMinute()).isEqualTo(300);
+            assertThat(policies.resolve("other", RouteGroup.SUBMIT, GccCountry.SA).requestsPerMinute()).isEqualTo(20);
+            assertThat(policies.resolve(null, RouteGroup.READ, GccCountry.QA).requestsPerMinute()).isEqualTo(120);
+        }
+
+        @Test
+        @DisplayName("Should reject unknown route groups and countries")
+        void shouldRejectUnknownValues() {
+            assertThatThrownBy(() -> policies(List.of(policy(null, "status", null, 10)), null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> policies(List.of(policy(null, null, "US", 10)), null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Policy File Tests")
+    class PolicyFileTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should pick up a changed policy file and keep the last good one on errors")
+        void shouldReloadChangedFile() throws Exception {
+            Path file = directory.resolve("rate-limits.yml");
+            Files.writeString(file, """
+                    policies:
+                      - routes: submit
+                        requests-per-minute: 10
+                    """);
+            RateLimitPolicies policies = policies(List.of(), file.toString());
+            assertThat(policies.resolve(null, RouteGroup.SUBMIT, null).requestsPerMinute()).isEqualTo(10);
+
+            Files.writeString(file, """
+                    policies:
+                      - routes: submit
+                        requests-per-minute: 15
+                        burst: 5
+                    """);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 1_000));
+            policies.reloadPolicyFile();
+            assertThat(policies.resolve(null, RouteGroup.SUBMIT, null).burst()).isEqualTo(5);
+
+            Files.writeString(file, """
+                    policies:
+                      - routes: everything
+                        requests-per-minute: 1
+                    """);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 2_000));
+            policies.reloadPolicyFile();
+            assertThat(policies.resolve(null, RouteGroup.SUBMIT, null).requestsPerMinute()).isEqualTo(15);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties.WorkerProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Jobs/sec of the job worker executor with platform and with virtual threads, when
+ * three partner integrations take 500 ms to answer and a fourth job type does no I/O.
+ * Jobs are handed to the executor as a Zeebe worker does, at most
+ * {@code maxJobsActive} of a type outstanding. Also reports how long the fast type
+ * took, which on platform threads waits behind the slow ones.
+ * <p>
+ * Run with: {@code mvn test -Dtest=JobWorkerExecutorLoadTest -Dfnol.benchmark=true}
+ */
+@EnabledIfSystemProperty(named = "fnol.benchmark", matches = "true")
+class JobWorkerExecutorLoadTest {
+
+    private static final long DOWNSTREAM_LATENCY_MS = 500;
+    private static final List<String> SLOW_TYPES = List.of(
+            "arrange-towing", "notify-medical-team", "request-police-report");
+    private static final String FAST_TYPE = "collect-fraud-indicators";
+    private static final int JOBS_PER_TYPE = 160;
+
+    @Test
+    @DisplayName("Compare jobs/sec on platform and virtual threads with 500 ms partner latency")
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Result platform = run(new WorkerProperties(false, 0, 0, false, 0, 0, 0, null));
+        Result virtual = run(new WorkerProperties(true, 0, 0, false, 0, 0, 0, null));
+
+        System.out.printf("%nPlatform threads: %,.0f jobs/s, %s finished after %,.0f ms%n",
+                platform.jobsPerSecond(), FAST_TYPE, platform.fastTypeMillis());
+        System.out.printf("Virtual threads:  %,.0f jobs/s, %s finished after %,.0f ms%n",
+                virtual.jobsPerSecond(), FAST_TYPE, virtual.fastTypeMillis());
+
+        assertThat(virtual.jobsPerSecond()).isGreaterThan(platform.jobsPerSecond() * 4);
+        assertThat(virtual.fastTypeMillis()).isLessThan(platform.fastTypeMillis());
+    }
+
+    private static Result run(WorkerProperties workers) throws InterruptedException {
+        ExecutorService executor = JobWorkerExecutors.create(workers);
+        CountDownLatch done = new CountDownLatch((SLOW_TYPES.size() + 1) * JOBS_PER_TYPE);
+        CountDownLatch fastDone = new CountDownLatch(JOBS_PER_TYPE);
+
+        long start = System.nanoTime();
+        for (String type : SLOW_TYPES) {
+            activate(executor, workers.profile(type).maxJobsActive(), DOWNSTREAM_LATENCY_MS, done, null);
+        }
+        activate(executor, workers.profile(FAST_TYPE).maxJobsActive(), 0, done, fastDone);
+
+        fastDone.await();
+        long fastNanos = System.nanoTime() - start;
+        done.await();
+        long nanos = System.nanoTime() - start;
+        executor.shutdownNow();
+
+        return new Result((SLOW_TYPES.size() + 1) * JOBS_PER_TYPE * 1e9 / nanos, fastNanos / 1e6);
+    }
+
+    /**
+     * Hand one job type's jobs to the executor, never more than {@code maxJobsActive}
+     * outstanding.
+     */
+    private static void activate(ExecutorService executor, int maxJobsActive, long latencyMs,
+                                 CountDownLatch done, CountDownLatch typeDone) {
+        Semaphore active = new Semaphore(maxJobsActive);
+        Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < JOBS_PER_TYPE; i++) {
+                active.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        if (latencyMs > 0) {
+                            Thread.sleep(latencyMs);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        active.release();
+                        done.countDown();
+                        if (typeDone != null) {
+                            typeDone.countDown();
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private record Result(double jobsPerSecond, double fastTypeMillis) {
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * GCC Motor FNOL Starter Kit
+ * Copyright 2025 G. Ganesh Kumar | Solution Architect
+ * Contact: UAE +971-55-816-0396 | WhatsApp +91-95000-03051
+ * Apache License 2.0 - https://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.camunda.community.fnol.gcc.motor.infrastructure.zeebe.worker;
+
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties.WorkerProperties;
+import io.camunda.community.fnol.gcc.motor.infrastructure.config.CamundaProperties.WorkerProperties.JobTypeProperties;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobWorkerMonitorTest {
+
+    private final WorkerProperties workers = new WorkerProperties(true, 0, 32, false, 300000, 0, 0, Map.of(
+            "fraud-velocity-check", new JobTypeProperties(true, 128, 30000, 0, 0),
+            "process-payment", new JobTypeProperties(null, 8, 0, 0, 500)));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobWorkerMonitor monitor = new JobWorkerMonitor(
+            new CamundaProperties(null, null, workers), meterRegistry);
+
+    private static ActivatedJob job(String type, long deadline) {
+        ActivatedJob job = mock(ActivatedJob.class);
+        when(job.getType()).thenReturn(type);
+        when(job.getDeadline()).thenReturn(deadline);
+        return job;
+    }
+
+    @Nested
+    @DisplayName("Profile Tests")
+    class ProfileTests {
+
+        @Test
+        @DisplayName("Should layer job type overrides on the default profile")
+        void shouldOverrideDefaults() {
+            JobTypeProperties velocity = workers.profile("fraud-velocity-check");
+            JobTypeProperties payment = workers.profile("process-payment");
+            JobTypeProperties towing = workers.profile("arrange-towing");
+
+            assertThat(velocity.streamEnabled()).isTrue();
+            assertThat(velocity.maxJobsActive()).isEqualTo(128);
+            assertThat(velocity.timeoutMs()).isEqualTo(30000);
+            assertThat(payment.streamEnabled()).isFalse();
+            assertThat(payment.pollIntervalMs()).isEqualTo(500);
+            assertThat(payment.timeoutMs()).isEqualTo(300000);
+            assertThat(towing.maxJobsActive()).isEqualTo(32);
+            assertThat(towing.requestTimeoutMs()).isEqualTo(20000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics Tests")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should count activated jobs as queued until their handler starts")
+        void shouldTrackQueueDepthPerType() {
+            monitor.activated("fraud-velocity-check", 3);
+            monitor.activated("process-payment", 1);
+            monitor.started(job("fraud-velocity-check", System.currentTimeMillis() + 30000));
+
+            assertThat(queued("fraud-velocity-check")).isEqualTo(2);
+            assertThat(queued("process-payment")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should measure activation latency from the deadline less the type's timeout")
+        void shouldMeasureActivationLatency() {
+            monitor.activated("fraud-velocity-check", 1);
+            // Activated 2s ago with a 30s timeout
+            monitor.started(job("fraud-velocity-check", System.currentTimeMillis() - 2000 + 30000));
+
+            Timer latency = meterRegistry.get("fnol.jobs.activation.latency").tag("type", "fraud-velocity-check").timer();
+            assertThat(latency.count()).isEqualTo(1);
+            assertThat(latency.totalTime(TimeUnit.MILLISECONDS)).isBetween(2000.0, 3000.0);
+        }
+    }
+
+    private double queued(String type) {
+        return meterRegistry.get("fnol.jobs.queued").tag("type", type).gauge().value();
+    }
+}